@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark;
+
+import com.mongodb.codecs.DocumentCodec;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.ByteBufNIO;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicInputBuffer;
+import org.bson.io.BasicOutputBuffer;
+import org.mongodb.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks encoding and decoding of {@code Document} with the {@code DocumentCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DocumentCodecBenchmark {
+    @Param({"FLAT", "DEEP", "WIDE", "ARRAY_HEAVY", "BINARY_HEAVY"})
+    private DocumentShape shape;
+
+    private final DocumentCodec codec = new DocumentCodec();
+    private Document document;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        encoded = shape.createEncoded();
+        document = decode();
+    }
+
+    @Benchmark
+    public int encode() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        BsonBinaryWriter writer = new BsonBinaryWriter(buffer, false);
+        try {
+            codec.encode(writer, document, EncoderContext.builder().build());
+            return buffer.size();
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Benchmark
+    public Document decode() {
+        BsonBinaryReader reader = new BsonBinaryReader(new BasicInputBuffer(new ByteBufNIO(ByteBuffer.wrap(encoded))), true);
+        try {
+            return codec.decode(reader, DecoderContext.builder().build());
+        } finally {
+            reader.close();
+        }
+    }
+}
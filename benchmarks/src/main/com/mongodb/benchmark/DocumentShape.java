@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The document shapes that the benchmarks are run against.  Each shape stresses a different part of the encoding and decoding paths:
+ * many small scalar fields, deep nesting, a very large number of fields, large arrays, and large binary values.
+ */
+public enum DocumentShape {
+    FLAT {
+        @Override
+        public BsonDocument create() {
+            BsonDocument document = new BsonDocument("_id", new BsonObjectId(new ObjectId()));
+            for (int i = 0; i < 4; i++) {
+                document.append("string" + i, new BsonString("The quick brown fox jumps over the lazy dog " + i))
+                        .append("int" + i, new BsonInt32(i))
+                        .append("long" + i, new BsonInt64(Long.MAX_VALUE - i))
+                        .append("double" + i, new BsonDouble(i * 1.5))
+                        .append("boolean" + i, BsonBoolean.valueOf(i % 2 == 0))
+                        .append("date" + i, new BsonDateTime(1400000000000L + i));
+            }
+            return document;
+        }
+    },
+
+    DEEP {
+        @Override
+        public BsonDocument create() {
+            BsonDocument document = new BsonDocument("level", new BsonInt32(DEEP_NESTING_LEVELS));
+            for (int i = DEEP_NESTING_LEVELS - 1; i >= 0; i--) {
+                document = new BsonDocument("level", new BsonInt32(i)).append("name", new BsonString("level " + i))
+                                                                       .append("child", document);
+            }
+            return document;
+        }
+    },
+
+    WIDE {
+        @Override
+        public BsonDocument create() {
+            BsonDocument document = new BsonDocument("_id", new BsonObjectId(new ObjectId()));
+            for (int i = 0; i < WIDE_NUMBER_OF_FIELDS; i++) {
+                document.append("field" + i, i % 2 == 0 ? new BsonInt32(i) : new BsonString("value" + i));
+            }
+            return document;
+        }
+    },
+
+    ARRAY_HEAVY {
+        @Override
+        public BsonDocument create() {
+            List<BsonValue> numbers = new ArrayList<BsonValue>(ARRAY_LENGTH);
+            List<BsonValue> documents = new ArrayList<BsonValue>(ARRAY_LENGTH);
+            for (int i = 0; i < ARRAY_LENGTH; i++) {
+                numbers.add(new BsonInt32(i));
+                documents.add(new BsonDocument("x", new BsonInt32(i)).append("y", new BsonString("y" + i)));
+            }
+            return new BsonDocument("_id", new BsonObjectId(new ObjectId()))
+                   .append("numbers", new BsonArray(numbers))
+                   .append("documents", new BsonArray(documents));
+        }
+    },
+
+    BINARY_HEAVY {
+        @Override
+        public BsonDocument create() {
+            Random random = new Random(42);
+            BsonDocument document = new BsonDocument("_id", new BsonObjectId(new ObjectId()));
+            for (int i = 0; i < 4; i++) {
+                byte[] data = new byte[BINARY_LENGTH];
+                random.nextBytes(data);
+                document.append("binary" + i, new BsonBinary(data));
+            }
+            return document;
+        }
+    };
+
+    private static final int DEEP_NESTING_LEVELS = 50;
+    private static final int WIDE_NUMBER_OF_FIELDS = 1000;
+    private static final int ARRAY_LENGTH = 1000;
+    private static final int BINARY_LENGTH = 64 * 1024;
+
+    /**
+     * Creates a new document of this shape.
+     *
+     * @return the document
+     */
+    public abstract BsonDocument create();
+
+    /**
+     * Creates a new document of this shape, encoded as BSON.
+     *
+     * @return the encoded document
+     */
+    public byte[] createEncoded() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        BsonBinaryWriter writer = new BsonBinaryWriter(buffer, false);
+        try {
+            new BsonDocumentCodec().encode(writer, create(), EncoderContext.builder().build());
+            return buffer.toByteArray();
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark;
+
+import org.bson.BsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.json.JsonReader;
+import org.bson.json.JsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading documents from, and writing documents to, extended JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JsonBenchmark {
+    @Param({"FLAT", "DEEP", "WIDE", "ARRAY_HEAVY"})
+    private DocumentShape shape;
+
+    private final BsonDocumentCodec codec = new BsonDocumentCodec();
+    private BsonDocument document;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        document = shape.create();
+        json = write();
+    }
+
+    @Benchmark
+    public String write() {
+        StringWriter stringWriter = new StringWriter();
+        JsonWriter writer = new JsonWriter(stringWriter);
+        codec.encode(writer, document, EncoderContext.builder().build());
+        return stringWriter.toString();
+    }
+
+    @Benchmark
+    public BsonDocument read() {
+        return codec.decode(new JsonReader(json), DecoderContext.builder().build());
+    }
+}
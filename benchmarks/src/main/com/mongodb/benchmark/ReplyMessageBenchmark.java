@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark;
+
+import com.mongodb.connection.ReplyHeader;
+import com.mongodb.connection.ResponseBuffers;
+import com.mongodb.protocol.message.ReplyMessage;
+import org.bson.BsonDocument;
+import org.bson.ByteBufNIO;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.io.BasicInputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks decoding of the documents in a query reply, both eagerly and lazily as a cursor would iterate them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReplyMessageBenchmark {
+    private static final int REPLY_HEADER_LENGTH = 36;
+    private static final int REQUEST_ID = 1;
+
+    @Param({"1", "101"})
+    private int numberReturned;
+
+    @Param({"FLAT", "WIDE", "ARRAY_HEAVY"})
+    private DocumentShape shape;
+
+    private final BsonDocumentCodec codec = new BsonDocumentCodec();
+    private byte[] header;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        byte[] document = shape.createEncoded();
+        body = new byte[document.length * numberReturned];
+        for (int i = 0; i < numberReturned; i++) {
+            System.arraycopy(document, 0, body, i * document.length, document.length);
+        }
+
+        ByteBuffer headerBuffer = ByteBuffer.allocate(REPLY_HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        headerBuffer.putInt(REPLY_HEADER_LENGTH + body.length);
+        headerBuffer.putInt(2);  // request id
+        headerBuffer.putInt(REQUEST_ID);  // response to
+        headerBuffer.putInt(1);  // opcode
+        headerBuffer.putInt(0);  // response flags
+        headerBuffer.putLong(0);  // cursor id
+        headerBuffer.putInt(0);  // starting from
+        headerBuffer.putInt(numberReturned);
+        header = headerBuffer.array();
+    }
+
+    @Benchmark
+    public void decodeEagerly(final Blackhole blackhole) {
+        decode(false, blackhole);
+    }
+
+    @Benchmark
+    public void decodeLazily(final Blackhole blackhole) {
+        decode(true, blackhole);
+    }
+
+    private void decode(final boolean lazy, final Blackhole blackhole) {
+        ReplyHeader replyHeader = new ReplyHeader(new BasicInputBuffer(new ByteBufNIO(ByteBuffer.wrap(header))));
+        ResponseBuffers responseBuffers = new ResponseBuffers(replyHeader, new ByteBufNIO(ByteBuffer.wrap(body)));
+        try {
+            ReplyMessage<BsonDocument> replyMessage = new ReplyMessage<BsonDocument>(responseBuffers, codec, REQUEST_ID, lazy);
+            for (BsonDocument document : replyMessage.getDocuments()) {
+                blackhole.consume(document);
+            }
+        } finally {
+            responseBuffers.close();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.WriteConcern;
+import com.mongodb.connection.ByteBufferOutputBuffer;
+import com.mongodb.connection.PowerOfTwoBufferPool;
+import com.mongodb.operation.InsertRequest;
+import com.mongodb.operation.RemoveRequest;
+import com.mongodb.operation.UpdateRequest;
+import com.mongodb.protocol.message.BaseWriteCommandMessage;
+import com.mongodb.protocol.message.DeleteCommandMessage;
+import com.mongodb.protocol.message.InsertCommandMessage;
+import com.mongodb.protocol.message.MessageSettings;
+import com.mongodb.protocol.message.UpdateCommandMessage;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.codecs.BsonDocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks encoding of the insert, update and delete write commands into pooled buffers, as done before sending them to the server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class WriteCommandMessageBenchmark {
+    private static final MongoNamespace NAMESPACE = new MongoNamespace("benchmark", "test");
+
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+
+    @Param({"FLAT", "ARRAY_HEAVY"})
+    private DocumentShape shape;
+
+    private final PowerOfTwoBufferPool bufferProvider = new PowerOfTwoBufferPool();
+    private final MessageSettings messageSettings = MessageSettings.builder().build();
+    private List<InsertRequest<BsonDocument>> inserts;
+    private List<UpdateRequest> updates;
+    private List<RemoveRequest> deletes;
+
+    @Setup
+    public void setUp() {
+        inserts = new ArrayList<InsertRequest<BsonDocument>>(batchSize);
+        updates = new ArrayList<UpdateRequest>(batchSize);
+        deletes = new ArrayList<RemoveRequest>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            BsonDocument filter = new BsonDocument("_id", new BsonInt32(i));
+            inserts.add(new InsertRequest<BsonDocument>(shape.create()));
+            updates.add(new UpdateRequest(filter, new BsonDocument("$set", shape.create())));
+            deletes.add(new RemoveRequest(filter));
+        }
+    }
+
+    @Benchmark
+    public int encodeInsert() {
+        return encode(new InsertCommandMessage<BsonDocument>(NAMESPACE, true, WriteConcern.ACKNOWLEDGED, inserts, new BsonDocumentCodec(),
+                                                             messageSettings));
+    }
+
+    @Benchmark
+    public int encodeUpdate() {
+        return encode(new UpdateCommandMessage(NAMESPACE, true, WriteConcern.ACKNOWLEDGED, updates, messageSettings));
+    }
+
+    @Benchmark
+    public int encodeDelete() {
+        return encode(new DeleteCommandMessage(NAMESPACE, true, WriteConcern.ACKNOWLEDGED, deletes, messageSettings));
+    }
+
+    private int encode(final BaseWriteCommandMessage message) {
+        ByteBufferOutputBuffer buffer = new ByteBufferOutputBuffer(bufferProvider);
+        try {
+            message.encode(buffer);
+            return buffer.size();
+        } finally {
+            buffer.close();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares checking items out of and back into the pool as it was before striping, through a fair semaphore and a shared deque only
+ * ({@code baseline}), with the current pool without stripes ({@code unstriped}) and with the striped, thread-affine fast path used by
+ * {@link DefaultConnectionPool} ({@code striped}), both uncontended and with many more threads than items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ConcurrentPoolBenchmark {
+    private static final int CONTENDED_THREADS = 64;
+
+    @Param({"baseline", "unstriped", "striped"})
+    private String checkout;
+
+    @Param({"10", "100"})
+    private int maxPoolSize;
+
+    private BaselinePool baselinePool;
+    private ConcurrentPool<Object> pool;
+    private boolean striped;
+
+    @Setup
+    public void setUp() {
+        if (checkout.equals("baseline")) {
+            baselinePool = new BaselinePool(maxPoolSize);
+            return;
+        }
+        striped = checkout.equals("striped");
+        ConcurrentPool.ItemFactory<Object> itemFactory = new ConcurrentPool.ItemFactory<Object>() {
+            @Override
+            public Object create() {
+                return new Object();
+            }
+
+            @Override
+            public void close(final Object item) {
+            }
+
+            @Override
+            public boolean shouldPrune(final Object item) {
+                return false;
+            }
+        };
+        pool = striped
+               ? new ConcurrentPool<Object>(maxPoolSize, Integer.MAX_VALUE, itemFactory)
+               : new ConcurrentPool<Object>(maxPoolSize, Integer.MAX_VALUE, 0, itemFactory);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Benchmark
+    public Object checkOutAndIn() {
+        return checkOutAndInOnce();
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public Object checkOutAndInContended() {
+        return checkOutAndInOnce();
+    }
+
+    private Object checkOutAndInOnce() {
+        if (baselinePool != null) {
+            Object item = baselinePool.get();
+            baselinePool.release(item);
+            return item;
+        }
+        Object item = striped ? pool.getIfAvailable() : null;
+        if (item == null) {
+            item = pool.get(1, TimeUnit.MINUTES);
+        }
+        pool.release(item);
+        return item;
+    }
+
+    // the checkout and check in of ConcurrentPool before the striped fast path and the limit on concurrent creation were added
+    private static final class BaselinePool {
+        private final Deque<Object> available = new ConcurrentLinkedDeque<Object>();
+        private final Semaphore permits;
+
+        BaselinePool(final int maxSize) {
+            permits = new Semaphore(maxSize, true);
+        }
+
+        Object get() {
+            try {
+                if (!permits.tryAcquire(1, TimeUnit.MINUTES)) {
+                    throw new IllegalStateException("Timeout waiting for a pooled item");
+                }
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            Object item = available.pollLast();
+            return item != null ? item : new Object();
+        }
+
+        void release(final Object item) {
+            available.addLast(item);
+            permits.release();
+        }
+    }
+}
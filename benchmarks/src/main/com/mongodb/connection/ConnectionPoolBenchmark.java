@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.async.SingleResultCallback;
+import com.mongodb.operation.QueryFlag;
+import com.mongodb.protocol.message.CommandMessage;
+import com.mongodb.protocol.message.MessageSettings;
+import com.mongodb.protocol.message.ReplyMessage;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.codecs.BsonDocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks checking connections out of the connection pool and returning them, both on their own and around a command round trip
+ * through the stream pipeline, against an in-memory stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+    private static final String CLUSTER_ID = "benchmark";
+    private static final int CONTENDED_THREADS = 8;
+
+    @Param({"1", "10", "100"})
+    private int maxPoolSize;
+
+    private final ServerAddress serverAddress = new ServerAddress();
+    private final BsonDocument command = new BsonDocument("ismaster", new BsonInt32(1));
+    private final MessageSettings messageSettings = MessageSettings.builder().build();
+    private DefaultConnectionPool pool;
+
+    @Setup
+    public void setUp() {
+        final BufferProvider bufferProvider = new PowerOfTwoBufferPool();
+        InternalConnectionFactory connectionFactory = new InternalConnectionFactory() {
+            @Override
+            public InternalConnection create(final ServerAddress serverAddress) {
+                Stream stream = new InMemoryStream(serverAddress, bufferProvider, new BsonDocument("ok", new BsonInt32(1)));
+                return new InternalStreamConnection(CLUSTER_ID, stream, new NoOpConnectionInitializer(), new NoOpConnectionListener());
+            }
+        };
+        pool = new DefaultConnectionPool(CLUSTER_ID, serverAddress, connectionFactory,
+                                         ConnectionPoolSettings.builder()
+                                                               .maxSize(maxPoolSize)
+                                                               .maxWaitQueueSize(Integer.MAX_VALUE)
+                                                               .maxWaitTime(1, TimeUnit.MINUTES)
+                                                               .build(),
+                                         new NoOpConnectionPoolListener());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public boolean checkOutAndIn() {
+        return checkOutAndInOnce();
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public boolean checkOutAndInContended() {
+        return checkOutAndInOnce();
+    }
+
+    @Benchmark
+    public BsonDocument roundTrip() {
+        return roundTripOnce();
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public BsonDocument roundTripContended() {
+        return roundTripOnce();
+    }
+
+    private boolean checkOutAndInOnce() {
+        InternalConnection connection = pool.get();
+        try {
+            return connection.isClosed();
+        } finally {
+            connection.close();
+        }
+    }
+
+    private BsonDocument roundTripOnce() {
+        InternalConnection connection = pool.get();
+        try {
+            CommandMessage message = new CommandMessage("admin.$cmd", command, EnumSet.noneOf(QueryFlag.class), messageSettings);
+            ByteBufferOutputBuffer buffer = new ByteBufferOutputBuffer(connection);
+            try {
+                message.encode(buffer);
+                connection.sendMessage(buffer.getByteBuffers(), message.getId());
+            } finally {
+                buffer.close();
+            }
+            ResponseBuffers responseBuffers = connection.receiveMessage(message.getId());
+            try {
+                return new ReplyMessage<BsonDocument>(responseBuffers, new BsonDocumentCodec(), message.getId()).getDocuments().get(0);
+            } finally {
+                responseBuffers.close();
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static final class NoOpConnectionInitializer implements ConnectionInitializer {
+        @Override
+        public String getId() {
+            return "benchmark-connection";
+        }
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public void initialize(final SingleResultCallback<Void> initializationFuture) {
+            initializationFuture.onResult(null, null);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import com.mongodb.ServerAddress;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.ByteBuf;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A stream that never leaves the process: every query message written to it is answered with the same canned reply, which can then be
+ * read back from it.  This allows the connection pool and the stream pipeline to be benchmarked without a server or a network.
+ */
+class InMemoryStream implements Stream {
+    private static final int OP_QUERY = 2004;
+    private static final int OP_REPLY = 1;
+    private static final int REPLY_HEADER_LENGTH = 36;
+
+    private final ServerAddress serverAddress;
+    private final BufferProvider bufferProvider;
+    private final byte[] replyBody;
+    private final Deque<ByteBuffer> pendingReplies = new ArrayDeque<ByteBuffer>();
+    private int nextReplyId;
+    private volatile boolean isClosed;
+
+    InMemoryStream(final ServerAddress serverAddress, final BufferProvider bufferProvider, final BsonDocument replyDocument) {
+        this.serverAddress = serverAddress;
+        this.bufferProvider = bufferProvider;
+        BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(outputBuffer, false), replyDocument, EncoderContext.builder().build());
+        this.replyBody = outputBuffer.toByteArray();
+    }
+
+    @Override
+    public ByteBuf getBuffer(final int size) {
+        return bufferProvider.getBuffer(size);
+    }
+
+    @Override
+    public synchronized void write(final List<ByteBuf> buffers) throws IOException {
+        ensureOpen();
+        int size = 0;
+        for (ByteBuf cur : buffers) {
+            size += cur.remaining();
+        }
+        ByteBuffer written = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        for (ByteBuf cur : buffers) {
+            written.put(cur.asNIO().duplicate());
+        }
+        written.flip();
+
+        // a single write may contain more than one message, and only queries get a reply
+        while (written.hasRemaining()) {
+            int messageStart = written.position();
+            int messageLength = written.getInt(messageStart);
+            int requestId = written.getInt(messageStart + 4);
+            int opCode = written.getInt(messageStart + 12);
+            if (opCode == OP_QUERY) {
+                pendingReplies.addLast(createReply(requestId));
+            }
+            written.position(messageStart + messageLength);
+        }
+    }
+
+    @Override
+    public synchronized ByteBuf read(final int numBytes) throws IOException {
+        ensureOpen();
+        ByteBuffer reply = pendingReplies.peekFirst();
+        if (reply == null || reply.remaining() < numBytes) {
+            throw new IOException("Attempt to read " + numBytes + " bytes when no reply has that many bytes remaining");
+        }
+        ByteBuf buffer = bufferProvider.getBuffer(numBytes);
+        ByteBuffer source = reply.duplicate();
+        source.limit(source.position() + numBytes);
+        buffer.asNIO().put(source);
+        reply.position(reply.position() + numBytes);
+        if (!reply.hasRemaining()) {
+            pendingReplies.removeFirst();
+        }
+        return buffer.flip();
+    }
+
+    @Override
+    public void writeAsync(final List<ByteBuf> buffers, final AsyncCompletionHandler<Void> handler) {
+        try {
+            write(buffers);
+        } catch (Throwable t) {
+            handler.failed(t);
+            return;
+        }
+        handler.completed(null);
+    }
+
+    @Override
+    public void readAsync(final int numBytes, final AsyncCompletionHandler<ByteBuf> handler) {
+        ByteBuf buffer;
+        try {
+            buffer = read(numBytes);
+        } catch (Throwable t) {
+            handler.failed(t);
+            return;
+        }
+        handler.completed(buffer);
+    }
+
+    @Override
+    public ServerAddress getAddress() {
+        return serverAddress;
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (isClosed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+
+    private ByteBuffer createReply(final int responseTo) {
+        ByteBuffer reply = ByteBuffer.allocate(REPLY_HEADER_LENGTH + replyBody.length).order(ByteOrder.LITTLE_ENDIAN);
+        reply.putInt(REPLY_HEADER_LENGTH + replyBody.length);
+        reply.putInt(nextReplyId++);
+        reply.putInt(responseTo);
+        reply.putInt(OP_REPLY);
+        reply.putInt(0);  // response flags
+        reply.putLong(0);  // cursor id
+        reply.putInt(0);  // starting from
+        reply.putInt(1);  // number returned
+        reply.put(replyBody);
+        reply.flip();
+        return reply;
+    }
+}
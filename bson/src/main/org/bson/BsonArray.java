@@ -43,6 +43,11 @@ public final class BsonArray extends BsonValue implements List<BsonValue>, Seria
         this.values = new ArrayList<BsonValue>(values);
     }
 
+    // wraps the given list without copying it, so that an unmodifiable list makes an unmodifiable array
+    BsonArray(final List<BsonValue> values, final boolean copy) {
+        this.values = copy ? new ArrayList<BsonValue>(values) : values;
+    }
+
     /**
      * Construct an empty B
      */
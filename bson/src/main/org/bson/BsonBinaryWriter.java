@@ -317,6 +317,13 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
     private void writeCurrentName() {
         if (getContext().getContextType() == BsonContextType.ARRAY) {
             buffer.writeCString(Integer.toString(getContext().index++));
+        } else if (binaryWriterSettings.getFieldNameCache() != null) {
+            byte[] encodedName = binaryWriterSettings.getFieldNameCache().getEncodedFieldName(getName());
+            if (encodedName != null) {
+                buffer.writeCString(encodedName);
+            } else {
+                buffer.writeCString(getName());
+            }
         } else {
             buffer.writeCString(getName());
         }
@@ -18,9 +18,22 @@ package org.bson;
 
 public class BsonBinaryWriterSettings {
     private final int maxDocumentSize;
+    private final FieldNameCache fieldNameCache;
 
     public BsonBinaryWriterSettings(final int maxDocumentSize) {
+        this(maxDocumentSize, null);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param maxDocumentSize the maximum document size
+     * @param fieldNameCache  the cache of encoded field names to write names from, which may be null
+     * @since 3.0
+     */
+    public BsonBinaryWriterSettings(final int maxDocumentSize, final FieldNameCache fieldNameCache) {
         this.maxDocumentSize = maxDocumentSize;
+        this.fieldNameCache = fieldNameCache;
     }
 
     public BsonBinaryWriterSettings() {
@@ -30,4 +43,14 @@ public class BsonBinaryWriterSettings {
     public int getMaxDocumentSize() {
         return maxDocumentSize;
     }
+
+    /**
+     * Gets the cache of encoded field names to write names from.
+     *
+     * @return the field name cache, which may be null
+     * @since 3.0
+     */
+    public FieldNameCache getFieldNameCache() {
+        return fieldNameCache;
+    }
 }
@@ -697,22 +697,18 @@ public class BsonDocument extends BsonValue implements Map<String, BsonValue>, S
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof BsonDocument)) {
             return false;
         }
 
         BsonDocument that = (BsonDocument) o;
 
-        if (!map.equals(that.map)) {
-            return false;
-        }
-
-        return true;
+        return entrySet().equals(that.entrySet());
     }
 
     @Override
     public int hashCode() {
-        return map.hashCode();
+        return entrySet().hashCode();
     }
 
     @Override
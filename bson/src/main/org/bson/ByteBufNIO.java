@@ -114,6 +114,20 @@ public class ByteBufNIO implements ByteBuf {
         return this;
     }
 
+    /**
+     * Transfers {@code length} bytes from this buffer into the given array, starting at {@code offset} in the array, and increments the
+     * position of this buffer by {@code length}.
+     *
+     * @param bytes  the destination array
+     * @param offset the offset within the array of the first byte to be written
+     * @param length the number of bytes to transfer
+     * @return this buffer
+     */
+    public ByteBuf get(final byte[] bytes, final int offset, final int length) {
+        buf.get(bytes, offset, length);
+        return this;
+    }
+
     @Override
     public long getLong() {
         return buf.getLong();
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson;
+
+import org.bson.io.BasicOutputBuffer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A bounded, thread-safe cache of field names encoded as BSON cstrings, so that a writer can copy the bytes of a field name that it has
+ * seen before instead of encoding its characters again.  Once the cache is full no more names are added to it, so it is most useful
+ * when documents are written with the same, small set of field names.
+ *
+ * @since 3.0
+ */
+public final class FieldNameCache {
+    private static final int DEFAULT_MAX_SIZE = 1024;
+    private static final int DEFAULT_MAX_FIELD_NAME_LENGTH = 64;
+
+    private final int maxSize;
+    private final int maxFieldNameLength;
+    private final ConcurrentMap<String, byte[]> encodedFieldNames = new ConcurrentHashMap<String, byte[]>();
+
+    /**
+     * Construct an instance that holds up to 1024 field names of up to 64 characters each.
+     */
+    public FieldNameCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_FIELD_NAME_LENGTH);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param maxSize            the maximum number of field names to hold
+     * @param maxFieldNameLength the maximum length, in characters, of a field name that will be held
+     */
+    public FieldNameCache(final int maxSize, final int maxFieldNameLength) {
+        this.maxSize = maxSize;
+        this.maxFieldNameLength = maxFieldNameLength;
+    }
+
+    /**
+     * Gets the field name encoded as a cstring, including the terminating null byte, adding it to the cache if there is room.  The
+     * returned array must not be modified.
+     *
+     * @param fieldName the field name
+     * @return the encoded field name, or null if it is not in the cache and can not be added to it
+     * @throws BsonSerializationException if the field name contains a null character
+     */
+    public byte[] getEncodedFieldName(final String fieldName) {
+        byte[] encodedFieldName = encodedFieldNames.get(fieldName);
+        if (encodedFieldName == null && fieldName.length() <= maxFieldNameLength && encodedFieldNames.size() < maxSize) {
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            buffer.writeCString(fieldName);
+            encodedFieldName = buffer.toByteArray();
+            encodedFieldNames.putIfAbsent(fieldName, encodedFieldName);
+        }
+        return encodedFieldName;
+    }
+
+    /**
+     * Gets the number of field names in the cache.
+     *
+     * @return the number of field names
+     */
+    public int size() {
+        return encodedFieldNames.size();
+    }
+}
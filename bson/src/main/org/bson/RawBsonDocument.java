@@ -16,23 +16,54 @@
 
 package org.bson;
 
+import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.configuration.RootCodecRegistry;
 import org.bson.io.BasicInputBuffer;
 import org.bson.io.BasicOutputBuffer;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
 
 /**
- * A simple wrapper around a byte array that is the representation of a single BSON document.
+ * An immutable BSON document that is represented using only the raw bytes.
+ * <p>
+ * Field access scans the bytes in place rather than decoding the document up front, so a document that is only passed through, or of
+ * which only a few fields are read, is never materialized.  Values that are themselves documents are returned as {@code RawBsonDocument}
+ * instances that share the same byte array, as are documents contained in arrays.  Arrays are returned as read-only {@code BsonArray}
+ * instances, which throw {@code UnsupportedOperationException} if modified.  The first call that iterates over the keys, values or
+ * entries, or that computes the hash code, decodes the top level of the document once, and later calls reuse that decoded form.
+ * </p>
+ * <p>
+ * Note that since this class is now a {@code Map}, Groovy property syntax such as {@code document.byteBuffer} looks up a field of the
+ * document rather than calling {@link #getByteBuffer()}, so Groovy callers must call the getter explicitly.
+ * </p>
  *
  * @since 3.0
  */
-// TODO: Add an easy way to iterate over the fields?
-public class RawBsonDocument {
+public class RawBsonDocument extends BsonDocument {
+    private static final long serialVersionUID = 1L;
+    private static final CodecRegistry VALUE_REGISTRY = new RootCodecRegistry(Arrays.<CodecProvider>asList(new BsonValueCodecProvider()));
+    private static final int MIN_BSON_DOCUMENT_SIZE = 5;
+
     private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private transient volatile Map<String, BsonValue> decoded;
 
     /**
      * Constructs a new instance with the given byte array.  Note that it does not make a copy of the array, so do not modify it after
@@ -42,10 +73,28 @@ public class RawBsonDocument {
      *              after passing it to this construction, unless of course that is your intention.
      */
     public RawBsonDocument(final byte[] bytes) {
+        this(bytes, 0, bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * Constructs a new instance with the given portion of a byte array.  Note that it does not make a copy of the array, so do not modify
+     * it after passing it to this constructor.
+     *
+     * @param bytes  the bytes containing a BSON document.  Note that the byte array is NOT copied
+     * @param offset the offset of the document in the byte array
+     * @param length the length of the document, which must be the same as the size encoded at the start of the document
+     */
+    public RawBsonDocument(final byte[] bytes, final int offset, final int length) {
         if (bytes == null) {
             throw new IllegalArgumentException("bytes can not be null");
         }
+        if (offset < 0 || length < MIN_BSON_DOCUMENT_SIZE || offset + length > bytes.length) {
+            throw new IllegalArgumentException(format("offset %d and length %d are not valid for a byte array of length %d", offset,
+                                                      length, bytes.length));
+        }
         this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
     }
 
     /**
@@ -59,19 +108,21 @@ public class RawBsonDocument {
         try {
             codec.encode(writer, document, EncoderContext.builder().build());
             this.bytes = writer.getBuffer().toByteArray();
+            this.offset = 0;
+            this.length = bytes.length;
         } finally {
             writer.close();
         }
     }
 
     /**
-     * Returns a {@code ByteBuf} that wraps the byte array, with the proper byte order.  Any changes made to the returned will be reflected
-     * in the underlying byte array owned by this instance.
+     * Returns a {@code ByteBuf} that wraps the bytes of this document, with the proper byte order.  Any changes made to the returned will
+     * be reflected in the underlying byte array owned by this instance.
      *
      * @return a byte buffer that wraps the byte array owned by this instance.
      */
     public ByteBuf getByteBuffer() {
-        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length).slice();
         buffer.order(ByteOrder.LITTLE_ENDIAN);
         return new ByteBufNIO(buffer);
     }
@@ -83,11 +134,212 @@ public class RawBsonDocument {
      * @return the decoded document
      */
     public <T> T decode(final Codec<T> codec) {
-        BsonBinaryReader reader = new BsonBinaryReader(new BasicInputBuffer(getByteBuffer()), true);
+        BsonBinaryReader reader = createReader();
         try {
             return codec.decode(reader, DecoderContext.builder().build());
         } finally {
             reader.close();
         }
     }
+
+    @Override
+    public int size() {
+        BsonBinaryReader reader = createReader();
+        try {
+            int size = 0;
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                size++;
+                reader.skipName();
+                reader.skipValue();
+            }
+            return size;
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return length == MIN_BSON_DOCUMENT_SIZE;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        if (key == null) {
+            return false;
+        }
+        if (decoded != null) {
+            return decoded.containsKey(key);
+        }
+        BsonBinaryReader reader = createReader();
+        try {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (reader.readName().equals(key)) {
+                    return true;
+                }
+                reader.skipValue();
+            }
+            return false;
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return values().contains(value);
+    }
+
+    @Override
+    public BsonValue get(final Object key) {
+        if (key == null) {
+            return null;
+        }
+        if (decoded != null) {
+            return decoded.get(key);
+        }
+        BsonBinaryReader reader = createReader();
+        try {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (reader.readName().equals(key)) {
+                    return readValue(reader);
+                }
+                reader.skipValue();
+            }
+            return null;
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Override
+    public BsonValue put(final String key, final BsonValue value) {
+        throw new UnsupportedOperationException("RawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public BsonValue remove(final Object key) {
+        throw new UnsupportedOperationException("RawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends BsonValue> m) {
+        throw new UnsupportedOperationException("RawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("RawBsonDocument instances are immutable");
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return getDecoded().keySet();
+    }
+
+    @Override
+    public Collection<BsonValue> values() {
+        return getDecoded().values();
+    }
+
+    @Override
+    public Set<Entry<String, BsonValue>> entrySet() {
+        return getDecoded().entrySet();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof RawBsonDocument) {
+            RawBsonDocument that = (RawBsonDocument) o;
+            if (length == that.length && rangeEquals(bytes, offset, that.bytes, that.offset, length)) {
+                return true;
+            }
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return getDecoded().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RawBsonDocument{"
+               + "map=" + getDecoded()
+               + '}';
+    }
+
+    private BsonBinaryReader createReader() {
+        return new BsonBinaryReader(new BasicInputBuffer(getByteBuffer()), true);
+    }
+
+    // the document is immutable, so its decoded form can be shared by all callers
+    private Map<String, BsonValue> getDecoded() {
+        Map<String, BsonValue> map = decoded;
+        if (map == null) {
+            map = Collections.unmodifiableMap(toMap());
+            decoded = map;
+        }
+        return map;
+    }
+
+    // decodes the top level only: nested documents remain raw
+    private Map<String, BsonValue> toMap() {
+        Map<String, BsonValue> map = new LinkedHashMap<String, BsonValue>();
+        BsonBinaryReader reader = createReader();
+        try {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                map.put(reader.readName(), readValue(reader));
+            }
+            return map;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private BsonValue readValue(final BsonBinaryReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                int position = reader.getBuffer().getPosition();
+                int size = readInt32(bytes, offset + position);
+                reader.skipValue();
+                return new RawBsonDocument(bytes, offset + position, size);
+            case ARRAY:
+                List<BsonValue> values = new ArrayList<BsonValue>();
+                reader.readStartArray();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    values.add(readValue(reader));
+                }
+                reader.readEndArray();
+                return new BsonArray(Collections.unmodifiableList(values), false);
+            default:
+                return VALUE_REGISTRY.get(BsonValueCodecProvider.getClassForBsonType(reader.getCurrentBsonType()))
+                                     .decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    private static int readInt32(final byte[] bytes, final int position) {
+        return (bytes[position] & 0xff)
+               | (bytes[position + 1] & 0xff) << 8
+               | (bytes[position + 2] & 0xff) << 16
+               | (bytes[position + 3] & 0xff) << 24;
+    }
+
+    private static boolean rangeEquals(final byte[] first, final int firstOffset, final byte[] second, final int secondOffset,
+                                       final int length) {
+        for (int i = 0; i < length; i++) {
+            if (first[firstOffset + i] != second[secondOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -34,4 +34,14 @@ public class CodecConfigurationException extends RuntimeException {
     public CodecConfigurationException(final String msg) {
         super(msg);
     }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param msg   the message
+     * @param cause the underlying cause
+     */
+    public CodecConfigurationException(final String msg, final Throwable cause) {
+        super(msg, cause);
+    }
 }
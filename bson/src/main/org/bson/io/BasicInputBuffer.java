@@ -18,6 +18,7 @@ package org.bson.io;
 
 import org.bson.BsonType;
 import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
 import org.bson.types.ObjectId;
 
 import java.nio.ByteOrder;
@@ -25,8 +26,10 @@ import java.nio.charset.Charset;
 
 public class BasicInputBuffer implements InputBuffer {
     private static final Charset UTF8_CHARSET = Charset.forName("UTF-8");
+    private static final int MAX_SCRATCH_BUFFER_SIZE = 1024;
 
     private ByteBuf buffer;
+    private byte[] scratchBuffer;
 
     public BasicInputBuffer(final ByteBuf buffer) {
         this.buffer = buffer;
@@ -74,13 +77,17 @@ public class BasicInputBuffer implements InputBuffer {
     @Override
     public String readString() {
         int size = readInt32();
-        byte[] bytes = readBytes(size);
-        return new String(bytes, 0, size - 1, UTF8_CHARSET);
+        return readUtf8String(size - 1, 1);
     }
 
     @Override
     public ObjectId readObjectId() {
-        return new ObjectId(readBytes(12));
+        // ObjectIds are big endian, so read them a byte at a time rather than allocating an array to construct them from
+        int timestamp = readBigEndianInt(4);
+        int machineIdentifier = readBigEndianInt(3);
+        short processIdentifier = (short) readBigEndianInt(2);
+        int counter = readBigEndianInt(3);
+        return new ObjectId(timestamp, machineIdentifier, processIdentifier, counter);
     }
 
     @Override
@@ -90,16 +97,43 @@ public class BasicInputBuffer implements InputBuffer {
 
     @Override
     public String readCString() {
-        // TODO: potentially optimize this
         int mark = buffer.position();
         readUntilNullByte();
         int size = buffer.position() - mark - 1;
         buffer.position(mark);
 
-        byte[] bytes = readBytes(size);
-        readByte();  // read the trailing null byte
+        return readUtf8String(size, 1);
+    }
+
+    // Decodes the string from a scratch array that is reused across calls, so that short strings, which are the vast majority of field
+    // names and values, don't need an intermediate array of their own
+    private String readUtf8String(final int size, final int numTrailingBytes) {
+        byte[] bytes;
+        if (size <= MAX_SCRATCH_BUFFER_SIZE) {
+            if (scratchBuffer == null) {
+                scratchBuffer = new byte[MAX_SCRATCH_BUFFER_SIZE];
+            }
+            bytes = scratchBuffer;
+        } else {
+            bytes = new byte[size];
+        }
+        if (buffer instanceof ByteBufNIO) {
+            ((ByteBufNIO) buffer).get(bytes, 0, size);
+        } else {
+            for (int i = 0; i < size; i++) {
+                bytes[i] = buffer.get();
+            }
+        }
+        skip(numTrailingBytes);
+        return new String(bytes, 0, size, UTF8_CHARSET);
+    }
 
-        return new String(bytes, UTF8_CHARSET);
+    private int readBigEndianInt(final int numBytes) {
+        int value = 0;
+        for (int i = 0; i < numBytes; i++) {
+            value = (value << 8) | (buffer.get() & 0xff);
+        }
+        return value;
     }
 
     private void readUntilNullByte() {
@@ -47,6 +47,22 @@ public class BasicOutputBuffer extends OutputBuffer {
         buffer[position++] = (byte) (0xFF & b);
     }
 
+    @Override
+    protected int writeAsciiCharacters(final String str, final int startIndex, final boolean checkForNullCharacters) {
+        int len = str.length();
+        ensure(len - startIndex);
+        int i = startIndex;
+        while (i < len) {
+            char c = str.charAt(i);
+            if (c >= 0x80 || (checkForNullCharacters && c == 0x0)) {
+                break;
+            }
+            buffer[position++] = (byte) c;
+            i++;
+        }
+        return i;
+    }
+
     @Override
     public void backpatchSize(final int messageSize) {
         writeInt(getPosition() - messageSize, messageSize);
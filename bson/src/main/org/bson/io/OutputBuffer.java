@@ -125,21 +125,60 @@ public abstract class OutputBuffer extends OutputStream {
        return writeCharacters(str, true);
     }
 
+    /**
+     * Writes the given bytes, which must be a complete UTF-8 encoded cstring including the terminating null byte.
+     *
+     * @param encodedCString the encoded cstring
+     * @return the number of bytes written
+     */
+    public int writeCString(final byte[] encodedCString) {
+        write(encodedCString);
+        return encodedCString.length;
+    }
+
+    /**
+     * Writes the characters of the string, starting at the given index, for as long as each is a single byte in UTF-8, and stops at the
+     * first character that is not or, if checking for null characters, that is a null character.  Subclasses should override this to
+     * write the bytes directly into their storage.
+     *
+     * @param str                    the string
+     * @param startIndex             the index of the first character to write
+     * @param checkForNullCharacters whether to stop at a null character
+     * @return the index of the first character that was not written, which is the length of the string if all were written
+     */
+    protected int writeAsciiCharacters(final String str, final int startIndex, final boolean checkForNullCharacters) {
+        int len = str.length();
+        int i = startIndex;
+        while (i < len) {
+            char c = str.charAt(i);
+            if (c >= 0x80 || (checkForNullCharacters && c == 0x0)) {
+                break;
+            }
+            write(c);
+            i++;
+        }
+        return i;
+    }
+
     private int writeCharacters(final String str, final boolean checkForNullCharacters) {
         int len = str.length();
         int total = 0;
 
         for (int i = 0; i < len;/*i gets incremented*/) {
+            int asciiEnd = writeAsciiCharacters(str, i, checkForNullCharacters);
+            total += asciiEnd - i;
+            i = asciiEnd;
+            if (i == len) {
+                break;
+            }
+
             int c = Character.codePointAt(str, i);
 
             if (checkForNullCharacters && c == 0x0) {
                 throw new BsonSerializationException(format("BSON cstring '%s' is not valid because it contains a null character "
                                                             + "at index %d", str, i));
             }
-            if (c < 0x80) {
-                write((byte) c);
-                total += 1;
-            } else if (c < 0x800) {
+            if (c < 0x800) {
                 write((byte) (0xc0 + (c >> 6)));
                 write((byte) (0x80 + (c & 0x3f)));
                 total += 2;
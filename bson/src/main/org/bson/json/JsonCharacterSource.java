@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+/**
+ * A source of characters for the {@link JsonScanner}, which reads code points one at a time and extracts the text of each token.
+ * Positions are counted from the start of the input as a {@code long}, so that a stream of any length can be read.
+ *
+ * @since 3.0
+ */
+interface JsonCharacterSource {
+
+    /**
+     * Gets the position of the next character to be read.
+     *
+     * @return the position
+     */
+    long getPosition();
+
+    /**
+     * Reads the next code point.
+     *
+     * @return the code point, or -1 at the end of the input
+     */
+    int read();
+
+    /**
+     * Moves back one position, if the previous character is the given one.
+     *
+     * @param c the character that was read last
+     */
+    void unread(int c);
+
+    /**
+     * Gets the text between the given positions, which must not be before the last mark.
+     *
+     * @param beginIndex the position of the first character
+     * @param endIndex   the position after the last character
+     * @return the text
+     */
+    String substring(long beginIndex, long endIndex);
+
+    /**
+     * Marks the current position as the start of the next token, so that the characters before it need no longer be kept.
+     */
+    void mark();
+}
@@ -32,6 +32,7 @@ import org.bson.types.MinKey;
 import org.bson.types.ObjectId;
 
 import javax.xml.bind.DatatypeConverter;
+import java.io.Reader;
 import java.text.DateFormat;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
@@ -61,6 +62,7 @@ import java.util.TimeZone;
  * @since 3.0
  */
 public class JsonReader extends AbstractBsonReader {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
 
     private final JsonScanner scanner;
     private JsonToken pushedToken;
@@ -77,6 +79,29 @@ public class JsonReader extends AbstractBsonReader {
         setContext(new Context(null, BsonContextType.TOP_LEVEL));
     }
 
+    /**
+     * Constructs a new instance that reads the JSON incrementally from the given reader, holding no more of it in memory than the
+     * current token and a buffer of a default size.  Successive top-level values, such as the documents of a newline-delimited JSON
+     * file, can be read one after the other.  The reader is not closed by this instance.
+     *
+     * @param reader the reader
+     */
+    public JsonReader(final Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a new instance that reads the JSON incrementally from the given reader, using a buffer of the given size.
+     *
+     * @param reader     the reader
+     * @param bufferSize the initial size of the character buffer, which only grows for a single token that does not fit in it
+     */
+    public JsonReader(final Reader reader, final int bufferSize) {
+        super();
+        scanner = new JsonScanner(new JsonStreamBuffer(reader, bufferSize));
+        setContext(new Context(null, BsonContextType.TOP_LEVEL));
+    }
+
     @Override
     protected BsonBinary doReadBinaryData() {
         return (BsonBinary) currentValue;
@@ -25,7 +25,7 @@ import org.bson.BsonRegularExpression;
  */
 class JsonScanner {
 
-    private final JsonBuffer buffer;
+    private final JsonCharacterSource buffer;
 
     /**
      * Constructs a a new {@code JSONScanner} that produces values scanned from specified {@code JSONBuffer}.
@@ -33,7 +33,16 @@ class JsonScanner {
      * @param buffer A buffer to be scanned.
      */
     public JsonScanner(final JsonBuffer buffer) {
-        this.buffer = buffer;
+        this(new JsonBufferCharacterSource(buffer));
+    }
+
+    /**
+     * Constructs a a new {@code JSONScanner} that produces values scanned from the specified source of characters.
+     *
+     * @param source A source of characters to be scanned.
+     */
+    JsonScanner(final JsonCharacterSource source) {
+        this.buffer = source;
     }
 
     /**
@@ -54,6 +63,7 @@ class JsonScanner {
      */
     public JsonToken nextToken() {
 
+        buffer.mark();
         int c = buffer.read();
         while (c != -1 && Character.isWhitespace(c)) {
             c = buffer.read();
@@ -90,7 +100,7 @@ class JsonScanner {
                 } else if (c == '$' || c == '_' || Character.isLetter(c)) {
                     return scanUnquotedString();
                 } else {
-                    int position = buffer.getPosition();
+                    long position = buffer.getPosition();
                     buffer.unread(c);
                     throw new JsonParseException("Invalid JSON input. Position: %d. Character: '%c'.", position, c);
                 }
@@ -113,8 +123,8 @@ class JsonScanner {
      */
     private JsonToken scanRegularExpression() {
 
-        int start = buffer.getPosition() - 1;
-        int options = -1;
+        long start = buffer.getPosition() - 1;
+        long options = -1;
 
         RegularExpressionState state = RegularExpressionState.IN_PATTERN;
         while (true) {
@@ -167,7 +177,7 @@ class JsonScanner {
             switch (state) {
                 case DONE:
                     buffer.unread(c);
-                    int end = buffer.getPosition();
+                    long end = buffer.getPosition();
                     BsonRegularExpression regex
                         = new BsonRegularExpression(buffer.substring(start + 1, options - 1), buffer.substring(options, end));
                     return new JsonToken(JsonTokenType.REGULAR_EXPRESSION, regex);
@@ -184,7 +194,7 @@ class JsonScanner {
      * @return The string token.
      */
     private JsonToken scanUnquotedString() {
-        int start = buffer.getPosition() - 1;
+        long start = buffer.getPosition() - 1;
         int c = buffer.read();
         while (c == '$' || c == '_' || Character.isLetterOrDigit(c)) {
             c = buffer.read();
@@ -218,7 +228,7 @@ class JsonScanner {
 
         int c = firstChar;
 
-        int start = buffer.getPosition() - 1;
+        long start = buffer.getPosition() - 1;
 
         NumberState state;
 
@@ -536,4 +546,37 @@ class JsonScanner {
         DONE,
         INVALID
     }
+
+    // a JsonBuffer holds the whole input, so it never needs to discard the characters before a mark
+    private static final class JsonBufferCharacterSource implements JsonCharacterSource {
+        private final JsonBuffer buffer;
+
+        JsonBufferCharacterSource(final JsonBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public long getPosition() {
+            return buffer.getPosition();
+        }
+
+        @Override
+        public int read() {
+            return buffer.read();
+        }
+
+        @Override
+        public void unread(final int c) {
+            buffer.unread(c);
+        }
+
+        @Override
+        public String substring(final long beginIndex, final long endIndex) {
+            return buffer.substring((int) beginIndex, (int) endIndex);
+        }
+
+        @Override
+        public void mark() {
+        }
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.json;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A {@link JsonCharacterSource} that reads incrementally from a {@code Reader} into a bounded window of characters.  The window only has to hold
+ * the characters from the start of the current token, and only grows beyond its initial capacity for a single token that does not fit.
+ *
+ * @since 3.0
+ */
+class JsonStreamBuffer implements JsonCharacterSource {
+
+    private final Reader reader;
+    private char[] chars;
+    // the position of chars[0] in the input
+    private long windowStart;
+    private int count;
+    private long position;
+    private long markPosition;
+    private boolean endOfInput;
+
+    JsonStreamBuffer(final Reader reader, final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be greater than 0");
+        }
+        this.reader = reader;
+        this.chars = new char[bufferSize];
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public int read() {
+        if (!ensureAvailable(position + 1)) {
+            return -1;
+        }
+        char c = chars[indexOf(position)];
+        position++;
+        if (Character.isHighSurrogate(c) && ensureAvailable(position + 1)) {
+            char low = chars[indexOf(position)];
+            if (Character.isLowSurrogate(low)) {
+                // like String.codePointAt, return the whole code point but only advance past the high surrogate
+                return Character.toCodePoint(c, low);
+            }
+        }
+        return c;
+    }
+
+    @Override
+    public void unread(final int c) {
+        if (c != -1 && position > windowStart && codePointBefore() == c) {
+            position--;
+        }
+    }
+
+    @Override
+    public String substring(final long beginIndex, final long endIndex) {
+        if (beginIndex < windowStart) {
+            throw new IllegalStateException("The start of the substring has already been discarded");
+        }
+        return new String(chars, indexOf(beginIndex), (int) (endIndex - beginIndex));
+    }
+
+    @Override
+    public void mark() {
+        markPosition = position;
+    }
+
+    private int codePointBefore() {
+        int index = indexOf(position - 1);
+        char c = chars[index];
+        if (Character.isHighSurrogate(c) && index + 1 < count && Character.isLowSurrogate(chars[index + 1])) {
+            return Character.toCodePoint(c, chars[index + 1]);
+        }
+        return c;
+    }
+
+    // the index in the window of the given position, which is always within the window
+    private int indexOf(final long positionInInput) {
+        return (int) (positionInInput - windowStart);
+    }
+
+    // returns true if the characters up to, but not including, the given position are in the window
+    private boolean ensureAvailable(final long endPosition) {
+        while (windowStart + count < endPosition) {
+            if (endOfInput) {
+                return false;
+            }
+            if (count == chars.length) {
+                makeRoom();
+            }
+            try {
+                int numRead = reader.read(chars, count, chars.length - count);
+                if (numRead == -1) {
+                    endOfInput = true;
+                } else {
+                    count += numRead;
+                }
+            } catch (IOException e) {
+                throw new JsonParseException(e);
+            }
+        }
+        return true;
+    }
+
+    private void makeRoom() {
+        int discardCount = indexOf(markPosition);
+        if (discardCount > 0) {
+            System.arraycopy(chars, discardCount, chars, 0, count - discardCount);
+            windowStart = markPosition;
+            count -= discardCount;
+        } else {
+            char[] newChars = new char[chars.length * 2];
+            System.arraycopy(chars, 0, newChars, 0, count);
+            chars = newChars;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.json;
+
+import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+
+import java.io.Reader;
+
+/**
+ * Reads a sequence of JSON documents, such as a newline-delimited JSON export with one document per line, one document at a time.  The
+ * input is read incrementally, so the memory used does not depend on the number of documents.  Any whitespace, not just a newline, may
+ * separate the documents.
+ *
+ * @since 3.0
+ */
+public class NewlineDelimitedJsonReader {
+    private final JsonReader jsonReader;
+    private final BsonDocumentCodec codec = new BsonDocumentCodec();
+    private boolean endOfInput;
+
+    /**
+     * Constructs a new instance.  The reader is not closed by this instance.
+     *
+     * @param reader the reader
+     */
+    public NewlineDelimitedJsonReader(final Reader reader) {
+        this.jsonReader = new JsonReader(reader);
+    }
+
+    /**
+     * Reads the next document.
+     *
+     * @return the document, or null if there are no more documents
+     * @throws JsonParseException if the input is not valid JSON or the next value is not a document
+     */
+    public BsonDocument readDocument() {
+        if (!advance()) {
+            return null;
+        }
+        return codec.decode(jsonReader, DecoderContext.builder().build());
+    }
+
+    /**
+     * Reads the next document and writes it straight to the given writer, for example a {@code BsonBinaryWriter}, without creating a
+     * {@code BsonDocument}.
+     *
+     * @param writer the writer
+     * @return false if there are no more documents
+     * @throws JsonParseException if the input is not valid JSON or the next value is not a document
+     */
+    public boolean pipeDocument(final BsonWriter writer) {
+        if (!advance()) {
+            return false;
+        }
+        writer.pipe(jsonReader);
+        return true;
+    }
+
+    private boolean advance() {
+        if (endOfInput) {
+            return false;
+        }
+        BsonType bsonType = jsonReader.readBsonType();
+        if (bsonType == BsonType.END_OF_DOCUMENT) {
+            endOfInput = true;
+            return false;
+        }
+        if (bsonType != BsonType.DOCUMENT) {
+            throw new JsonParseException("Expected a document but found a value of type %s.", bsonType);
+        }
+        return true;
+    }
+}
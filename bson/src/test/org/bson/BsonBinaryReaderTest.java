@@ -16,11 +16,16 @@
 
 package org.bson;
 
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
 import org.bson.io.BasicInputBuffer;
+import org.bson.io.BasicOutputBuffer;
 import org.bson.types.ObjectId;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -41,6 +46,22 @@ public class BsonBinaryReaderTest {
         reader.readEndDocument();
     }
 
+    @Test
+    public void testReadStringsAndObjectIdsOfAllLengths() {
+        char[] longChars = new char[5000];
+        Arrays.fill(longChars, '\u00e9');
+        BsonDocument document = new BsonDocument("short", new BsonString("caf\u00e9"))
+                                .append(new String(longChars, 0, 2000), new BsonString(new String(longChars)))
+                                .append("_id", new BsonObjectId(new ObjectId("5209296cd6c4e38cf96fffdc")))
+                                .append("empty", new BsonString(""));
+        BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(outputBuffer, true), document, EncoderContext.builder().build());
+
+        BsonBinaryReader reader = createReaderForBytes(outputBuffer.toByteArray());
+
+        assertThat(new BsonDocumentCodec().decode(reader, DecoderContext.builder().build()), is(document));
+    }
+
     private BsonBinaryReader createReaderForBytes(final byte[] bytes) {
         return new BsonBinaryReader(new BasicInputBuffer(new ByteBufNIO(ByteBuffer.wrap(bytes))), true);
     }
@@ -682,6 +682,50 @@ public class BsonBinaryWriterTest {
     }
     // CHECKSTYLE:ON
 
+    @Test
+    public void shouldWriteTheSameBytesWithAFieldNameCache() {
+        FieldNameCache fieldNameCache = new FieldNameCache(2, 4);
+        BasicOutputBuffer cachedBuffer = new BasicOutputBuffer();
+        BsonBinaryWriter cachedWriter = new BsonBinaryWriter(new BsonWriterSettings(100),
+                                                             new BsonBinaryWriterSettings(1024, fieldNameCache), cachedBuffer, true);
+        try {
+            writeDocumentWithRepeatedNames(writer);
+            writeDocumentWithRepeatedNames(cachedWriter);
+
+            assertArrayEquals(buffer.toByteArray(), cachedBuffer.toByteArray());
+            assertEquals(2, fieldNameCache.size());
+        } finally {
+            cachedWriter.close();
+        }
+    }
+
+    @Test(expected = BsonSerializationException.class)
+    public void shouldThrowWhenAFieldNameWithANullCharacterIsWrittenWithAFieldNameCache() {
+        BsonBinaryWriter cachedWriter = new BsonBinaryWriter(new BsonWriterSettings(100),
+                                                             new BsonBinaryWriterSettings(1024, new FieldNameCache()),
+                                                             new BasicOutputBuffer(), true);
+        try {
+            cachedWriter.writeStartDocument();
+            cachedWriter.writeInt32("a\u0000b", 1);
+        } finally {
+            cachedWriter.close();
+        }
+    }
+
+    private void writeDocumentWithRepeatedNames(final BsonWriter bsonWriter) {
+        bsonWriter.writeStartDocument();
+        for (int i = 0; i < 3; i++) {
+            bsonWriter.writeStartDocument("caf\u00e9");
+            bsonWriter.writeInt32("x", i);
+            bsonWriter.writeString("longName", "\u00e9t\u00e9");
+            bsonWriter.writeEndDocument();
+        }
+        bsonWriter.writeStartArray("a");
+        bsonWriter.writeInt32(1);
+        bsonWriter.writeEndArray();
+        bsonWriter.writeEndDocument();
+    }
+
     private BsonBinaryReader createReaderForBytes(final byte[] bytes) {
         return new BsonBinaryReader(new BasicInputBuffer(new ByteBufNIO(ByteBuffer.wrap(bytes))), true);
     }
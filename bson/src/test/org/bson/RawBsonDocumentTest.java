@@ -19,8 +19,14 @@ package org.bson;
 import org.bson.codecs.BsonDocumentCodec;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class RawBsonDocumentTest {
     @Test
@@ -34,4 +40,97 @@ public class RawBsonDocumentTest {
         assertNotNull(buffer.getByteBuffer());
         assertEquals(document, buffer.decode(documentCodec));
     }
+
+    @Test
+    public void shouldAccessFieldsWithoutDecoding() {
+        RawBsonDocument rawDocument = new RawBsonDocument(createDocument(), new BsonDocumentCodec());
+
+        assertEquals(4, rawDocument.size());
+        assertFalse(rawDocument.isEmpty());
+        assertTrue(rawDocument.containsKey("b"));
+        assertFalse(rawDocument.containsKey("z"));
+        assertEquals(new BsonString("hi"), rawDocument.get("b"));
+        assertNull(rawDocument.get("z"));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), Arrays.asList(rawDocument.keySet().toArray()));
+        assertTrue(rawDocument.containsValue(new BsonInt32(1)));
+    }
+
+    @Test
+    public void shouldReturnNestedDocumentsAsRawDocuments() {
+        RawBsonDocument rawDocument = new RawBsonDocument(createDocument(), new BsonDocumentCodec());
+
+        BsonValue nested = rawDocument.get("c");
+        assertTrue(nested instanceof RawBsonDocument);
+        assertEquals(new BsonDocument("x", new BsonInt64(42L)), nested);
+
+        BsonArray array = rawDocument.get("d").asArray();
+        assertEquals(new BsonInt32(1), array.get(0));
+        assertTrue(array.get(1) instanceof RawBsonDocument);
+        assertEquals(new BsonDocument("y", new BsonBoolean(true)), array.get(1));
+    }
+
+    @Test
+    public void shouldBeEqualToTheDecodedDocument() {
+        BsonDocument document = createDocument();
+        RawBsonDocument rawDocument = new RawBsonDocument(document, new BsonDocumentCodec());
+
+        assertEquals(document, rawDocument);
+        assertEquals(rawDocument, document);
+        assertEquals(document.hashCode(), rawDocument.hashCode());
+        assertEquals(rawDocument, new RawBsonDocument(document, new BsonDocumentCodec()));
+    }
+
+    @Test
+    public void shouldDecodeOnceForIterationAndHashCode() {
+        RawBsonDocument rawDocument = new RawBsonDocument(createDocument(), new BsonDocumentCodec());
+
+        int hashCode = rawDocument.hashCode();
+        BsonValue nested = rawDocument.entrySet().iterator().next().getValue();
+
+        assertEquals(hashCode, rawDocument.hashCode());
+        assertSame(nested, rawDocument.values().iterator().next());
+        assertSame(nested, rawDocument.get("a"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowTheDecodedFormToBeModified() {
+        new RawBsonDocument(createDocument(), new BsonDocumentCodec()).keySet().remove("a");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowNestedArraysToBeModified() {
+        new RawBsonDocument(createDocument(), new BsonDocumentCodec()).get("d").asArray().add(new BsonInt32(2));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowNestedArraysInTheDecodedFormToBeModified() {
+        RawBsonDocument rawDocument = new RawBsonDocument(createDocument(), new BsonDocumentCodec());
+        rawDocument.values();
+        rawDocument.get("d").asArray().set(0, new BsonInt32(2));
+    }
+
+    @Test
+    public void shouldBeEmptyForEmptyDocument() {
+        RawBsonDocument rawDocument = new RawBsonDocument(new BsonDocument(), new BsonDocumentCodec());
+
+        assertTrue(rawDocument.isEmpty());
+        assertEquals(0, rawDocument.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldBeImmutable() {
+        new RawBsonDocument(createDocument(), new BsonDocumentCodec()).put("e", new BsonInt32(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidRange() {
+        new RawBsonDocument(new byte[10], 8, 5);
+    }
+
+    private BsonDocument createDocument() {
+        return new BsonDocument("a", new BsonInt32(1))
+               .append("b", new BsonString("hi"))
+               .append("c", new BsonDocument("x", new BsonInt64(42L)))
+               .append("d", new BsonArray(Arrays.<BsonValue>asList(new BsonInt32(1), new BsonDocument("y", new BsonBoolean(true)))));
+    }
 }
@@ -58,6 +58,6 @@ class RawBsonDocumentCodecSpecification extends Specification {
         RawBsonDocument buffer = codec.decode(reader, DecoderContext.builder().build())
 
         then:
-        buffer.byteBuffer.array() == documentBytes
+        buffer.getByteBuffer().array() == documentBytes
     }
 }
\ No newline at end of file
@@ -20,12 +20,18 @@ import org.bson.AbstractBsonReader;
 import org.bson.BsonBinary;
 import org.bson.BsonBinarySubType;
 import org.bson.BsonDbPointer;
+import org.bson.BsonDocument;
 import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.BsonType;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
 import org.bson.types.ObjectId;
 import org.junit.Test;
 
+import java.io.StringReader;
+
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
@@ -33,6 +39,23 @@ import static org.junit.Assert.assertEquals;
 public class JsonReaderTest {
     private AbstractBsonReader bsonReader;
 
+    @Test
+    public void testReaderWithSmallBuffer() {
+        String json = "{ \"name\" : \"a string longer than the buffer\", \"n\" : NumberLong(12345678901), \"r\" : /ab+c/i }";
+        BsonDocument document = new BsonDocumentCodec().decode(new JsonReader(new StringReader(json), 4),
+                                                               DecoderContext.builder().build());
+        assertEquals(new BsonDocumentCodec().decode(new JsonReader(json), DecoderContext.builder().build()), document);
+        assertEquals(new BsonString("a string longer than the buffer"), document.get("name"));
+    }
+
+    @Test
+    public void testReaderWithSupplementaryCharacters() {
+        String json = "{ \"s\" : \"\ud83d\ude00 smile\" }";
+        BsonDocument document = new BsonDocumentCodec().decode(new JsonReader(new StringReader(json), 2),
+                                                               DecoderContext.builder().build());
+        assertEquals(new BsonDocumentCodec().decode(new JsonReader(json), DecoderContext.builder().build()), document);
+    }
+
     @Test
     public void testArrayEmpty() {
         String json = "[]";
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.json;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.ByteBufNIO;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.io.BasicInputBuffer;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class NewlineDelimitedJsonReaderTest {
+
+    @Test
+    public void testReadDocuments() {
+        NewlineDelimitedJsonReader reader = new NewlineDelimitedJsonReader(new StringReader("{ \"_id\" : 1, \"x\" : \"a\" }\n"
+                                                                                              + "{ \"_id\" : 2, \"x\" : [1, 2] }\n"
+                                                                                              + "\n"
+                                                                                              + "{ \"_id\" : 3 }"));
+
+        assertEquals(new BsonDocument("_id", new BsonInt32(1)).append("x", new BsonString("a")), reader.readDocument());
+        assertEquals(new BsonInt32(2), reader.readDocument().get("_id"));
+        assertEquals(new BsonDocument("_id", new BsonInt32(3)), reader.readDocument());
+        assertNull(reader.readDocument());
+        assertNull(reader.readDocument());
+    }
+
+    @Test
+    public void testEmptyInput() {
+        assertNull(new NewlineDelimitedJsonReader(new StringReader("  \n ")).readDocument());
+    }
+
+    @Test
+    public void testPipeDocuments() {
+        NewlineDelimitedJsonReader reader = new NewlineDelimitedJsonReader(new StringReader("{ \"_id\" : 1 }\n{ \"_id\" : 2 }\n"));
+        for (int i = 1; i <= 2; i++) {
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            BsonBinaryWriter writer = new BsonBinaryWriter(buffer, false);
+            assertTrue(reader.pipeDocument(writer));
+            ByteBufNIO bytes = new ByteBufNIO(ByteBuffer.wrap(buffer.toByteArray()));
+            BsonBinaryReader binaryReader = new BsonBinaryReader(new BasicInputBuffer(bytes), true);
+            assertEquals(new BsonDocument("_id", new BsonInt32(i)),
+                         new BsonDocumentCodec().decode(binaryReader, DecoderContext.builder().build()));
+        }
+        assertFalse(reader.pipeDocument(new BsonBinaryWriter(new BasicOutputBuffer(), false)));
+    }
+
+    @Test
+    public void testValueThatIsNotADocument() {
+        NewlineDelimitedJsonReader reader = new NewlineDelimitedJsonReader(new StringReader("{ \"_id\" : 1 }\n42\n"));
+        reader.readDocument();
+        try {
+            reader.readDocument();
+            fail();
+        } catch (JsonParseException e) {
+            // all good
+        }
+    }
+}
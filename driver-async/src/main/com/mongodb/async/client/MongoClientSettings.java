@@ -50,6 +50,7 @@ public final class MongoClientSettings {
     private final ConnectionPoolSettings connectionPoolSettings;
     private final ServerSettings serverSettings;
     private final SSLSettings sslSettings;
+    private final boolean commandLatencyMBeansEnabled;
 
     /**
      * Convenience method to create a Builder.
@@ -78,6 +79,7 @@ public final class MongoClientSettings {
         private ServerSettings serverSettings = ServerSettings.builder().build();
         private SSLSettings sslSettings = SSLSettings.builder().build();
         private List<MongoCredential> credentialList = Collections.emptyList();
+        private boolean commandLatencyMBeansEnabled;
 
         private Builder() {
         }
@@ -191,6 +193,18 @@ public final class MongoClientSettings {
             return this;
         }
 
+        /**
+         * Sets whether the client registers a JMX MBean for the latency of each command on each server.
+         *
+         * @param commandLatencyMBeansEnabled whether the command latency MBeans are enabled
+         * @return {@code this}
+         * @see MongoClientSettings#isCommandLatencyMBeansEnabled()
+         */
+        public Builder commandLatencyMBeansEnabled(final boolean commandLatencyMBeansEnabled) {
+            this.commandLatencyMBeansEnabled = commandLatencyMBeansEnabled;
+            return this;
+        }
+
         /**
          * Build an instance of MongoClientOptions.
          *
@@ -298,6 +312,19 @@ public final class MongoClientSettings {
         return serverSettings;
     }
 
+    /**
+     * Gets whether the client registers a JMX MBean for the latency of each command on each server.  Recording the latencies adds a little
+     * work to every command, so it is off unless enabled.
+     * <p/>
+     * Default is false.
+     *
+     * @return whether the command latency MBeans are enabled
+     * @see com.mongodb.management.JMXCommandListener
+     */
+    public boolean isCommandLatencyMBeansEnabled() {
+        return commandLatencyMBeansEnabled;
+    }
+
     private MongoClientSettings(final Builder builder) {
         readPreference = builder.readPreference;
         writeConcern = builder.writeConcern;
@@ -309,5 +336,6 @@ public final class MongoClientSettings {
         heartbeatSocketSettings = builder.heartbeatSocketSettings;
         connectionPoolSettings = builder.connectionPoolSettings;
         sslSettings = builder.sslSettings;
+        commandLatencyMBeansEnabled = builder.commandLatencyMBeansEnabled;
     }
 }
@@ -27,6 +27,7 @@ import com.mongodb.connection.ServerSettings;
 import com.mongodb.connection.SocketSettings;
 import com.mongodb.connection.StreamFactory;
 import com.mongodb.connection.netty.NettyStreamFactory;
+import com.mongodb.management.JMXCommandListener;
 import com.mongodb.management.JMXConnectionPoolListener;
 
 /**
@@ -73,10 +74,12 @@ public final class MongoClients {
 
     private static Cluster createCluster(final MongoClientSettings settings, final StreamFactory streamFactory) {
         StreamFactory heartbeatStreamFactory = getHeartbeatStreamFactory(settings);
+        JMXCommandListener commandListener = settings.isCommandLatencyMBeansEnabled() ? new JMXCommandListener() : null;
         return new DefaultClusterFactory().create(settings.getClusterSettings(), settings.getServerSettings(),
                                                   settings.getConnectionPoolSettings(), streamFactory,
                                                   heartbeatStreamFactory,
-                                                  settings.getCredentialList(), null, new JMXConnectionPoolListener(), null);
+                                                  settings.getCredentialList(), commandListener, new JMXConnectionPoolListener(), null,
+                                                  commandListener);
     }
 
     private static StreamFactory getHeartbeatStreamFactory(final MongoClientSettings settings) {
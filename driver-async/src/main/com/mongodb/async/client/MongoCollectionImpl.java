@@ -21,6 +21,7 @@ import com.mongodb.Function;
 import com.mongodb.MongoException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.ReadPreference;
+import com.mongodb.async.MongoAsyncBatchCursor;
 import com.mongodb.async.MongoAsyncCursor;
 import com.mongodb.async.MongoFuture;
 import com.mongodb.codecs.CollectibleCodec;
@@ -276,6 +277,11 @@ class MongoCollectionImpl<T> implements MongoCollection<T> {
             return retVal;
         }
 
+        @Override
+        public MongoFuture<MongoAsyncBatchCursor<T>> batchCursor() {
+            return execute(new QueryOperation<T>(getNamespace(), find, getCodec()).asBatchCursorOperation(), readPreference);
+        }
+
         @Override
         public <A extends Collection<? super T>> MongoFuture<A> into(final A target) {
             final SingleResultFuture<A> future = new SingleResultFuture<A>();
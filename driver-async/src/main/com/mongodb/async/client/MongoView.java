@@ -17,6 +17,8 @@
 package com.mongodb.async.client;
 
 import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.async.MongoAsyncBatchCursor;
+import com.mongodb.async.MongoFuture;
 import com.mongodb.operation.QueryFlag;
 import org.mongodb.ConvertibleToDocument;
 import org.mongodb.Document;
@@ -114,4 +116,12 @@ public interface MongoView<T> extends MongoWritableView<T>, MongoReadableView<T>
      * @return this
      */
     MongoView<T> upsert();
+
+    /**
+     * Queries for the documents in the view, returning a cursor that fetches further batches only when the caller asks for them.  The
+     * cursor must be closed if it is not iterated to the end.
+     *
+     * @return a future for the cursor
+     */
+    MongoFuture<MongoAsyncBatchCursor<T>> batchCursor();
 }
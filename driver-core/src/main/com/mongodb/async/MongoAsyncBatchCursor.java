@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.async;
+
+import java.util.List;
+
+/**
+ * An asynchronous cursor that is iterated a batch at a time, at the pace of the caller.  No more documents are requested from the server
+ * until the caller asks for the next batch, so a slow consumer does not cause the results to be buffered in memory.
+ *
+ * @param <T> the document type
+ * @since 3.0
+ */
+public interface MongoAsyncBatchCursor<T> {
+    /**
+     * Asynchronously fetches the next batch of documents.  The first batch is the one returned by the query itself, and later batches are
+     * requested from the server with the given batch size.  Only one batch may be requested at a time: the returned future must complete
+     * before this method is called again.
+     *
+     * @param batchSize the maximum number of documents to request from the server, or 0 for the cursor's own batch size
+     * @return a future for the next batch of documents, which completes with null once the cursor is exhausted or closed
+     */
+    MongoFuture<List<T>> nextBatch(int batchSize);
+
+    /**
+     * Closes the cursor, killing the server cursor if it is still open.  If a batch is being fetched, the server cursor is killed once
+     * the batch arrives, and the batch is discarded.  This method may be called from any thread, and more than once.
+     */
+    void close();
+}
@@ -16,8 +16,10 @@
 
 package com.mongodb.binding;
 
+import com.mongodb.MongoException;
 import com.mongodb.ReadPreference;
 import com.mongodb.async.MongoFuture;
+import com.mongodb.async.SingleResultCallback;
 import com.mongodb.connection.Cluster;
 import com.mongodb.connection.Connection;
 import com.mongodb.connection.Server;
@@ -63,19 +65,34 @@ public class AsyncClusterBinding extends AbstractReferenceCounted implements Asy
 
     @Override
     public MongoFuture<AsyncConnectionSource> getReadConnectionSource() {
-        return new SingleResultFuture<AsyncConnectionSource>(new MyConnectionSource(new ReadPreferenceServerSelector(readPreference)));
+        return getAsyncClusterBindingConnectionSource(new ReadPreferenceServerSelector(readPreference));
     }
 
     @Override
     public MongoFuture<AsyncConnectionSource> getWriteConnectionSource() {
-        return new SingleResultFuture<AsyncConnectionSource>(new MyConnectionSource(new PrimaryServerSelector()));
+        return getAsyncClusterBindingConnectionSource(new PrimaryServerSelector());
+    }
+
+    private MongoFuture<AsyncConnectionSource> getAsyncClusterBindingConnectionSource(final ServerSelector serverSelector) {
+        final SingleResultFuture<AsyncConnectionSource> future = new SingleResultFuture<AsyncConnectionSource>();
+        cluster.selectServerAsync(serverSelector, maxWaitTimeMS, MILLISECONDS).register(new SingleResultCallback<Server>() {
+            @Override
+            public void onResult(final Server server, final MongoException e) {
+                if (e != null) {
+                    future.init(null, e);
+                } else {
+                    future.init(new MyConnectionSource(server), null);
+                }
+            }
+        });
+        return future;
     }
 
     private final class MyConnectionSource extends AbstractReferenceCounted implements AsyncConnectionSource {
         private final Server server;
 
-        private MyConnectionSource(final ServerSelector serverSelector) {
-            this.server = cluster.selectServer(serverSelector, maxWaitTimeMS, MILLISECONDS);
+        private MyConnectionSource(final Server server) {
+            this.server = server;
             AsyncClusterBinding.this.retain();
         }
 
@@ -86,7 +103,7 @@ public class AsyncClusterBinding extends AbstractReferenceCounted implements Asy
 
         @Override
         public MongoFuture<Connection> getConnection() {
-            return new SingleResultFuture<Connection>(server.getConnection());
+            return server.getConnectionAsync();
         }
 
         public AsyncConnectionSource retain() {
@@ -30,6 +30,7 @@ import org.bson.types.Symbol;
 import org.mongodb.CodeWithScope;
 import org.mongodb.Document;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -153,6 +154,10 @@ public class BsonTypeClassMap {
         return map.get(bsonType);
     }
 
+    Collection<Class<?>> getClasses() {
+        return map.values();
+    }
+
     private void addDefaults() {
         map.put(BsonType.ARRAY, List.class);
         map.put(BsonType.BINARY, Binary.class);
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.codecs;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.codecs.PojoModel.ID_FIELD_NAME;
+import static java.lang.String.format;
+
+/**
+ * A Codec for plain Java classes, which writes and reads the properties of an instance directly, without going through an intermediate
+ * document.  The codec for each property is looked up once, from the declared type of the property, and is used for every value that is
+ * an instance of that type.  Other values are encoded with the codec for their own class.  The exception is a property declared as a
+ * supertype of the classes that the {@code BsonTypeClassMap} gives for BSON types, such as {@code Object} or {@code Number}, whose values
+ * are always encoded with the codec for their own class and decoded as the class that the {@code BsonTypeClassMap} gives for the BSON
+ * type.  Null values are not written, and document fields that are not properties are ignored when decoding.
+ *
+ * <p>The elements of a collection property are likewise decoded as the classes that the {@code BsonTypeClassMap} gives for their BSON
+ * types, so a collection property must be declared with an element type to which one of those classes can be assigned, e.g.
+ * {@code List<String>} or {@code List<Object>}.  A codec can not be created for a class with a property such as {@code List<Address>},
+ * as its elements would be encoded as addresses but decoded as documents.</p>
+ *
+ * @param <T> the class
+ * @see PojoCodecProvider
+ * @since 3.0
+ */
+public final class PojoCodec<T> implements CollectibleCodec<T> {
+    private final PojoModel<T> model;
+    private final CodecRegistry registry;
+    private final BsonTypeClassMap bsonTypeClassMap;
+    private final IdGenerator idGenerator;
+    private final Codec<?>[] propertyCodecs;
+
+    PojoCodec(final PojoModel<T> model, final CodecRegistry registry, final BsonTypeClassMap bsonTypeClassMap) {
+        this.model = notNull("model", model);
+        this.registry = notNull("registry", registry);
+        this.bsonTypeClassMap = notNull("bsonTypeClassMap", bsonTypeClassMap);
+        this.idGenerator = new ObjectIdGenerator();
+        List<PojoProperty> properties = model.getProperties();
+        this.propertyCodecs = new Codec<?>[properties.size()];
+        for (int i = 0; i < properties.size(); i++) {
+            checkCollectionElementType(properties.get(i));
+            propertyCodecs[i] = getCodecForType(properties.get(i).getType());
+        }
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        List<PojoProperty> properties = model.getProperties();
+        for (int i = 0; i < properties.size(); i++) {
+            PojoProperty property = properties.get(i);
+            Object propertyValue = property.get(value);
+            if (propertyValue == null) {
+                continue;
+            }
+            writer.writeName(property.getName());
+            writeValue(writer, encoderContext, propertyCodecs[i], propertyValue);
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        T instance = model.newInstance();
+        List<PojoProperty> properties = model.getProperties();
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            int index = model.getPropertyIndex(reader.readName());
+            if (index == -1) {
+                reader.skipValue();
+            } else if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                if (!properties.get(index).isPrimitive()) {
+                    properties.get(index).set(instance, null);
+                }
+            } else {
+                properties.get(index).set(instance, readValue(reader, decoderContext, propertyCodecs[index]));
+            }
+        }
+        reader.readEndDocument();
+
+        return instance;
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return model.getType();
+    }
+
+    /**
+     * Generates an {@code ObjectId} for the {@code _id} property of the given instance, if the property is null and can hold one.
+     *
+     * @param document the instance
+     */
+    @Override
+    public void generateIdIfAbsentFromDocument(final T document) {
+        PojoProperty idProperty = model.getIdProperty();
+        if (idProperty != null && idProperty.get(document) == null) {
+            Object id = idGenerator.generate();
+            if (idProperty.getType().isInstance(id)) {
+                idProperty.set(document, id);
+            }
+        }
+    }
+
+    @Override
+    public boolean documentHasId(final T document) {
+        PojoProperty idProperty = model.getIdProperty();
+        return idProperty != null && idProperty.get(document) != null;
+    }
+
+    @Override
+    public BsonValue getDocumentId(final T document) {
+        if (!documentHasId(document)) {
+            throw new IllegalStateException("The document does not contain an _id");
+        }
+
+        Object id = model.getIdProperty().get(document);
+        if (id instanceof BsonValue) {
+            return (BsonValue) id;
+        }
+
+        BsonDocument idHoldingDocument = new BsonDocument();
+        BsonWriter writer = new BsonDocumentWriter(idHoldingDocument);
+        writer.writeStartDocument();
+        writer.writeName(ID_FIELD_NAME);
+        writeValue(writer, EncoderContext.builder().build(), propertyCodecs[model.getPropertyIndex(ID_FIELD_NAME)], id);
+        writer.writeEndDocument();
+        return idHoldingDocument.get(ID_FIELD_NAME);
+    }
+
+    private void checkCollectionElementType(final PojoProperty property) {
+        if (!Collection.class.isAssignableFrom(property.getType()) || !(property.getGenericType() instanceof ParameterizedType)) {
+            return;
+        }
+        Type[] typeArguments = ((ParameterizedType) property.getGenericType()).getActualTypeArguments();
+        if (typeArguments.length != 1) {
+            return;
+        }
+        Class<?> elementType;
+        if (typeArguments[0] instanceof Class) {
+            elementType = (Class<?>) typeArguments[0];
+        } else if (typeArguments[0] instanceof ParameterizedType) {
+            elementType = (Class<?>) ((ParameterizedType) typeArguments[0]).getRawType();
+        } else {
+            return;
+        }
+        if (isAssignableFromADecodedType(elementType)) {
+            return;
+        }
+        throw new CodecConfigurationException(format("The property '%s' of %s is a collection of %s, but its elements can only be "
+                                                     + "decoded as the classes in the BsonTypeClassMap", property.getName(),
+                                                     model.getType().getName(), elementType.getName()));
+    }
+
+    // A property declared as a supertype of the decoded types has no codec of its own, as the BsonTypeClassMap decides the class of each
+    // value.  Any other declared type must have a codec in the registry, and an exception from the registry is a configuration error.
+    private Codec<?> getCodecForType(final Class<?> type) {
+        if (!bsonTypeClassMap.getClasses().contains(type) && isAssignableFromADecodedType(type)) {
+            return null;
+        }
+        return registry.get(type);
+    }
+
+    private boolean isAssignableFromADecodedType(final Class<?> type) {
+        for (Class<?> decodedType : bsonTypeClassMap.getClasses()) {
+            if (type.isAssignableFrom(decodedType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeValue(final BsonWriter writer, final EncoderContext encoderContext, final Codec<?> propertyCodec,
+                            final Object value) {
+        Codec codec = propertyCodec != null && propertyCodec.getEncoderClass().isInstance(value)
+                      ? propertyCodec
+                      : registry.get(value.getClass());
+        encoderContext.encodeWithChildContext(codec, writer, value);
+    }
+
+    private Object readValue(final BsonReader reader, final DecoderContext decoderContext, final Codec<?> propertyCodec) {
+        Codec<?> codec = propertyCodec != null ? propertyCodec : registry.get(bsonTypeClassMap.get(reader.getCurrentBsonType()));
+        return codec.decode(reader, decoderContext);
+    }
+}
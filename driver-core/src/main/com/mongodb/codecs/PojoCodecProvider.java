@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.codecs;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * A {@code CodecProvider} for plain Java classes.  The provider builds a model of each class the first time a codec is requested for it,
+ * and the codecs that it provides use the model to write and read the fields of an instance directly, so no intermediate document is
+ * created.  Each class must have a constructor that takes no arguments, although it need not be public.
+ *
+ * @see PojoCodec
+ * @since 3.0
+ */
+public class PojoCodecProvider implements CodecProvider {
+    private final Set<Class<?>> classes;
+    private final BsonTypeClassMap bsonTypeClassMap;
+    private final ConcurrentMap<Class<?>, PojoModel<?>> models = new ConcurrentHashMap<Class<?>, PojoModel<?>>();
+
+    /**
+     * Construct a new instance that provides codecs for the given classes, with a default {@code BsonTypeClassMap}.
+     *
+     * @param classes the classes
+     */
+    public PojoCodecProvider(final List<Class<?>> classes) {
+        this(classes, new BsonTypeClassMap());
+    }
+
+    /**
+     * Construct a new instance that provides codecs for the given classes, with the given {@code BsonTypeClassMap}.
+     *
+     * @param classes          the classes
+     * @param bsonTypeClassMap the {@code BsonTypeClassMap} with which to decode properties for which there is no codec for the declared
+     *                         type
+     */
+    public PojoCodecProvider(final List<Class<?>> classes, final BsonTypeClassMap bsonTypeClassMap) {
+        this.classes = new HashSet<Class<?>>(notNull("classes", classes));
+        this.bsonTypeClassMap = notNull("bsonTypeClassMap", bsonTypeClassMap);
+    }
+
+    @Override
+    public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
+        if (!classes.contains(clazz)) {
+            return null;
+        }
+        return new PojoCodec<T>(getModel(clazz), registry, bsonTypeClassMap);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> PojoModel<T> getModel(final Class<T> clazz) {
+        PojoModel<T> model = (PojoModel<T>) models.get(clazz);
+        if (model == null) {
+            model = PojoModel.create(clazz);
+            models.putIfAbsent(clazz, model);
+        }
+        return model;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.codecs;
+
+import org.bson.codecs.configuration.CodecConfigurationException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * The model of a plain Java class that is stored as a document: its properties, in the order in which they are written, and how to
+ * create a new instance.  A model is built once per class, by reflection, and is then immutable.
+ *
+ * @param <T> the class
+ */
+final class PojoModel<T> {
+    static final String ID_FIELD_NAME = "_id";
+    private static final String ID_PROPERTY_NAME = "id";
+
+    private final Class<T> type;
+    private final Constructor<T> constructor;
+    private final List<PojoProperty> properties;
+    private final Map<String, Integer> propertyIndexes;
+    private final PojoProperty idProperty;
+
+    private PojoModel(final Class<T> type, final Constructor<T> constructor, final List<PojoProperty> properties) {
+        this.type = type;
+        this.constructor = constructor;
+        this.properties = Collections.unmodifiableList(properties);
+        this.propertyIndexes = new HashMap<String, Integer>();
+        for (int i = 0; i < properties.size(); i++) {
+            if (propertyIndexes.put(properties.get(i).getName(), i) != null) {
+                throw new CodecConfigurationException(format("%s has more than one property stored as '%s'", type.getName(),
+                                                             properties.get(i).getName()));
+            }
+        }
+        this.idProperty = properties.isEmpty() || !properties.get(0).getName().equals(ID_FIELD_NAME) ? null : properties.get(0);
+    }
+
+    /**
+     * Creates a model of the given class.  Every non-static, non-transient instance field of the class and its superclasses is a
+     * property, stored under the name of the field, except that a field named {@code id} is stored as {@code _id}.  The {@code _id}
+     * property is written first, followed by the rest in declaration order, superclass fields first.
+     *
+     * @param type the class, which must have a constructor that takes no arguments
+     * @param <T>  the class
+     * @return the model
+     * @throws CodecConfigurationException if the class can not be modeled
+     */
+    static <T> PojoModel<T> create(final Class<T> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new CodecConfigurationException(format("%s can not be instantiated", type.getName()));
+        }
+        Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new CodecConfigurationException(format("%s does not have a constructor that takes no arguments", type.getName()), e);
+        }
+
+        List<Class<?>> hierarchy = new ArrayList<Class<?>>();
+        for (Class<?> cur = type; cur != null && cur != Object.class; cur = cur.getSuperclass()) {
+            hierarchy.add(0, cur);
+        }
+
+        List<PojoProperty> properties = new ArrayList<PojoProperty>();
+        for (final Class<?> cur : hierarchy) {
+            for (final Field field : cur.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                String name = field.getName().equals(ID_PROPERTY_NAME) ? ID_FIELD_NAME : field.getName();
+                PojoProperty property = new PojoProperty(name, field);
+                if (name.equals(ID_FIELD_NAME)) {
+                    properties.add(0, property);
+                } else {
+                    properties.add(property);
+                }
+            }
+        }
+        return new PojoModel<T>(type, constructor, properties);
+    }
+
+    Class<T> getType() {
+        return type;
+    }
+
+    List<PojoProperty> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Gets the index in the list of properties of the property stored in the document field with the given name.
+     *
+     * @param name the document field name
+     * @return the index, or -1 if there is no such property
+     */
+    int getPropertyIndex(final String name) {
+        Integer index = propertyIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the property stored as {@code _id}.
+     *
+     * @return the property, or null if there is none
+     */
+    PojoProperty getIdProperty() {
+        return idProperty;
+    }
+
+    T newInstance() {
+        try {
+            return constructor.newInstance();
+        } catch (InstantiationException e) {
+            throw new CodecConfigurationException(format("Unable to create an instance of %s", type.getName()), e);
+        } catch (IllegalAccessException e) {
+            throw new CodecConfigurationException(format("Unable to create an instance of %s", type.getName()), e);
+        } catch (InvocationTargetException e) {
+            throw new CodecConfigurationException(format("Unable to create an instance of %s", type.getName()), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.codecs;
+
+import org.bson.codecs.configuration.CodecConfigurationException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * A property of a plain Java class that is stored as a field of a document, accessed directly through the instance field that declares
+ * it.
+ */
+final class PojoProperty {
+    private static final Map<Class<?>, Class<?>> BOXED_TYPES = new HashMap<Class<?>, Class<?>>();
+
+    static {
+        BOXED_TYPES.put(boolean.class, Boolean.class);
+        BOXED_TYPES.put(byte.class, Byte.class);
+        BOXED_TYPES.put(char.class, Character.class);
+        BOXED_TYPES.put(short.class, Short.class);
+        BOXED_TYPES.put(int.class, Integer.class);
+        BOXED_TYPES.put(long.class, Long.class);
+        BOXED_TYPES.put(float.class, Float.class);
+        BOXED_TYPES.put(double.class, Double.class);
+    }
+
+    private final String name;
+    private final Field field;
+    private final Class<?> type;
+
+    PojoProperty(final String name, final Field field) {
+        this.name = name;
+        this.field = field;
+        this.type = field.getType().isPrimitive() ? BOXED_TYPES.get(field.getType()) : field.getType();
+        field.setAccessible(true);
+    }
+
+    /**
+     * Gets the name of the document field in which the property is stored.
+     *
+     * @return the name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the type of the property, with primitive types replaced by their wrapper classes.
+     *
+     * @return the type
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the declared type of the property, including any type arguments.
+     *
+     * @return the generic type
+     */
+    Type getGenericType() {
+        return field.getGenericType();
+    }
+
+    boolean isPrimitive() {
+        return field.getType().isPrimitive();
+    }
+
+    Object get(final Object instance) {
+        try {
+            return field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw new CodecConfigurationException(format("Unable to get the value of %s", field), e);
+        }
+    }
+
+    void set(final Object instance, final Object value) {
+        try {
+            field.set(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new CodecConfigurationException(format("Unable to set the value of %s", field), e);
+        } catch (IllegalArgumentException e) {
+            throw new CodecConfigurationException(format("Unable to set the value of %s to a %s", field, value.getClass().getName()), e);
+        }
+    }
+}
@@ -29,7 +29,6 @@ import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.CompletionHandler;
 import java.nio.channels.InterruptedByTimeoutException;
-import java.util.Iterator;
 import java.util.List;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -69,16 +68,15 @@ final class AsynchronousSocketChannelStream implements Stream {
 
     @Override
     public void writeAsync(final List<ByteBuf> buffers, final AsyncCompletionHandler<Void> handler) {
-        final AsyncWritableByteChannel byteChannel = new AsyncWritableByteChannelAdapter();
-        final Iterator<ByteBuf> iter = buffers.iterator();
-        pipeOneBuffer(byteChannel, iter.next(), new AsyncCompletionHandler<Void>() {
+        ensureOpen(new AsyncCompletionHandler<Void>() {
             @Override
             public void completed(final Void t) {
-                if (iter.hasNext()) {
-                    pipeOneBuffer(byteChannel, iter.next(), this);
-                } else {
-                    handler.completed(null);
+                ByteBuffer[] byteBuffers = new ByteBuffer[buffers.size()];
+                for (int i = 0; i < buffers.size(); i++) {
+                    byteBuffers[i] = buffers.get(i).asNIO();
                 }
+                channel.write(byteBuffers, 0, byteBuffers.length, 0, MILLISECONDS, null,
+                              new GatheringWriteCompletionHandler(byteBuffers, handler));
             }
 
             @Override
@@ -158,49 +156,32 @@ final class AsynchronousSocketChannelStream implements Stream {
         }
     }
 
-    private void pipeOneBuffer(final AsyncWritableByteChannel byteChannel, final ByteBuf byteBuffer,
-                               final AsyncCompletionHandler<Void> outerHandler) {
-        byteChannel.write(byteBuffer.asNIO(), new AsyncCompletionHandler<Void>() {
-            @Override
-            public void completed(final Void t) {
-                if (byteBuffer.hasRemaining()) {
-                    byteChannel.write(byteBuffer.asNIO(), this);
-                } else {
-                    outerHandler.completed(null);
-                }
-            }
+    // Writes all the buffers with as few gathering writes as the channel allows, resuming from the first buffer with bytes remaining
+    private final class GatheringWriteCompletionHandler implements CompletionHandler<Long, Void> {
+        private final ByteBuffer[] byteBuffers;
+        private final AsyncCompletionHandler<Void> handler;
+        private int offset;
 
-            @Override
-            public void failed(final Throwable t) {
-                outerHandler.failed(t);
-            }
-        });
-    }
+        private GatheringWriteCompletionHandler(final ByteBuffer[] byteBuffers, final AsyncCompletionHandler<Void> handler) {
+            this.byteBuffers = byteBuffers;
+            this.handler = handler;
+        }
 
-    private class AsyncWritableByteChannelAdapter implements AsyncWritableByteChannel {
         @Override
-        public void write(final ByteBuffer src, final AsyncCompletionHandler<Void> handler) {
-            ensureOpen(new AsyncCompletionHandler<Void>() {
-                @Override
-                public void completed(final Void t) {
-                    channel.write(src, null, new CompletionHandler<Integer, Object>() {
-                        @Override
-                        public void completed(final Integer result, final Object attachment) {
-                            handler.completed(null);
-                        }
-
-                        @Override
-                        public void failed(final Throwable exc, final Object attachment) {
-                            handler.failed(exc);
-                        }
-                    });
-                }
+        public void completed(final Long result, final Void attachment) {
+            while (offset < byteBuffers.length && !byteBuffers[offset].hasRemaining()) {
+                offset++;
+            }
+            if (offset == byteBuffers.length) {
+                handler.completed(null);
+            } else {
+                channel.write(byteBuffers, offset, byteBuffers.length - offset, 0, MILLISECONDS, null, this);
+            }
+        }
 
-                @Override
-                public void failed(final Throwable t) {
-                    handler.failed(t);
-                }
-            });
+        @Override
+        public void failed(final Throwable t, final Void attachment) {
+            handler.failed(t);
         }
     }
 
@@ -26,7 +26,7 @@ import static com.mongodb.assertions.Assertions.notNull;
 public class AsynchronousSocketChannelStreamFactory implements StreamFactory {
     private final SocketSettings settings;
     private final SSLSettings sslSettings;
-    private final BufferProvider bufferProvider = new PowerOfTwoBufferPool();
+    private final BufferProvider bufferProvider = new BoundedBufferPool(true);
 
     public AsynchronousSocketChannelStreamFactory(final SocketSettings settings, final SSLSettings sslSettings) {
         this.settings = notNull("settings", settings);
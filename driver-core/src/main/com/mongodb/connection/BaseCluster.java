@@ -16,10 +16,14 @@
 
 package com.mongodb.connection;
 
+import com.mongodb.MongoClientException;
+import com.mongodb.MongoException;
 import com.mongodb.MongoIncompatibleDriverException;
 import com.mongodb.MongoInterruptedException;
 import com.mongodb.MongoTimeoutException;
 import com.mongodb.ServerAddress;
+import com.mongodb.async.MongoFuture;
+import com.mongodb.async.SingleResultFuture;
 import com.mongodb.diagnostics.Loggers;
 import com.mongodb.diagnostics.logging.Logger;
 import com.mongodb.event.ClusterDescriptionChangedEvent;
@@ -29,16 +33,22 @@ import com.mongodb.selector.CompositeServerSelector;
 import com.mongodb.selector.ServerSelector;
 
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.assertions.Assertions.notNull;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
@@ -47,6 +57,7 @@ abstract class BaseCluster implements Cluster {
     private static final Logger LOGGER = Loggers.getLogger("cluster");
 
     private final AtomicReference<CountDownLatch> phase = new AtomicReference<CountDownLatch>(new CountDownLatch(1));
+    private final Deque<ServerSelectionRequest> waitQueue = new ConcurrentLinkedDeque<ServerSelectionRequest>();
     private final ClusterableServerFactory serverFactory;
     private final ThreadLocal<Random> random = new ThreadLocal<Random>() {
         @Override
@@ -60,6 +71,7 @@ abstract class BaseCluster implements Cluster {
 
     private volatile boolean isClosed;
     private volatile ClusterDescription description;
+    private volatile SelectionCache selectionCache = new SelectionCache(null);
 
     public BaseCluster(final String clusterId, final ClusterSettings settings, final ClusterableServerFactory serverFactory,
                        final ClusterListener clusterListener) {
@@ -78,7 +90,7 @@ abstract class BaseCluster implements Cluster {
             CountDownLatch currentPhase = phase.get();
             ClusterDescription curDescription = description;
             ServerSelector compositeServerSelector = getCompositeServerSelector(serverSelector);
-            List<ServerDescription> serverDescriptions = compositeServerSelector.select(curDescription);
+            List<ServerDescription> serverDescriptions = select(compositeServerSelector, curDescription);
 
             boolean selectionFailureLogged = false;
 
@@ -90,7 +102,7 @@ abstract class BaseCluster implements Cluster {
                 throwIfIncompatible(curDescription);
 
                 if (!serverDescriptions.isEmpty()) {
-                    ClusterableServer server = getRandomServer(new ArrayList<ServerDescription>(serverDescriptions));
+                    ClusterableServer server = chooseServer(serverDescriptions);
                     if (server != null) {
                         return server;
                     }
@@ -117,7 +129,7 @@ abstract class BaseCluster implements Cluster {
 
                 currentPhase = phase.get();
                 curDescription = description;
-                serverDescriptions = compositeServerSelector.select(curDescription);
+                serverDescriptions = select(compositeServerSelector, curDescription);
             }
 
         } catch (InterruptedException e) {
@@ -125,6 +137,27 @@ abstract class BaseCluster implements Cluster {
         }
     }
 
+    @Override
+    public MongoFuture<Server> selectServerAsync(final ServerSelector serverSelector, final long maxWaitTime, final TimeUnit timeUnit) {
+        isTrue("open", !isClosed());
+
+        ServerSelectionRequest request = new ServerSelectionRequest(serverSelector, getCompositeServerSelector(serverSelector),
+                                                                    maxWaitTime, timeUnit);
+        if (!handleServerSelectionRequest(request, description)) {
+            LOGGER.info(format("No server chosen by %s from cluster description %s. Waiting for %d ms before timing out",
+                               serverSelector, description, MILLISECONDS.convert(maxWaitTime, timeUnit)));
+            waitQueue.addLast(request);
+            connect();
+            scheduleRetry(request);
+
+            // the description may have changed between the first attempt and the request being queued
+            if (handleServerSelectionRequest(request, description)) {
+                waitQueue.remove(request);
+            }
+        }
+        return request.future;
+    }
+
     private ServerSelector getCompositeServerSelector(final ServerSelector serverSelector) {
         if (settings.getServerSelector() == null) {
             return serverSelector;
@@ -188,6 +221,11 @@ abstract class BaseCluster implements Cluster {
         if (!isClosed()) {
             isClosed = true;
             phase.get().countDown();
+            ServerSelectionRequest request = waitQueue.pollFirst();
+            while (request != null) {
+                request.complete(null, new MongoClientException("The cluster is closed"));
+                request = waitQueue.pollFirst();
+            }
             clusterListener.clusterClosed(new ClusterEvent(clusterId));
         }
     }
@@ -211,26 +249,80 @@ abstract class BaseCluster implements Cluster {
         description = newDescription;
         CountDownLatch current = phase.getAndSet(new CountDownLatch(1));
         current.countDown();
+
+        Iterator<ServerSelectionRequest> iter = waitQueue.iterator();
+        while (iter.hasNext()) {
+            if (handleServerSelectionRequest(iter.next(), newDescription)) {
+                iter.remove();
+            }
+        }
     }
 
     protected void fireChangeEvent() {
         clusterListener.clusterDescriptionChanged(new ClusterDescriptionChangedEvent(clusterId, description));
     }
 
-    // gets a random server that still exists in the cluster.  Returns null if there are none.
-    private ClusterableServer getRandomServer(final List<ServerDescription> serverDescriptions) {
+    // gets the servers that the selector chooses from the description, reusing the result of an earlier call with an equal selector and
+    // the same description instance
+    private List<ServerDescription> select(final ServerSelector serverSelector, final ClusterDescription clusterDescription) {
+        SelectionCache currentSelectionCache = selectionCache;
+        if (currentSelectionCache.clusterDescription != clusterDescription) {
+            currentSelectionCache = new SelectionCache(clusterDescription);
+            selectionCache = currentSelectionCache;
+        }
+        return currentSelectionCache.select(serverSelector);
+    }
+
+    // gets a server that still exists in the cluster, or null if there are none.  The server is chosen uniformly at random, unless
+    // load-aware selection is enabled, in which case it is the one with the lower expected latency of two chosen at random.  The list
+    // may be shared with other callers, so it is only copied, and never modified, when it names a server that has left the cluster.
+    private ClusterableServer chooseServer(final List<ServerDescription> serverDescriptions) {
+        int size = serverDescriptions.size();
+        int serverPos = getRandom().nextInt(size);
+        ClusterableServer server = getServer(serverDescriptions.get(serverPos).getAddress());
+        if (server == null) {
+            return chooseServerFromCopy(new ArrayList<ServerDescription>(serverDescriptions));
+        }
+        if (!settings.isLoadAwareServerSelectionEnabled() || size == 1) {
+            return server;
+        }
+        int otherServerPos = (serverPos + 1 + getRandom().nextInt(size - 1)) % size;
+        ClusterableServer otherServer = getServer(serverDescriptions.get(otherServerPos).getAddress());
+        if (otherServer != null && getExpectedLatency(otherServer) < getExpectedLatency(server)) {
+            return otherServer;
+        }
+        return server;
+    }
+
+    private ClusterableServer chooseServerFromCopy(final List<ServerDescription> serverDescriptions) {
+        ClusterableServer server = removeRandomServer(serverDescriptions);
+        if (server == null || !settings.isLoadAwareServerSelectionEnabled()) {
+            return server;
+        }
+        ClusterableServer otherServer = removeRandomServer(serverDescriptions);
+        if (otherServer != null && getExpectedLatency(otherServer) < getExpectedLatency(server)) {
+            return otherServer;
+        }
+        return server;
+    }
+
+    // removes random servers from the list until one is found that still exists in the cluster.  Returns null if there are none.
+    private ClusterableServer removeRandomServer(final List<ServerDescription> serverDescriptions) {
         while (!serverDescriptions.isEmpty()) {
             int serverPos = getRandom().nextInt(serverDescriptions.size());
-            ClusterableServer server = getServer(serverDescriptions.get(serverPos).getAddress());
+            ClusterableServer server = getServer(serverDescriptions.remove(serverPos).getAddress());
             if (server != null) {
                 return server;
-            } else {
-                serverDescriptions.remove(serverPos);
             }
         }
         return null;
     }
 
+    // an operation sent to the server is expected to wait behind the ones already in progress or queued for a connection
+    private static long getExpectedLatency(final ClusterableServer server) {
+        return (server.getOperationCount() + 1) * Math.max(1, server.getDescription().getRoundTripTimeNanos());
+    }
+
     protected Random getRandom() {
         return random.get();
     }
@@ -242,6 +334,52 @@ abstract class BaseCluster implements Cluster {
         return server;
     }
 
+    // returns true if the request is done, either by this call or previously
+    private boolean handleServerSelectionRequest(final ServerSelectionRequest request, final ClusterDescription curDescription) {
+        if (request.isDone()) {
+            return true;
+        }
+        try {
+            throwIfIncompatible(curDescription);
+
+            List<ServerDescription> serverDescriptions = select(request.compositeServerSelector, curDescription);
+            if (!serverDescriptions.isEmpty()) {
+                ClusterableServer server = chooseServer(serverDescriptions);
+                if (server != null) {
+                    request.complete(server, null);
+                    return true;
+                }
+            }
+
+            if (System.nanoTime() > request.endTimeNanos) {
+                request.complete(null, new MongoTimeoutException(format("Timed out while waiting for a server that matches %s after %d ms",
+                                                                        request.serverSelector, request.maxWaitTimeMS)));
+                return true;
+            }
+            return false;
+        } catch (MongoException e) {
+            request.complete(null, e);
+            return true;
+        }
+    }
+
+    // re-checks a waiting request, and attempts to connect, at the heartbeat connect retry frequency until it is done
+    private void scheduleRetry(final ServerSelectionRequest request) {
+        long delayNanos = Math.min(request.endTimeNanos - System.nanoTime(),
+                                   serverFactory.getSettings().getHeartbeatConnectRetryFrequency(NANOSECONDS));
+        SharedTimer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (handleServerSelectionRequest(request, description)) {
+                    waitQueue.remove(request);
+                } else {
+                    connect();
+                    scheduleRetry(request);
+                }
+            }
+        }, Math.max(0, delayNanos), NANOSECONDS);
+    }
+
     private void throwIfIncompatible(final ClusterDescription curDescription) {
         if (!curDescription.isCompatibleWithDriver()) {
             throw new MongoIncompatibleDriverException(format("This version of the driver is not compatible with one or more of "
@@ -249,4 +387,56 @@ abstract class BaseCluster implements Cluster {
                                                        curDescription);
         }
     }
+
+    // the results of selecting servers from a single cluster description, keyed by selector.  The number of entries is bounded so that
+    // selectors which do not implement equals, and so never match, can not grow it without limit while the description is current.
+    private static final class SelectionCache {
+        private static final int MAX_ENTRIES = 32;
+
+        private final ClusterDescription clusterDescription;
+        private final ConcurrentMap<ServerSelector, List<ServerDescription>> selections =
+            new ConcurrentHashMap<ServerSelector, List<ServerDescription>>();
+
+        SelectionCache(final ClusterDescription clusterDescription) {
+            this.clusterDescription = clusterDescription;
+        }
+
+        List<ServerDescription> select(final ServerSelector serverSelector) {
+            List<ServerDescription> serverDescriptions = selections.get(serverSelector);
+            if (serverDescriptions == null) {
+                serverDescriptions = unmodifiableList(serverSelector.select(clusterDescription));
+                if (selections.size() < MAX_ENTRIES) {
+                    selections.putIfAbsent(serverSelector, serverDescriptions);
+                }
+            }
+            return serverDescriptions;
+        }
+    }
+
+    private static final class ServerSelectionRequest {
+        private final ServerSelector serverSelector;
+        private final ServerSelector compositeServerSelector;
+        private final long maxWaitTimeMS;
+        private final long endTimeNanos;
+        private final SingleResultFuture<Server> future = new SingleResultFuture<Server>();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        ServerSelectionRequest(final ServerSelector serverSelector, final ServerSelector compositeServerSelector,
+                               final long maxWaitTime, final TimeUnit timeUnit) {
+            this.serverSelector = serverSelector;
+            this.compositeServerSelector = compositeServerSelector;
+            this.maxWaitTimeMS = MILLISECONDS.convert(maxWaitTime, timeUnit);
+            this.endTimeNanos = System.nanoTime() + NANOSECONDS.convert(maxWaitTime, timeUnit);
+        }
+
+        boolean isDone() {
+            return done.get();
+        }
+
+        void complete(final Server server, final MongoException e) {
+            if (done.compareAndSet(false, true)) {
+                future.init(server, e);
+            }
+        }
+    }
 }
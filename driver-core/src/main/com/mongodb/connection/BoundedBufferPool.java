@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mongodb.assertions.Assertions.isTrue;
+
+/**
+ * A buffer provider that pools buffers in power of two size classes, and bounds the number of bytes it retains.
+ * <p>
+ * Buffers can be allocated either on the heap or, to avoid the copy into a temporary direct buffer that NIO makes on every channel read
+ * and write of a heap buffer, off the heap.  Released buffers are kept in a small per-thread cache first, then in a shared pool for
+ * their size class, as long as neither the bytes retained for that size class nor the bytes retained in total exceed their limits.
+ * Buffers that don't fit are left to the garbage collector.  Requests larger than the largest size class are never pooled.
+ * </p>
+ * <p>
+ * The limits apply to the shared pools only.  Each thread that releases buffers may also hold one buffer of each size class up to 64KB
+ * in its cache, i.e. just under 128KB, so the pool as a whole can retain up to {@code maxBytes} plus 128KB for each such thread.  The
+ * cached bytes are not counted against the limits because the cache of a thread that exits is only reclaimed by the garbage collector,
+ * and would otherwise stay counted for good.
+ * </p>
+ *
+ * @since 3.0
+ */
+public class BoundedBufferPool implements BufferProvider {
+    private static final int HIGHEST_POWER_OF_TWO = 24;
+    private static final int MAX_THREAD_CACHED_POWER_OF_TWO = 16;
+    private static final long DEFAULT_MAX_BYTES_PER_SIZE_CLASS = 16 * 1024 * 1024;
+    private static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+    private final boolean direct;
+    private final long maxBytesPerSizeClass;
+    private final long maxBytes;
+    private final SizeClass[] sizeClasses = new SizeClass[HIGHEST_POWER_OF_TWO + 1];
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final ThreadLocal<ByteBuffer[]> threadCache = new ThreadLocal<ByteBuffer[]>() {
+        @Override
+        protected ByteBuffer[] initialValue() {
+            return new ByteBuffer[MAX_THREAD_CACHED_POWER_OF_TWO + 1];
+        }
+    };
+
+    /**
+     * Construct an instance with the default limits of 16MB retained per size class and 64MB retained in total.
+     *
+     * @param direct true if buffers should be allocated off the heap
+     */
+    public BoundedBufferPool(final boolean direct) {
+        this(direct, DEFAULT_MAX_BYTES_PER_SIZE_CLASS, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param direct               true if buffers should be allocated off the heap
+     * @param maxBytesPerSizeClass the maximum number of bytes to retain in the shared pool of any one size class
+     * @param maxBytes             the maximum number of bytes to retain in the shared pools of all size classes, not counting the
+     *                             per-thread caches
+     */
+    public BoundedBufferPool(final boolean direct, final long maxBytesPerSizeClass, final long maxBytes) {
+        isTrue("maxBytesPerSizeClass >= 0", maxBytesPerSizeClass >= 0);
+        isTrue("maxBytes >= 0", maxBytes >= 0);
+        this.direct = direct;
+        this.maxBytesPerSizeClass = maxBytesPerSizeClass;
+        this.maxBytes = maxBytes;
+        for (int i = 0; i < sizeClasses.length; i++) {
+            sizeClasses[i] = new SizeClass();
+        }
+    }
+
+    @Override
+    public ByteBuf getBuffer(final int size) {
+        int powerOfTwo = powerOfTwoFor(size);
+        ByteBuffer byteBuffer = powerOfTwo > HIGHEST_POWER_OF_TWO ? createNew(size) : get(powerOfTwo);
+
+        byteBuffer.clear();
+        byteBuffer.limit(size);
+        return new PooledByteBufNIO(byteBuffer);
+    }
+
+    /**
+     * Gets whether this pool allocates buffers off the heap.
+     *
+     * @return true if buffers are allocated off the heap
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Gets the number of bytes currently retained in the shared pools, not counting the per-thread caches.
+     *
+     * @return the number of retained bytes
+     */
+    public long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    private ByteBuffer get(final int powerOfTwo) {
+        if (powerOfTwo <= MAX_THREAD_CACHED_POWER_OF_TWO) {
+            ByteBuffer[] cache = threadCache.get();
+            ByteBuffer cached = cache[powerOfTwo];
+            if (cached != null) {
+                cache[powerOfTwo] = null;
+                return cached;
+            }
+        }
+
+        SizeClass sizeClass = sizeClasses[powerOfTwo];
+        ByteBuffer pooled = sizeClass.available.pollLast();
+        if (pooled != null) {
+            sizeClass.retainedBytes.addAndGet(-pooled.capacity());
+            retainedBytes.addAndGet(-pooled.capacity());
+            return pooled;
+        }
+        return createNew(1 << powerOfTwo);
+    }
+
+    private void release(final ByteBuffer buffer) {
+        int powerOfTwo = powerOfTwoFor(buffer.capacity());
+        if (powerOfTwo > HIGHEST_POWER_OF_TWO || buffer.capacity() != 1 << powerOfTwo) {
+            return;
+        }
+
+        if (powerOfTwo <= MAX_THREAD_CACHED_POWER_OF_TWO) {
+            ByteBuffer[] cache = threadCache.get();
+            if (cache[powerOfTwo] == null) {
+                cache[powerOfTwo] = buffer;
+                return;
+            }
+        }
+
+        SizeClass sizeClass = sizeClasses[powerOfTwo];
+        int capacity = buffer.capacity();
+        if (sizeClass.retainedBytes.addAndGet(capacity) > maxBytesPerSizeClass) {
+            sizeClass.retainedBytes.addAndGet(-capacity);
+            return;
+        }
+        if (retainedBytes.addAndGet(capacity) > maxBytes) {
+            retainedBytes.addAndGet(-capacity);
+            sizeClass.retainedBytes.addAndGet(-capacity);
+            return;
+        }
+        sizeClass.available.addLast(buffer);
+    }
+
+    private ByteBuffer createNew(final int size) {
+        ByteBuffer buf = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        return buf;
+    }
+
+    // the exponent of the smallest power of two that is greater than or equal to the size
+    static int powerOfTwoFor(final int size) {
+        return size <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+    }
+
+    private static final class SizeClass {
+        private final Deque<ByteBuffer> available = new ConcurrentLinkedDeque<ByteBuffer>();
+        private final AtomicLong retainedBytes = new AtomicLong();
+    }
+
+    private class PooledByteBufNIO extends ByteBufNIO {
+
+        public PooledByteBufNIO(final ByteBuffer buf) {
+            super(buf);
+        }
+
+        @Override
+        public void close() {
+            if (asNIO() != null) {
+                release(asNIO());
+                super.close();
+            }
+        }
+    }
+}
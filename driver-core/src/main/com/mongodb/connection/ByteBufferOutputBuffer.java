@@ -60,6 +60,30 @@ public class ByteBufferOutputBuffer extends OutputBuffer {
         position++;
     }
 
+    @Override
+    protected int writeAsciiCharacters(final String str, final int startIndex, final boolean checkForNullCharacters) {
+        int len = str.length();
+        int i = startIndex;
+        while (i < len) {
+            ByteBuf buf = getCurrentByteBuffer();
+            int end = Math.min(len, i + buf.remaining());
+            int runStart = i;
+            while (i < end) {
+                char c = str.charAt(i);
+                if (c >= 0x80 || (checkForNullCharacters && c == 0x0)) {
+                    break;
+                }
+                buf.put((byte) c);
+                i++;
+            }
+            position += i - runStart;
+            if (i < end) {
+                break;
+            }
+        }
+        return i;
+    }
+
     private ByteBuf getCurrentByteBuffer() {
         ByteBuf curByteBuffer = getByteBufferAtIndex(curBufferIndex);
         if (curByteBuffer.hasRemaining()) {
@@ -115,9 +139,19 @@ public class ByteBufferOutputBuffer extends OutputBuffer {
     @Override
     public int pipe(final OutputStream out) throws IOException {
         int total = 0;
+        byte[] copyBuffer = null;
         for (final ByteBuf cur : bufferList) {
             cur.flip();
-            out.write(cur.array(), 0, cur.limit());
+            if (cur.asNIO().hasArray()) {
+                out.write(cur.array(), 0, cur.limit());
+            } else {
+                // direct buffers have no backing array, so go through a copy
+                if (copyBuffer == null || copyBuffer.length < cur.limit()) {
+                    copyBuffer = new byte[cur.limit()];
+                }
+                cur.asNIO().duplicate().get(copyBuffer, 0, cur.limit());
+                out.write(copyBuffer, 0, cur.limit());
+            }
             total += cur.limit();
         }
         return total;
@@ -17,6 +17,7 @@
 package com.mongodb.connection;
 
 
+import com.mongodb.async.MongoFuture;
 import com.mongodb.selector.ServerSelector;
 
 import java.util.concurrent.TimeUnit;
@@ -27,6 +28,18 @@ public interface Cluster {
 
     Server selectServer(ServerSelector serverSelector, long maxWaitTime, TimeUnit timeUnit);
 
+    /**
+     * Asynchronously gets a server that matches the server selector.  The calling thread is never blocked: if no server currently
+     * matches, the returned future is completed when a later change to the cluster description yields one, or with a {@code
+     * MongoTimeoutException} once the maximum wait time has elapsed.
+     *
+     * @param serverSelector the server selector
+     * @param maxWaitTime    the maximum time to wait for a matching server
+     * @param timeUnit       the time unit of the maximum wait time
+     * @return a future for the selected server
+     */
+    MongoFuture<Server> selectServerAsync(ServerSelector serverSelector, long maxWaitTime, TimeUnit timeUnit);
+
     void close();
 
     boolean isClosed();
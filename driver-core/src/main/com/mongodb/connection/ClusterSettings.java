@@ -42,6 +42,7 @@ public final class ClusterSettings {
     private final ClusterType requiredClusterType;
     private final String requiredReplicaSetName;
     private final ServerSelector serverSelector;
+    private final boolean loadAwareServerSelectionEnabled;
 
     public static Builder builder() {
         return new Builder();
@@ -56,6 +57,7 @@ public final class ClusterSettings {
         private ClusterType requiredClusterType = ClusterType.UNKNOWN;
         private String requiredReplicaSetName;
         private ServerSelector serverSelector;
+        private boolean loadAwareServerSelectionEnabled;
 
         private Builder() {
         }
@@ -119,6 +121,19 @@ public final class ClusterSettings {
             return this;
         }
 
+        /**
+         * Sets whether to choose among the servers that the server selectors return by their current load rather than uniformly at
+         * random.
+         *
+         * @param loadAwareServerSelectionEnabled whether load-aware server selection is enabled
+         * @return this
+         * @see #isLoadAwareServerSelectionEnabled()
+         */
+        public Builder loadAwareServerSelectionEnabled(final boolean loadAwareServerSelectionEnabled) {
+            this.loadAwareServerSelectionEnabled = loadAwareServerSelectionEnabled;
+            return this;
+        }
+
         public Builder applyConnectionString(final ConnectionString connectionString) {
             if (connectionString.getHosts().size() == 1 && connectionString.getRequiredReplicaSetName() == null) {
                 mode(ClusterConnectionMode.SINGLE)
@@ -192,6 +207,22 @@ public final class ClusterSettings {
         return serverSelector;
     }
 
+    /**
+     * Gets whether load-aware server selection is enabled.  By default the cluster picks uniformly at random among the servers that the
+     * server selectors return.  If this is enabled it instead picks two of them at random and uses the one with the lower expected
+     * latency, estimated as its average round trip time multiplied by one more than the number of operations in progress or waiting for
+     * a connection to it.  This "power of two choices" steers work away from a server whose connection pool is saturated without herding
+     * all clients onto the single least loaded server.
+     *
+     * <p>Default is false.</p>
+     *
+     * @return whether load-aware server selection is enabled
+     * @see ServerSettings#isIncludeOperationsInRoundTripTime()
+     */
+    public boolean isLoadAwareServerSelectionEnabled() {
+        return loadAwareServerSelectionEnabled;
+    }
+
     @Override
     public String toString() {
         return "{"
@@ -200,6 +231,7 @@ public final class ClusterSettings {
                + ", requiredClusterType=" + requiredClusterType
                + ", requiredReplicaSetName='" + requiredReplicaSetName + '\''
                + ", serverSelector='" + serverSelector + '\''
+               + ", loadAwareServerSelectionEnabled=" + loadAwareServerSelectionEnabled
                + '}';
     }
 
@@ -238,5 +270,6 @@ public final class ClusterSettings {
         requiredReplicaSetName = builder.requiredReplicaSetName;
         requiredClusterType = builder.requiredClusterType;
         serverSelector = builder.serverSelector;
+        loadAwareServerSelectionEnabled = builder.loadAwareServerSelectionEnabled;
     }
 }
@@ -50,4 +50,11 @@ interface ClusterableServer extends Server {
      * Attempt to connect to the server.
      */
     void connect();
+
+    /**
+     * Gets the number of operations that are in progress on this server or waiting for a connection to it.
+     *
+     * @return the operation count
+     */
+    int getOperationCount();
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import com.mongodb.event.CommandListener;
+
+/**
+ * An optional interface for a {@link Connection} that supplies the listener to notify of the commands that the wire protocol
+ * implementations execute on it.  The protocols publish no command events on a connection that does not implement it.
+ *
+ * @since 3.0
+ */
+public interface CommandListenerProvider {
+
+    /**
+     * Gets the listener to notify of the commands executed on this connection.
+     *
+     * @return the command listener, or null if no command listener is registered
+     */
+    CommandListener getCommandListener();
+}
@@ -16,14 +16,25 @@
 
 package com.mongodb.connection;
 
+import com.mongodb.MongoClientException;
+import com.mongodb.MongoException;
 import com.mongodb.MongoInternalException;
 import com.mongodb.MongoInterruptedException;
 import com.mongodb.MongoTimeoutException;
+import com.mongodb.async.SingleResultCallback;
 
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 class ConcurrentPool<T> implements Pool<T> {
 
@@ -31,7 +42,13 @@ class ConcurrentPool<T> implements Pool<T> {
     private final ItemFactory<T> itemFactory;
 
     private final Deque<T> available = new ConcurrentLinkedDeque<T>();
+    private final AtomicReferenceArray<T> stripes;
+    private final int stripeMask;
+    private final Deque<AsyncWaiter> asyncWaiters = new ConcurrentLinkedDeque<AsyncWaiter>();
     private final Semaphore permits;
+    private final Semaphore connectingPermits;
+    private final AtomicInteger waitingForItemCount = new AtomicInteger();
+    private final Object itemAvailableSignal = new Object();
     private volatile boolean closed;
 
     /**
@@ -54,9 +71,39 @@ class ConcurrentPool<T> implements Pool<T> {
      * @param itemFactory factory used to create and close items in the pool
      */
     public ConcurrentPool(final int maxSize, final ItemFactory<T> itemFactory) {
+        this(maxSize, Integer.MAX_VALUE, itemFactory);
+    }
+
+    /**
+     * Initializes a new pool of objects that creates at most {@code maxCreating} items at the same time.  A thread that needs a new item
+     * while that many are being created waits for the first item to become available, whether created or returned to the pool.
+     *
+     * @param maxSize     max to hold to at any given time. if < 0 then no limit
+     * @param maxCreating the maximum number of items created at the same time
+     * @param itemFactory factory used to create and close items in the pool
+     */
+    public ConcurrentPool(final int maxSize, final int maxCreating, final ItemFactory<T> itemFactory) {
+        this(maxSize, maxCreating, getDefaultStripeCount(maxSize), itemFactory);
+    }
+
+    /**
+     * Initializes a new pool of objects with the given number of stripes.  An item released by a thread is kept in the stripe that the
+     * thread maps to, if it is empty, so that a thread that releases and gets items in turn usually gets back the item that it last used
+     * without touching the shared deque.  Other threads take items from the stripes once the shared deque is empty.
+     *
+     * @param maxSize     max to hold to at any given time. if < 0 then no limit
+     * @param maxCreating the maximum number of items created at the same time
+     * @param stripeCount the number of stripes, which is rounded up to a power of two, or 0 to keep all available items in the deque
+     * @param itemFactory factory used to create and close items in the pool
+     */
+    ConcurrentPool(final int maxSize, final int maxCreating, final int stripeCount, final ItemFactory<T> itemFactory) {
         this.maxSize = maxSize;
         this.itemFactory = itemFactory;
         permits = new Semaphore(maxSize, true);
+        connectingPermits = new Semaphore(maxCreating);
+        int roundedStripeCount = stripeCount <= 0 ? 0 : Integer.highestOneBit((stripeCount << 1) - 1);
+        stripes = roundedStripeCount == 0 ? null : new AtomicReferenceArray<T>(roundedStripeCount);
+        stripeMask = roundedStripeCount - 1;
     }
 
     /**
@@ -88,7 +135,10 @@ class ConcurrentPool<T> implements Pool<T> {
         if (prune) {
             close(t);
         } else {
-            available.addLast(t);
+            if (stripes == null || !stripes.compareAndSet(getStripeIndex(), null, t)) {
+                available.addLast(t);
+            }
+            signalItemAvailable();
         }
 
         releasePermit();
@@ -122,15 +172,91 @@ class ConcurrentPool<T> implements Pool<T> {
             throw new MongoTimeoutException(String.format("Timeout waiting for a pooled item after %d %s", timeout, timeUnit));
         }
 
-        T t = available.pollLast();
+        T t = pollAvailable();
         if (t == null) {
-            t = createNewAndReleasePermitIfFailure();
+            try {
+                t = createOrAwaitAvailable(System.currentTimeMillis(), timeout, timeUnit);
+            } catch (RuntimeException e) {
+                releasePermit();
+                throw e;
+            }
         }
 
         return t;
     }
 
+    /**
+     * Gets an available object from the pool if one can be had immediately, without waiting for a permit or creating an object.  This is
+     * the fast path for a checkout: it only acquires a permit if no thread is already waiting for a permit or for an object, so it does not
+     * barge ahead of waiting threads, and it prefers the object that the calling thread last released.
+     *
+     * @return an available object, or null if there is none or a permit is not immediately available
+     */
+    public T getIfAvailable() {
+        if (closed) {
+            throw new IllegalStateException("The pool is closed");
+        }
+        if (permits.hasQueuedThreads() || !asyncWaiters.isEmpty() || waitingForItemCount.get() > 0 || !permits.tryAcquire()) {
+            return null;
+        }
+        T t = pollAvailable();
+        if (t == null) {
+            releasePermit();
+        }
+        return t;
+    }
+
+    /**
+     * Gets an object from the pool without blocking.  If no permit is immediately available, the callback is queued and completed by the
+     * first subsequent call to {@code release} that frees a permit, or with a {@code MongoTimeoutException} once the timeout elapses.
+     * Asynchronous waiters are served ahead of threads blocked in {@code get}.  An available object is passed to the callback on the
+     * thread that frees the permit, but an object that has to be created is created, and the callback completed, on a thread of the
+     * {@link SharedCreationExecutor}, within the limit on the number of objects created at the same time.
+     *
+     * @param timeout  negative - forever, otherwise the time to wait
+     * @param timeUnit the time unit of the timeout
+     * @param callback the callback to complete with the item or the failure
+     */
+    public void getAsync(final long timeout, final TimeUnit timeUnit, final SingleResultCallback<T> callback) {
+        if (closed) {
+            callback.onResult(null, new MongoClientException("The pool is closed"));
+            return;
+        }
+
+        final AsyncWaiter waiter = new AsyncWaiter(callback, System.currentTimeMillis(), timeout, timeUnit);
+        if (permits.tryAcquire()) {
+            waiter.claim();
+            handOff(waiter);
+            return;
+        }
+
+        asyncWaiters.addLast(waiter);
+        if (timeout >= 0) {
+            waiter.setTimeoutFuture(SharedTimer.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (waiter.claim()) {
+                        asyncWaiters.remove(waiter);
+                        callback.onResult(null, new MongoTimeoutException(String.format("Timeout waiting for a pooled item after %d %s",
+                                                                                        timeout, timeUnit)));
+                    }
+                }
+            }, timeout, timeUnit));
+        }
+
+        // a permit may have been released between the failed tryAcquire and the waiter being queued
+        if (permits.tryAcquire()) {
+            if (waiter.claim()) {
+                asyncWaiters.remove(waiter);
+                handOff(waiter);
+            } else {
+                releasePermit();
+            }
+        }
+    }
+
     public void prune() {
+        drainStripes();
         int currentAvailableCount = getAvailableCount();
         for (int numAttempts = 0; numAttempts < currentAvailableCount; numAttempts++) {
             if (!acquirePermit(10, TimeUnit.MILLISECONDS)) {
@@ -145,28 +271,142 @@ class ConcurrentPool<T> implements Pool<T> {
         }
     }
 
-    public void ensureMinSize(final int minSize) {
-        while (getCount() < minSize) {
-            if (!acquirePermit(10, TimeUnit.MILLISECONDS)) {
+    /**
+     * Creates items until the pool holds at least {@code minSize} of them, creating as many at the same time as the pool allows.  The
+     * calling thread takes part in the creation and the executor only adds parallelism, so this method returns even if the executor does
+     * not get to run the helper tasks.  It returns once all the items have been created.
+     *
+     * @param minSize  the minimum number of items
+     * @param executor the executor used to create items in parallel with the calling thread
+     * @throws RuntimeException the first exception thrown by the item factory, once all the other creations have completed
+     */
+    public void ensureMinSize(final int minSize, final Executor executor) {
+        int numToCreate = minSize - getCount();
+        if (numToCreate <= 0) {
+            return;
+        }
+        final ParallelCreation creation = new ParallelCreation(numToCreate);
+        for (int i = 1; i < Math.min(numToCreate, connectingPermits.availablePermits()); i++) {
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        creation.createItems();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
                 break;
             }
-            release(createNewAndReleasePermitIfFailure());
         }
+        creation.createItems();
+        creation.awaitCompletion();
     }
 
     private T createNewAndReleasePermitIfFailure() {
         try {
-            T newMember = itemFactory.create();
-            if (newMember == null) {
-                throw new MongoInternalException("The factory for the pool created a null item");
-            }
-            return newMember;
+            return createNew();
         } catch (RuntimeException e) {
-            permits.release();
+            releasePermit();
             throw e;
         }
     }
 
+    // the caller owns a permit
+    private T createOrAwaitAvailable(final long startTimeMS, final long timeout, final TimeUnit timeUnit) {
+        long timeoutMS = timeout < 0 ? -1 : MILLISECONDS.convert(timeout, timeUnit);
+        while (true) {
+            T t = pollAvailable();
+            if (t != null) {
+                return t;
+            }
+            if (connectingPermits.tryAcquire()) {
+                try {
+                    return createNew();
+                } finally {
+                    releaseConnectingPermit();
+                }
+            }
+            synchronized (itemAvailableSignal) {
+                waitingForItemCount.incrementAndGet();
+                try {
+                    if (getAvailableCount() == 0 && connectingPermits.availablePermits() == 0) {
+                        if (timeoutMS < 0) {
+                            itemAvailableSignal.wait();
+                        } else {
+                            long remainingMS = startTimeMS + timeoutMS - System.currentTimeMillis();
+                            if (remainingMS <= 0) {
+                                throw new MongoTimeoutException(String.format("Timeout waiting for a pooled item after %d %s", timeout,
+                                                                              timeUnit));
+                            }
+                            itemAvailableSignal.wait(remainingMS);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    throw new MongoInterruptedException("Interrupted waiting for a pooled item to be created", e);
+                } finally {
+                    waitingForItemCount.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private T pollAvailable() {
+        if (stripes == null) {
+            return available.pollLast();
+        }
+        int stripeIndex = getStripeIndex();
+        T t = stripes.getAndSet(stripeIndex, null);
+        if (t == null) {
+            t = available.pollLast();
+        }
+        for (int i = 1; t == null && i <= stripeMask; i++) {
+            t = stripes.getAndSet((stripeIndex + i) & stripeMask, null);
+        }
+        return t;
+    }
+
+    private void drainStripes() {
+        if (stripes != null) {
+            for (int i = 0; i < stripes.length(); i++) {
+                T t = stripes.getAndSet(i, null);
+                if (t != null) {
+                    available.addLast(t);
+                }
+            }
+        }
+    }
+
+    private int getStripeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    private static int getDefaultStripeCount(final int maxSize) {
+        return Math.min(maxSize, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    private void releaseConnectingPermit() {
+        connectingPermits.release();
+        signalItemAvailable();
+    }
+
+    private void signalItemAvailable() {
+        if (waitingForItemCount.get() > 0) {
+            synchronized (itemAvailableSignal) {
+                itemAvailableSignal.notifyAll();
+            }
+        }
+    }
+
+    private T createNew() {
+        T newMember = itemFactory.create();
+        if (newMember == null) {
+            throw new MongoInternalException("The factory for the pool created a null item");
+        }
+        return newMember;
+    }
+
     protected boolean acquirePermit(final long timeout, final TimeUnit timeUnit) {
         try {
             if (closed) {
@@ -183,15 +423,66 @@ class ConcurrentPool<T> implements Pool<T> {
     }
 
     protected void releasePermit() {
+        AsyncWaiter waiter = asyncWaiters.pollFirst();
+        while (waiter != null) {
+            if (waiter.claim()) {
+                handOff(waiter);
+                return;
+            }
+            waiter = asyncWaiters.pollFirst();
+        }
         permits.release();
     }
 
+    // the caller owns a permit, which is transferred to the callback along with the item, or passed on if the item can not be had.  The
+    // item is only taken here if one is available: creating one blocks on the network, so it is left to the creation executor rather
+    // than done on the thread that is releasing a permit
+    private void handOff(final AsyncWaiter waiter) {
+        T t = pollAvailable();
+        if (t != null) {
+            waiter.callback.onResult(t, null);
+            return;
+        }
+        try {
+            SharedCreationExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    T item;
+                    try {
+                        item = createOrAwaitAvailable(waiter.startTimeMS, waiter.timeout, waiter.timeUnit);
+                    } catch (RuntimeException e) {
+                        failHandOff(waiter, e);
+                        return;
+                    }
+                    waiter.callback.onResult(item, null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            failHandOff(waiter, e);
+        }
+    }
+
+    private void failHandOff(final AsyncWaiter waiter, final RuntimeException e) {
+        releasePermit();
+        waiter.callback.onResult(null, e instanceof MongoException
+                                       ? (MongoException) e
+                                       : new MongoInternalException("Exception creating a pooled item", e));
+    }
+
     /**
      * Clears the pool of all objects.
      */
     @Override
     public void close() {
         closed = true;
+        AsyncWaiter waiter = asyncWaiters.pollFirst();
+        while (waiter != null) {
+            if (waiter.claim()) {
+                waiter.callback.onResult(null, new MongoClientException("The pool is closed"));
+            }
+            waiter = asyncWaiters.pollFirst();
+        }
+        drainStripes();
         Iterator<T> iter = available.iterator();
         while (iter.hasNext()) {
             T t = iter.next();
@@ -209,7 +500,15 @@ class ConcurrentPool<T> implements Pool<T> {
     }
 
     public int getAvailableCount() {
-        return available.size();
+        int count = available.size();
+        if (stripes != null) {
+            for (int i = 0; i < stripes.length(); i++) {
+                if (stripes.get(i) != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
     }
 
     public int getCount() {
@@ -233,4 +532,97 @@ class ConcurrentPool<T> implements Pool<T> {
             // ItemFactory.close() really should not throw
         }
     }
+
+    private final class ParallelCreation {
+        private final AtomicInteger remaining;
+        private final AtomicInteger activeCount = new AtomicInteger();
+        private volatile RuntimeException failure;
+
+        private ParallelCreation(final int numToCreate) {
+            remaining = new AtomicInteger(numToCreate);
+        }
+
+        void createItems() {
+            activeCount.incrementAndGet();
+            try {
+                while (!closed && remaining.getAndDecrement() > 0) {
+                    if (!acquirePermit(10, TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                    try {
+                        connectingPermits.acquire();
+                    } catch (InterruptedException e) {
+                        releasePermit();
+                        throw new MongoInterruptedException("Interrupted waiting to create a pooled item", e);
+                    }
+                    T t;
+                    try {
+                        t = createNewAndReleasePermitIfFailure();
+                    } finally {
+                        releaseConnectingPermit();
+                    }
+                    release(t);
+                }
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                remaining.set(0);
+            } finally {
+                synchronized (this) {
+                    if (activeCount.decrementAndGet() == 0) {
+                        notifyAll();
+                    }
+                }
+            }
+        }
+
+        synchronized void awaitCompletion() {
+            try {
+                while (activeCount.get() > 0) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                throw new MongoInterruptedException("Interrupted waiting for pooled items to be created", e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private final class AsyncWaiter {
+        private final SingleResultCallback<T> callback;
+        private final long startTimeMS;
+        private final long timeout;
+        private final TimeUnit timeUnit;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeoutFuture;
+
+        private AsyncWaiter(final SingleResultCallback<T> callback, final long startTimeMS, final long timeout, final TimeUnit timeUnit) {
+            this.callback = callback;
+            this.startTimeMS = startTimeMS;
+            this.timeout = timeout;
+            this.timeUnit = timeUnit;
+        }
+
+        void setTimeoutFuture(final ScheduledFuture<?> timeoutFuture) {
+            this.timeoutFuture = timeoutFuture;
+            if (claimed.get()) {
+                timeoutFuture.cancel(false);
+            }
+        }
+
+        // exactly one of release, timeout and close gets to complete the callback, and the timeout is cancelled once it is claimed
+        boolean claim() {
+            if (!claimed.compareAndSet(false, true)) {
+                return false;
+            }
+            ScheduledFuture<?> future = timeoutFuture;
+            if (future != null) {
+                future.cancel(false);
+            }
+            return true;
+        }
+    }
 }
@@ -16,6 +16,8 @@
 
 package com.mongodb.connection;
 
+import com.mongodb.async.SingleResultCallback;
+
 import java.io.Closeable;
 import java.util.concurrent.TimeUnit;
 
@@ -25,7 +27,29 @@ interface ConnectionPool extends Closeable {
 
     InternalConnection get(final long timeout, final TimeUnit timeUnit);
 
+    /**
+     * Gets a connection without blocking the calling thread.  The callback is completed with the connection once one is available, or
+     * with an exception if the wait queue is full or the maximum wait time elapses first.
+     *
+     * @param callback the callback to complete with the connection
+     */
+    void getAsync(SingleResultCallback<InternalConnection> callback);
+
     void invalidate();
 
+    /**
+     * Called on a background thread once the server is reported as connected, both initially and after it has been invalidated.  If its
+     * settings enable it, the pool opens connections up to its minimum size, in parallel, and returns once they are open.
+     */
+    void warmUp();
+
+    /**
+     * Gets the number of operations that are using or waiting for a connection from this pool, i.e. the number of connections checked out
+     * plus the size of the wait queue.
+     *
+     * @return the operation count
+     */
+    int getOperationCount();
+
     void close();
 }
@@ -36,6 +36,8 @@ public class ConnectionPoolSettings {
     private final long maxConnectionIdleTimeMS;
     private final long maintenanceInitialDelayMS;
     private final long maintenanceFrequencyMS;
+    private final int maxConnecting;
+    private final boolean warmUpEnabled;
 
     public static Builder builder() {
         return new Builder();
@@ -50,6 +52,8 @@ public class ConnectionPoolSettings {
         private long maxConnectionIdleTimeMS;
         private long maintenanceInitialDelayMS;
         private long maintenanceFrequencyMS = MILLISECONDS.convert(1, MINUTES);
+        private int maxConnecting = 2;
+        private boolean warmUpEnabled;
 
         // CHECKSTYLE:OFF
         public Builder maxSize(final int maxSize) {
@@ -91,6 +95,16 @@ public class ConnectionPoolSettings {
             this.maintenanceFrequencyMS = MILLISECONDS.convert(maintenanceFrequency, timeUnit);
             return this;
         }
+
+        public Builder maxConnecting(final int maxConnecting) {
+            this.maxConnecting = maxConnecting;
+            return this;
+        }
+
+        public Builder warmUpEnabled(final boolean warmUpEnabled) {
+            this.warmUpEnabled = warmUpEnabled;
+            return this;
+        }
         // CHECKSTYLE:ON
 
         public ConnectionPoolSettings build() {
@@ -152,6 +166,26 @@ public class ConnectionPoolSettings {
         return timeUnit.convert(maintenanceFrequencyMS, MILLISECONDS);
     }
 
+    /**
+     * Gets the maximum number of connections that the pool establishes at the same time.  A thread that needs a new connection while
+     * this many are being established waits for whichever connection becomes available first.
+     *
+     * @return the maximum number of connections being established at the same time
+     */
+    public int getMaxConnecting() {
+        return maxConnecting;
+    }
+
+    /**
+     * Gets whether the pool is filled to its minimum size before the server is reported as connected, both initially and after the
+     * server has been invalidated.
+     *
+     * @return true if the pool is warmed up before the server is reported as connected
+     */
+    public boolean isWarmUpEnabled() {
+        return warmUpEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -187,6 +221,12 @@ public class ConnectionPoolSettings {
         if (maxWaitTimeMS != that.maxWaitTimeMS) {
             return false;
         }
+        if (maxConnecting != that.maxConnecting) {
+            return false;
+        }
+        if (warmUpEnabled != that.warmUpEnabled) {
+            return false;
+        }
 
         return true;
     }
@@ -201,6 +241,8 @@ public class ConnectionPoolSettings {
         result = 31 * result + (int) (maxConnectionIdleTimeMS ^ (maxConnectionIdleTimeMS >>> 32));
         result = 31 * result + (int) (maintenanceInitialDelayMS ^ (maintenanceInitialDelayMS >>> 32));
         result = 31 * result + (int) (maintenanceFrequencyMS ^ (maintenanceFrequencyMS >>> 32));
+        result = 31 * result + maxConnecting;
+        result = 31 * result + (warmUpEnabled ? 1 : 0);
         return result;
     }
 
@@ -215,6 +257,8 @@ public class ConnectionPoolSettings {
                + ", maxConnectionIdleTimeMS=" + maxConnectionIdleTimeMS
                + ", maintenanceInitialDelayMS=" + maintenanceInitialDelayMS
                + ", maintenanceFrequencyMS=" + maintenanceFrequencyMS
+               + ", maxConnecting=" + maxConnecting
+               + ", warmUpEnabled=" + warmUpEnabled
                + '}';
     }
 
@@ -227,6 +271,7 @@ public class ConnectionPoolSettings {
         isTrue("maxConnectionIdleTime >= 0", builder.maxConnectionIdleTimeMS >= 0);
         isTrue("sizeMaintenanceFrequency > 0", builder.maintenanceFrequencyMS > 0);
         isTrue("maxSize >= minSize", builder.maxSize >= builder.minSize);
+        isTrue("maxConnecting > 0", builder.maxConnecting > 0);
 
         maxSize = builder.maxSize;
         minSize = builder.minSize;
@@ -236,5 +281,7 @@ public class ConnectionPoolSettings {
         maxConnectionIdleTimeMS = builder.maxConnectionIdleTimeMS;
         maintenanceInitialDelayMS = builder.maintenanceInitialDelayMS;
         maintenanceFrequencyMS = builder.maintenanceFrequencyMS;
+        maxConnecting = builder.maxConnecting;
+        warmUpEnabled = builder.warmUpEnabled;
     }
 }
@@ -18,6 +18,8 @@ package com.mongodb.connection;
 
 import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.ConnectionEventMulticaster;
 import com.mongodb.event.ConnectionListener;
 import com.mongodb.event.ConnectionPoolListener;
 
@@ -33,6 +35,7 @@ class DefaultClusterableServerFactory implements ClusterableServerFactory {
     private final ConnectionPoolListener connectionPoolListener;
     private final ConnectionListener connectionListener;
     private final StreamFactory heartbeatStreamFactory;
+    private final CommandListener commandListener;
 
     public DefaultClusterableServerFactory(final String clusterId, final ServerSettings settings,
                                            final ConnectionPoolSettings connectionPoolSettings,
@@ -41,6 +44,18 @@ class DefaultClusterableServerFactory implements ClusterableServerFactory {
                                            final List<MongoCredential> credentialList,
                                            final ConnectionListener connectionListener,
                                            final ConnectionPoolListener connectionPoolListener) {
+        this(clusterId, settings, connectionPoolSettings, streamFactory, heartbeatStreamFactory, credentialList, connectionListener,
+             connectionPoolListener, null);
+    }
+
+    public DefaultClusterableServerFactory(final String clusterId, final ServerSettings settings,
+                                           final ConnectionPoolSettings connectionPoolSettings,
+                                           final StreamFactory streamFactory,
+                                           final StreamFactory heartbeatStreamFactory,
+                                           final List<MongoCredential> credentialList,
+                                           final ConnectionListener connectionListener,
+                                           final ConnectionPoolListener connectionPoolListener,
+                                           final CommandListener commandListener) {
         this.clusterId = clusterId;
         this.settings = settings;
         this.connectionPoolSettings = connectionPoolSettings;
@@ -49,19 +64,34 @@ class DefaultClusterableServerFactory implements ClusterableServerFactory {
         this.connectionPoolListener = connectionPoolListener;
         this.connectionListener = connectionListener;
         this.heartbeatStreamFactory = heartbeatStreamFactory;
+        this.commandListener = commandListener;
     }
 
     @Override
     public ClusterableServer create(final ServerAddress serverAddress) {
+        ExponentiallyWeightedMovingAverage averageRoundTripTime =
+        new ExponentiallyWeightedMovingAverage(ServerMonitor.DEFAULT_ROUND_TRIP_TIME_ALPHA);
         return new DefaultServer(serverAddress, settings, clusterId,
                                  new DefaultConnectionPool(clusterId, serverAddress,
                                                            new InternalStreamConnectionFactory(clusterId,
                                                                                                streamFactory,
                                                                                                credentialList,
-                                                                                               connectionListener),
+                                                                                               getPooledConnectionListener(
+                                                                                               averageRoundTripTime)),
                                                            connectionPoolSettings, connectionPoolListener),
                                  new InternalStreamConnectionFactory(clusterId, heartbeatStreamFactory,
-                                                                     Collections.<MongoCredential>emptyList(), connectionListener));
+                                                                     Collections.<MongoCredential>emptyList(), connectionListener),
+                                 averageRoundTripTime, commandListener);
+    }
+
+    private ConnectionListener getPooledConnectionListener(final ExponentiallyWeightedMovingAverage averageRoundTripTime) {
+        if (!settings.isIncludeOperationsInRoundTripTime()) {
+            return connectionListener;
+        }
+        ConnectionEventMulticaster multicaster = new ConnectionEventMulticaster();
+        multicaster.add(connectionListener);
+        multicaster.add(new RoundTripTimeSamplingConnectionListener(averageRoundTripTime));
+        return multicaster;
     }
 
     @Override
@@ -32,9 +32,8 @@ import com.mongodb.event.ConnectionPoolWaitQueueEvent;
 import org.bson.ByteBuf;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -46,12 +45,18 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 class DefaultConnectionPool implements ConnectionPool {
     private static final Logger LOGGER = Loggers.getLogger("connection");
+    private static final Executor SHARED_CREATION_EXECUTOR = new Executor() {
+        @Override
+        public void execute(final Runnable command) {
+            SharedCreationExecutor.execute(command);
+        }
+    };
 
     private final ConcurrentPool<UsageTrackingInternalConnection> pool;
     private final ConnectionPoolSettings settings;
     private final AtomicInteger waitQueueSize = new AtomicInteger(0);
     private final AtomicInteger generation = new AtomicInteger(0);
-    private final ExecutorService sizeMaintenanceTimer;
+    private final ScheduledFuture<?> scheduledMaintenanceTask;
     private final String clusterId;
     private final ServerAddress serverAddress;
     private final Runnable maintenanceTask;
@@ -66,9 +71,10 @@ class DefaultConnectionPool implements ConnectionPool {
         this.settings = notNull("settings", settings);
         UsageTrackingInternalConnectionItemFactory connectionItemFactory
         = new UsageTrackingInternalConnectionItemFactory(internalConnectionFactory);
-        pool = new ConcurrentPool<UsageTrackingInternalConnection>(settings.getMaxSize(), connectionItemFactory);
+        pool = new ConcurrentPool<UsageTrackingInternalConnection>(settings.getMaxSize(), settings.getMaxConnecting(),
+                                                                   connectionItemFactory);
         maintenanceTask = createMaintenanceTask();
-        sizeMaintenanceTimer = createTimer();
+        scheduledMaintenanceTask = scheduleMaintenanceTask();
         this.connectionPoolListener = notNull("connectionPoolListener", connectionPoolListener);
         connectionPoolListener.connectionPoolOpened(new ConnectionPoolOpenedEvent(clusterId, serverAddress, settings));
     }
@@ -80,6 +86,20 @@ class DefaultConnectionPool implements ConnectionPool {
 
     @Override
     public InternalConnection get(final long timeout, final TimeUnit timeUnit) {
+        // fast path: an idle connection that can be had without waiting is not subject to the maximum wait queue size, but the wait queue
+        // events are still sent so that listeners see the same events for every checkout
+        UsageTrackingInternalConnection availableConnection = pool.getIfAvailable();
+        if (availableConnection != null) {
+            if (!shouldPrune(availableConnection)) {
+                connectionPoolListener.waitQueueEntered(new ConnectionPoolWaitQueueEvent(clusterId, serverAddress,
+                                                                                         currentThread().getId()));
+                connectionPoolListener.connectionCheckedOut(new ConnectionEvent(clusterId, serverAddress, availableConnection.getId()));
+                LOGGER.trace(format("Checked out connection [%s] to server %s", availableConnection.getId(), serverAddress));
+                connectionPoolListener.waitQueueExited(new ConnectionPoolWaitQueueEvent(clusterId, serverAddress, currentThread().getId()));
+                return new PooledConnection(availableConnection);
+            }
+            pool.release(availableConnection, true);
+        }
         try {
             if (waitQueueSize.incrementAndGet() > settings.getMaxWaitQueueSize()) {
                 throw new MongoWaitQueueFullException(format("Too many threads are already waiting for a connection. "
@@ -101,17 +121,48 @@ class DefaultConnectionPool implements ConnectionPool {
         }
     }
 
+    @Override
+    public void getAsync(final SingleResultCallback<InternalConnection> callback) {
+        if (waitQueueSize.incrementAndGet() > settings.getMaxWaitQueueSize()) {
+            waitQueueSize.decrementAndGet();
+            callback.onResult(null, new MongoWaitQueueFullException(format("Too many operations are already waiting for a connection. "
+                                                                           + "Max number of operations (maxWaitQueueSize) of %d has "
+                                                                           + "been exceeded.", settings.getMaxWaitQueueSize())));
+            return;
+        }
+        connectionPoolListener.waitQueueEntered(new ConnectionPoolWaitQueueEvent(clusterId, serverAddress, currentThread().getId()));
+        new AsyncCheckout(callback).start();
+    }
+
     @Override
     public void invalidate() {
         generation.incrementAndGet();
     }
 
+    @Override
+    public int getOperationCount() {
+        return pool.getInUseCount() + waitQueueSize.get();
+    }
+
+    @Override
+    public void warmUp() {
+        if (!settings.isWarmUpEnabled() || !shouldEnsureMinSize() || closed) {
+            return;
+        }
+        LOGGER.debug(format("Warming up the pool of connections to %s", serverAddress));
+        try {
+            pool.ensureMinSize(settings.getMinSize(), SHARED_CREATION_EXECUTOR);
+        } catch (MongoException e) {
+            LOGGER.warn(format("Exception warming up the pool of connections to %s", serverAddress), e);
+        }
+    }
+
     @Override
     public void close() {
         if (!closed) {
             pool.close();
-            if (sizeMaintenanceTimer != null) {
-                sizeMaintenanceTimer.shutdownNow();
+            if (scheduledMaintenanceTask != null) {
+                scheduledMaintenanceTask.cancel(false);
             }
             closed = true;
             connectionPoolListener.connectionPoolClosed(new ConnectionPoolEvent(clusterId, serverAddress));
@@ -143,7 +194,7 @@ class DefaultConnectionPool implements ConnectionPool {
                     }
                     if (shouldEnsureMinSize()) {
                         LOGGER.debug(format("Ensuring minimum pooled connections to %s", serverAddress));
-                        pool.ensureMinSize(settings.getMinSize());
+                        pool.ensureMinSize(settings.getMinSize(), SHARED_CREATION_EXECUTOR);
                     }
                 }
             };
@@ -151,14 +202,12 @@ class DefaultConnectionPool implements ConnectionPool {
         return newMaintenanceTask;
     }
 
-    private ExecutorService createTimer() {
+    private ScheduledFuture<?> scheduleMaintenanceTask() {
         if (maintenanceTask == null) {
             return null;
         } else {
-            ScheduledExecutorService newTimer = Executors.newSingleThreadScheduledExecutor();
-            newTimer.scheduleAtFixedRate(maintenanceTask, settings.getMaintenanceInitialDelay(MILLISECONDS),
-                                         settings.getMaintenanceFrequency(MILLISECONDS), MILLISECONDS);
-            return newTimer;
+            return SharedScheduler.scheduleAtFixedRate(maintenanceTask, settings.getMaintenanceInitialDelay(MILLISECONDS),
+                                                       settings.getMaintenanceFrequency(MILLISECONDS), MILLISECONDS);
         }
     }
 
@@ -280,6 +329,44 @@ class DefaultConnectionPool implements ConnectionPool {
         }
     }
 
+    /**
+     * Checks out a connection without blocking, discarding any pruneable connections it is handed, and exits the wait queue exactly once.
+     */
+    private final class AsyncCheckout implements SingleResultCallback<UsageTrackingInternalConnection> {
+        private final SingleResultCallback<InternalConnection> callback;
+        private final long startTimeMS = System.currentTimeMillis();
+        private final long maxWaitTimeMS = settings.getMaxWaitTime(MILLISECONDS);
+
+        private AsyncCheckout(final SingleResultCallback<InternalConnection> callback) {
+            this.callback = callback;
+        }
+
+        void start() {
+            pool.getAsync(maxWaitTimeMS, MILLISECONDS, this);
+        }
+
+        @Override
+        public void onResult(final UsageTrackingInternalConnection internalConnection, final MongoException e) {
+            if (e == null && shouldPrune(internalConnection)) {
+                pool.release(internalConnection, true);
+                pool.getAsync(maxWaitTimeMS < 0 ? maxWaitTimeMS : Math.max(0, startTimeMS + maxWaitTimeMS - System.currentTimeMillis()),
+                              MILLISECONDS, this);
+                return;
+            }
+
+            waitQueueSize.decrementAndGet();
+            connectionPoolListener.waitQueueExited(new ConnectionPoolWaitQueueEvent(clusterId, serverAddress, currentThread().getId()));
+            if (e != null) {
+                callback.onResult(null, e);
+            } else {
+                connectionPoolListener.connectionCheckedOut(new ConnectionEvent(clusterId, serverAddress, internalConnection.getId()));
+                LOGGER.trace(format("Asynchronously checked out connection [%s] to server %s", internalConnection.getId(),
+                                    serverAddress));
+                callback.onResult(new PooledConnection(internalConnection), null);
+            }
+        }
+    }
+
     private class UsageTrackingInternalConnectionItemFactory implements ConcurrentPool.ItemFactory<UsageTrackingInternalConnection> {
         private final InternalConnectionFactory internalConnectionFactory;
 
@@ -19,7 +19,10 @@ package com.mongodb.connection;
 import com.mongodb.MongoException;
 import com.mongodb.MongoInternalException;
 import com.mongodb.ServerAddress;
+import com.mongodb.async.MongoFuture;
 import com.mongodb.async.SingleResultCallback;
+import com.mongodb.async.SingleResultFuture;
+import com.mongodb.event.CommandListener;
 import org.bson.ByteBuf;
 
 import java.util.Collections;
@@ -29,6 +32,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.connection.ServerConnectionState.CONNECTED;
 import static com.mongodb.connection.ServerConnectionState.CONNECTING;
 import static java.lang.String.format;
 
@@ -39,6 +43,7 @@ class DefaultServer implements ClusterableServer {
     private final Set<ChangeListener<ServerDescription>> changeListeners =
         Collections.newSetFromMap(new ConcurrentHashMap<ChangeListener<ServerDescription>, Boolean>());
     private final ChangeListener<ServerDescription> serverStateListener;
+    private final CommandListener commandListener;
     private volatile ServerDescription description;
     private volatile boolean isClosed;
 
@@ -46,15 +51,29 @@ class DefaultServer implements ClusterableServer {
                          final ServerSettings settings,
                          final String clusterId, final ConnectionPool connectionPool,
                          final InternalConnectionFactory heartbeatStreamConnectionFactory) {
+        this(serverAddress, settings, clusterId, connectionPool, heartbeatStreamConnectionFactory,
+             new ExponentiallyWeightedMovingAverage(ServerMonitor.DEFAULT_ROUND_TRIP_TIME_ALPHA));
+    }
+
+    DefaultServer(final ServerAddress serverAddress, final ServerSettings settings, final String clusterId,
+                  final ConnectionPool connectionPool, final InternalConnectionFactory heartbeatStreamConnectionFactory,
+                  final ExponentiallyWeightedMovingAverage averageRoundTripTime) {
+        this(serverAddress, settings, clusterId, connectionPool, heartbeatStreamConnectionFactory, averageRoundTripTime, null);
+    }
+
+    DefaultServer(final ServerAddress serverAddress, final ServerSettings settings, final String clusterId,
+                  final ConnectionPool connectionPool, final InternalConnectionFactory heartbeatStreamConnectionFactory,
+                  final ExponentiallyWeightedMovingAverage averageRoundTripTime, final CommandListener commandListener) {
         notNull("connectionPool", connectionPool);
         notNull("heartbeatStreamConnectionFactory", heartbeatStreamConnectionFactory);
 
         this.serverAddress = notNull("serverAddress", serverAddress);
         this.connectionPool = connectionPool;
+        this.commandListener = commandListener;
         this.description = ServerDescription.builder().state(CONNECTING).address(serverAddress).build();
         serverStateListener = new DefaultServerStateListener();
         this.serverMonitor = new ServerMonitor(serverAddress, settings, clusterId, serverStateListener, heartbeatStreamConnectionFactory,
-                                               connectionPool);
+                                               connectionPool, averageRoundTripTime);
         this.serverMonitor.start();
     }
 
@@ -65,6 +84,33 @@ class DefaultServer implements ClusterableServer {
         return new DefaultServerConnection(connectionPool.get());
     }
 
+    @Override
+    public int getOperationCount() {
+        return connectionPool.getOperationCount();
+    }
+
+    @Override
+    public MongoFuture<Connection> getConnectionAsync() {
+        isTrue("open", !isClosed());
+
+        final SingleResultFuture<Connection> future = new SingleResultFuture<Connection>();
+        connectionPool.getAsync(new SingleResultCallback<InternalConnection>() {
+            @Override
+            public void onResult(final InternalConnection result, final MongoException e) {
+                if (e != null) {
+                    future.init(null, e);
+                } else {
+                    DefaultServerConnection connection = new DefaultServerConnection(result);
+                    future.init(connection, null);
+                    if (future.isCancelled()) {
+                        connection.release();
+                    }
+                }
+            }
+        });
+        return future;
+    }
+
     @Override
     public ServerDescription getDescription() {
         isTrue("open", !isClosed());
@@ -119,6 +165,16 @@ class DefaultServer implements ClusterableServer {
     private final class DefaultServerStateListener implements ChangeListener<ServerDescription> {
         @Override
         public void stateChanged(final ChangeEvent<ServerDescription> event) {
+            if (event.getNewValue().getState() == CONNECTED
+                && (event.getOldValue() == null || event.getOldValue().getState() != CONNECTED)) {
+                // opening connections blocks on the network, so it is kept off the heartbeat thread that reports the state change
+                SharedCreationExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        connectionPool.warmUp();
+                    }
+                });
+            }
             description = event.getNewValue();
             for (ChangeListener<ServerDescription> listener : changeListeners) {
                 listener.stateChanged(event);
@@ -126,7 +182,7 @@ class DefaultServer implements ClusterableServer {
         }
     }
 
-    private class DefaultServerConnection extends AbstractReferenceCounted implements Connection {
+    private class DefaultServerConnection extends AbstractReferenceCounted implements Connection, CommandListenerProvider {
         private InternalConnection wrapped;
 
         public DefaultServerConnection(final InternalConnection wrapped) {
@@ -210,5 +266,10 @@ class DefaultServer implements ClusterableServer {
             isTrue("open", getCount() > 0);
             return wrapped.getId();
         }
+
+        @Override
+        public CommandListener getCommandListener() {
+            return commandListener;
+        }
    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
+/**
+ * An exponentially weighted moving average of a series of samples.  Unlike a cumulative average, each sample's weight decays as new
+ * samples arrive, so the average follows a change in the underlying value within a handful of samples regardless of how many samples
+ * came before.
+ */
+@ThreadSafe
+class ExponentiallyWeightedMovingAverage {
+    private static final long EMPTY = -1;
+
+    private final double alpha;
+    private final AtomicLong average = new AtomicLong(EMPTY);
+
+    /**
+     * Construct an instance.
+     *
+     * @param alpha the weight of each new sample, between 0 and 1.  The higher it is, the faster older samples are discounted.
+     */
+    ExponentiallyWeightedMovingAverage(final double alpha) {
+        isTrueArgument("alpha >= 0.0 and <= 1.0", alpha >= 0.0 && alpha <= 1.0);
+        this.alpha = alpha;
+    }
+
+    /**
+     * Discards all samples.
+     */
+    void reset() {
+        average.set(EMPTY);
+    }
+
+    /**
+     * Adds a sample.  The first sample after construction or a reset becomes the average.
+     *
+     * @param sample the sample
+     * @return the new average
+     */
+    long addSample(final long sample) {
+        while (true) {
+            long oldAverage = average.get();
+            long newAverage = oldAverage == EMPTY ? sample : (long) (alpha * sample + (1 - alpha) * oldAverage);
+            if (average.compareAndSet(oldAverage, newAverage)) {
+                return newAverage;
+            }
+        }
+    }
+
+    /**
+     * Gets the average.
+     *
+     * @return the average, or 0 if there are no samples
+     */
+    long getAverage() {
+        long current = average.get();
+        return current == EMPTY ? 0 : current;
+    }
+}
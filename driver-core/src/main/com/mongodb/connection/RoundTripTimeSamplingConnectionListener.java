@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import com.mongodb.event.ConnectionEvent;
+import com.mongodb.event.ConnectionListenerAdapter;
+import com.mongodb.event.ConnectionMessageReceivedEvent;
+import com.mongodb.event.ConnectionMessagesSentEvent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A connection listener that feeds the time between a message being sent on a connection and the reply to it being received into the
+ * round trip time average of the server.  Only the most recent message sent on each connection is tracked, so messages that get no reply,
+ * like unacknowledged writes, are simply replaced by the next one.
+ */
+class RoundTripTimeSamplingConnectionListener extends ConnectionListenerAdapter {
+    private final ExponentiallyWeightedMovingAverage averageRoundTripTime;
+    private final ConcurrentMap<String, SentMessage> lastSentMessages = new ConcurrentHashMap<String, SentMessage>();
+
+    RoundTripTimeSamplingConnectionListener(final ExponentiallyWeightedMovingAverage averageRoundTripTime) {
+        this.averageRoundTripTime = averageRoundTripTime;
+    }
+
+    @Override
+    public void connectionClosed(final ConnectionEvent event) {
+        lastSentMessages.remove(event.getConnectionId());
+    }
+
+    @Override
+    public void messagesSent(final ConnectionMessagesSentEvent event) {
+        lastSentMessages.put(event.getConnectionId(), new SentMessage(event.getRequestId(), System.nanoTime()));
+    }
+
+    @Override
+    public void messageReceived(final ConnectionMessageReceivedEvent event) {
+        SentMessage sentMessage = lastSentMessages.get(event.getConnectionId());
+        if (sentMessage != null && sentMessage.requestId == event.getResponseTo()
+            && lastSentMessages.remove(event.getConnectionId(), sentMessage)) {
+            averageRoundTripTime.addSample(System.nanoTime() - sentMessage.sentNanos);
+        }
+    }
+
+    private static final class SentMessage {
+        private final int requestId;
+        private final long sentNanos;
+
+        private SentMessage(final int requestId, final long sentNanos) {
+            this.requestId = requestId;
+            this.sentNanos = sentNanos;
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package com.mongodb.connection;
 
+import com.mongodb.CommandFailureException;
 import com.mongodb.MongoCredential;
 import com.mongodb.MongoException;
+import com.mongodb.MongoSecurityException;
 
 import javax.crypto.Mac;
 import javax.crypto.SecretKeyFactory;
@@ -30,6 +32,7 @@ import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Random;
 
@@ -38,6 +41,7 @@ import static com.mongodb.AuthenticationMechanism.SCRAM_SHA_1;
 class ScramSha1Authenticator extends SaslAuthenticator {
 
     private final RandomStringGenerator randomStringGenerator;
+    private final ScramSha1KeyCache keyCache;
 
     ScramSha1Authenticator(final MongoCredential credential, final InternalConnection internalConnection) {
         this(credential, internalConnection, new DefaultRandomStringGenerator());
@@ -45,6 +49,11 @@ class ScramSha1Authenticator extends SaslAuthenticator {
 
     ScramSha1Authenticator(final MongoCredential credential, final InternalConnection internalConnection,
                            final RandomStringGenerator randomStringGenerator) {
+        this(credential, internalConnection, randomStringGenerator, ScramSha1KeyCache.getDefault());
+    }
+
+    ScramSha1Authenticator(final MongoCredential credential, final InternalConnection internalConnection,
+                           final RandomStringGenerator randomStringGenerator, final ScramSha1KeyCache keyCache) {
         super(credential, internalConnection);
 
         if (getCredential().getAuthenticationMechanism() != SCRAM_SHA_1) {
@@ -52,6 +61,21 @@ class ScramSha1Authenticator extends SaslAuthenticator {
         }
 
         this.randomStringGenerator = randomStringGenerator;
+        this.keyCache = keyCache;
+    }
+
+    @Override
+    public void authenticate() {
+        try {
+            super.authenticate();
+        } catch (MongoSecurityException e) {
+            // only a rejection by the server says anything about the cached keys; a network error says nothing, and a server signature
+            // mismatch invalidates them where it is detected
+            if (e.getCause() instanceof CommandFailureException) {
+                keyCache.invalidate(getCredential());
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -61,7 +85,7 @@ class ScramSha1Authenticator extends SaslAuthenticator {
 
     @Override
     protected SaslClient createSaslClient() {
-        return new ScramSha1SaslClient(getCredential(), randomStringGenerator);
+        return new ScramSha1SaslClient(getCredential(), randomStringGenerator, keyCache);
     }
 
     private static class ScramSha1SaslClient implements SaslClient {
@@ -73,14 +97,20 @@ class ScramSha1Authenticator extends SaslAuthenticator {
         private final MongoCredential credential;
         private String clientFirstMessageBare;
         private final RandomStringGenerator randomStringGenerator;
+        private final ScramSha1KeyCache keyCache;
         private String rPrefix;
         private byte[] serverSignature;
+        private String salt;
+        private int iterations;
+        private ScramSha1KeyCache.Keys uncachedKeys;
         private int step;
 
-        ScramSha1SaslClient(final MongoCredential credential, final RandomStringGenerator randomStringGenerator) {
+        ScramSha1SaslClient(final MongoCredential credential, final RandomStringGenerator randomStringGenerator,
+                            final ScramSha1KeyCache keyCache) {
             this.credential = credential;
             this.base64Codec = new Base64Codec();
             this.randomStringGenerator = randomStringGenerator;
+            this.keyCache = keyCache;
         }
 
         public String getMechanismName() {
@@ -109,9 +139,16 @@ class ScramSha1Authenticator extends SaslAuthenticator {
                 HashMap<String, String> map = parseServerResponse(serverResponse);
 
                 if (!map.get("v").equals(encodeBase64(this.serverSignature))) {
+                    this.keyCache.invalidate(this.credential);
                     throw new SaslException("Server signature was invalid.");
                 }
 
+                if (this.uncachedKeys != null) {
+                    this.keyCache.put(this.credential, this.salt, this.iterations, this.uncachedKeys);
+                    this.uncachedKeys.clear();
+                    this.uncachedKeys = null;
+                }
+
                 return challenge;
             }
             else {
@@ -136,7 +173,10 @@ class ScramSha1Authenticator extends SaslAuthenticator {
         }
 
         public void dispose() throws SaslException {
-            // nothing to do
+            if (this.uncachedKeys != null) {
+                this.uncachedKeys.clear();
+                this.uncachedKeys = null;
+            }
         }
 
         private byte[] computeClientFirstMessage() throws SaslException {
@@ -160,26 +200,24 @@ class ScramSha1Authenticator extends SaslAuthenticator {
                 throw new SaslException("Server sent an invalid nonce.");
             }
 
-            String s = map.get("s");
-            String i = map.get("i");
+            this.salt = map.get("s");
+            this.iterations = Integer.parseInt(map.get("i"));
 
             String channelBinding = "c=" + encodeBase64(decodeUTF8(GS2_HEADER));
             String nonce = "r=" + r;
             String clientFinalMessageWithoutProof = channelBinding + "," + nonce;
 
-            byte[] saltedPassword = hi(
-                    NativeAuthenticationHelper.createAuthenticationHash(this.credential.getUserName(),
-                            this.credential.getPassword()),
-                    decodeBase64(s),
-                    Integer.parseInt(i)
-            );
-            byte[] clientKey = hmac(saltedPassword, "Client Key");
-            byte[] storedKey = h(clientKey);
+            ScramSha1KeyCache.Keys keys = this.keyCache.get(this.credential, this.salt, this.iterations);
+            if (keys == null) {
+                keys = computeKeys();
+                this.uncachedKeys = keys.copy();
+            }
+            byte[] storedKey = h(keys.getClientKey());
             String authMessage = this.clientFirstMessageBare + "," + serverFirstMessage + "," + clientFinalMessageWithoutProof;
             byte[] clientSignature = hmac(storedKey, authMessage);
-            byte[] clientProof = xor(clientKey, clientSignature);
-            byte[] serverKey = hmac(saltedPassword, "Server Key");
-            this.serverSignature = hmac(serverKey, authMessage);
+            byte[] clientProof = xor(keys.getClientKey(), clientSignature);
+            this.serverSignature = hmac(keys.getServerKey(), authMessage);
+            keys.clear();
 
             String proof = "p=" + encodeBase64(clientProof);
             String clientFinalMessage = clientFinalMessageWithoutProof + "," + proof;
@@ -187,6 +225,20 @@ class ScramSha1Authenticator extends SaslAuthenticator {
             return decodeUTF8(clientFinalMessage);
         }
 
+        private ScramSha1KeyCache.Keys computeKeys() throws SaslException {
+            byte[] saltedPassword = hi(
+                    NativeAuthenticationHelper.createAuthenticationHash(this.credential.getUserName(),
+                            this.credential.getPassword()),
+                    decodeBase64(this.salt),
+                    this.iterations
+            );
+            try {
+                return new ScramSha1KeyCache.Keys(hmac(saltedPassword, "Client Key"), hmac(saltedPassword, "Server Key"));
+            } finally {
+                Arrays.fill(saltedPassword, (byte) 0);
+            }
+        }
+
         private byte[] decodeBase64(final String str) {
             return this.base64Codec.decode(str);
         }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.connection;
+
+import com.mongodb.MongoCredential;
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A cache of the keys that SCRAM-SHA-1 derives from a password, so that authenticating further connections with the same credential
+ * does not repeat the expensive PBKDF2 iterations.  The keys are cached per credential, salt and iteration count, only once the server
+ * has proven that they are correct, and an entry is held no longer than the credential it was derived from.
+ */
+@ThreadSafe
+final class ScramSha1KeyCache {
+    private static final ScramSha1KeyCache DEFAULT = new ScramSha1KeyCache();
+
+    private final Map<MongoCredential, Map<SaltedKey, Keys>> cache = new WeakHashMap<MongoCredential, Map<SaltedKey, Keys>>();
+
+    static ScramSha1KeyCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets the cached keys.
+     *
+     * @param credential the credential
+     * @param salt       the base64 encoded salt sent by the server
+     * @param iterations the iteration count sent by the server
+     * @return a copy of the cached keys, or null if there are none
+     */
+    synchronized Keys get(final MongoCredential credential, final String salt, final int iterations) {
+        Map<SaltedKey, Keys> keysBySalt = cache.get(credential);
+        if (keysBySalt == null) {
+            return null;
+        }
+        Keys keys = keysBySalt.get(new SaltedKey(salt, iterations));
+        return keys == null ? null : keys.copy();
+    }
+
+    synchronized void put(final MongoCredential credential, final String salt, final int iterations, final Keys keys) {
+        Map<SaltedKey, Keys> keysBySalt = cache.get(credential);
+        if (keysBySalt == null) {
+            keysBySalt = new HashMap<SaltedKey, Keys>();
+            cache.put(credential, keysBySalt);
+        }
+        Keys previous = keysBySalt.put(new SaltedKey(salt, iterations), keys.copy());
+        if (previous != null) {
+            previous.clear();
+        }
+    }
+
+    /**
+     * Removes and clears all the keys cached for the credential.
+     *
+     * @param credential the credential
+     */
+    synchronized void invalidate(final MongoCredential credential) {
+        Map<SaltedKey, Keys> keysBySalt = cache.remove(credential);
+        if (keysBySalt != null) {
+            for (Keys keys : keysBySalt.values()) {
+                keys.clear();
+            }
+        }
+    }
+
+    static final class Keys {
+        private final byte[] clientKey;
+        private final byte[] serverKey;
+
+        Keys(final byte[] clientKey, final byte[] serverKey) {
+            this.clientKey = clientKey;
+            this.serverKey = serverKey;
+        }
+
+        byte[] getClientKey() {
+            return clientKey;
+        }
+
+        byte[] getServerKey() {
+            return serverKey;
+        }
+
+        Keys copy() {
+            return new Keys(clientKey.clone(), serverKey.clone());
+        }
+
+        void clear() {
+            Arrays.fill(clientKey, (byte) 0);
+            Arrays.fill(serverKey, (byte) 0);
+        }
+    }
+
+    private static final class SaltedKey {
+        private final String salt;
+        private final int iterations;
+
+        SaltedKey(final String salt, final int iterations) {
+            this.salt = salt;
+            this.iterations = iterations;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            SaltedKey that = (SaltedKey) o;
+            return iterations == that.iterations && salt.equals(that.salt);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * salt.hashCode() + iterations;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.mongodb.connection;
 
 import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.async.MongoFuture;
 
 /**
  * A logical connection to a MongoDB server.
@@ -46,4 +47,15 @@ public interface Server {
      * @return a connection this server
      */
     Connection getConnection();
+
+    /**
+     * Gets a connection to this server asynchronously.  The connection should be released after the caller is done with it.
+     * <p>
+     * Implementations of this method must not block the calling thread while waiting for a free connection, but should instead
+     * complete the returned future once one is available.
+     * </p>
+     *
+     * @return a future for a connection to this server
+     */
+    MongoFuture<Connection> getConnectionAsync();
 }
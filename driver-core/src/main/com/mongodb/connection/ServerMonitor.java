@@ -37,7 +37,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.Condition;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -57,7 +57,6 @@ import static com.mongodb.connection.ServerType.STANDALONE;
 import static com.mongodb.connection.ServerType.UNKNOWN;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 @ThreadSafe
@@ -65,96 +64,187 @@ class ServerMonitor {
 
     private static final Logger LOGGER = Loggers.getLogger("cluster");
 
+    // weights each new sample at 20%, so the average mostly reflects the last ten or so samples
+    static final double DEFAULT_ROUND_TRIP_TIME_ALPHA = 0.2;
+
     private final ServerAddress serverAddress;
     private final ChangeListener<ServerDescription> serverStateListener;
     private final InternalConnectionFactory internalConnectionFactory;
     private final ConnectionPool connectionPool;
     private final ServerSettings settings;
-    private final Thread monitorThread;
     private final Lock lock = new ReentrantLock();
-    private final Condition condition = lock.newCondition();
-    private int count;
-    private long roundTripTimeSum;
+    private final ExponentiallyWeightedMovingAverage averageRoundTripTime;
+    private final ServerCheck serverCheck;
+    private ScheduledFuture<?> scheduledCheck;  // guarded by lock
+    private boolean started;  // guarded by lock
+    private boolean checkInProgress;  // guarded by lock
+    private boolean recheckRequested;  // guarded by lock
+    private long lastCheckCompletedAtNanos;  // guarded by lock
     private volatile boolean isClosed;
 
     ServerMonitor(final ServerAddress serverAddress, final ServerSettings settings,
                   final String clusterId, final ChangeListener<ServerDescription> serverStateListener,
                   final InternalConnectionFactory internalConnectionFactory, final ConnectionPool connectionPool) {
+        this(serverAddress, settings, clusterId, serverStateListener, internalConnectionFactory, connectionPool,
+             new ExponentiallyWeightedMovingAverage(DEFAULT_ROUND_TRIP_TIME_ALPHA));
+    }
+
+    ServerMonitor(final ServerAddress serverAddress, final ServerSettings settings,
+                  final String clusterId, final ChangeListener<ServerDescription> serverStateListener,
+                  final InternalConnectionFactory internalConnectionFactory, final ConnectionPool connectionPool,
+                  final ExponentiallyWeightedMovingAverage averageRoundTripTime) {
         this.settings = settings;
+        this.averageRoundTripTime = averageRoundTripTime;
         this.serverAddress = serverAddress;
         this.serverStateListener = serverStateListener;
         this.internalConnectionFactory = internalConnectionFactory;
         this.connectionPool = connectionPool;
-        monitorThread = new Thread(new ServerMonitorRunnable(), "cluster-" + clusterId + "-" + serverAddress);
-        monitorThread.setDaemon(true);
+        this.serverCheck = new ServerCheck();
     }
 
     void start() {
-        monitorThread.start();
+        lock.lock();
+        try {
+            if (started || isClosed) {
+                return;
+            }
+            started = true;
+            scheduleCheck(0);
+        } finally {
+            lock.unlock();
+        }
     }
 
+    /**
+     * Requests an immediate check of the server, though not sooner than the heartbeat connect retry frequency after the previous check
+     * completed.
+     */
     public void connect() {
         lock.lock();
         try {
-            condition.signal();
+            if (isClosed) {
+                return;
+            }
+            if (checkInProgress) {
+                recheckRequested = true;
+                return;
+            }
+            long delay = Math.max(0, lastCheckCompletedAtNanos + settings.getHeartbeatConnectRetryFrequency(NANOSECONDS)
+                                     - System.nanoTime());
+            if (scheduledCheck != null && scheduledCheck.getDelay(NANOSECONDS) > delay && scheduledCheck.cancel(false)) {
+                scheduleCheck(delay);
+            }
         } finally {
             lock.unlock();
         }
     }
 
     public void close() {
-        isClosed = true;
-        monitorThread.interrupt();
+        lock.lock();
+        try {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            if (scheduledCheck != null) {
+                scheduledCheck.cancel(false);
+            }
+            if (!checkInProgress) {
+                serverCheck.closeConnection();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // must be called while holding the lock
+    private void scheduleCheck(final long delayNanos) {
+        scheduledCheck = SharedScheduler.schedule(serverCheck, delayNanos, NANOSECONDS);
     }
 
-    class ServerMonitorRunnable implements Runnable {
+    /**
+     * Checks the server once, and then schedules the next check.  Checks of the same server never run concurrently, so the connection and
+     * the current description are only ever accessed by one thread at a time.
+     */
+    class ServerCheck implements Runnable {
+        private InternalConnection connection;
+        private ServerDescription currentServerDescription = getConnectingServerDescription();
+        private Throwable currentException;
+
         @Override
-        @SuppressWarnings("unchecked")
-        public synchronized void run() {
-            InternalConnection connection = null;
+        public void run() {
+            lock.lock();
             try {
-                ServerDescription currentServerDescription = getConnectingServerDescription();
-                Throwable currentException = null;
-                while (!isClosed) {
-                    ServerDescription previousServerDescription = currentServerDescription;
-                    Throwable previousException = currentException;
-                    try {
-                        if (connection == null) {
-                            connection = internalConnectionFactory.create(serverAddress);
-                        }
-                        try {
-                            currentServerDescription = lookupServerDescription(connection);
-                        } catch (MongoSocketException e) {
-                            reset();
-                            connection.close();
-                            connection = null;
-                            connection = internalConnectionFactory.create(serverAddress);
-                            try {
-                                currentServerDescription = lookupServerDescription(connection);
-                            } catch (MongoSocketException e1) {
-                                connection.close();
-                                connection = null;
-                                throw e1;
-                            }
-                        }
-                    } catch (Throwable t) {
-                        currentException = t;
-                        currentServerDescription = getConnectingServerDescription();
-                    }
+                if (isClosed) {
+                    return;
+                }
+                checkInProgress = true;
+                recheckRequested = false;
+            } finally {
+                lock.unlock();
+            }
 
-                    if (!isClosed) {
-                        try {
-                            logStateChange(previousServerDescription, previousException, currentServerDescription, currentException);
-                            sendStateChangedEvent(previousServerDescription, currentServerDescription);
-                        } catch (Throwable t) {
-                            LOGGER.warn("Exception in monitor thread during notification of server description state change", t);
-                        }
+            try {
+                check();
+            } finally {
+                lock.lock();
+                try {
+                    checkInProgress = false;
+                    lastCheckCompletedAtNanos = System.nanoTime();
+                    if (isClosed) {
+                        closeConnection();
+                    } else {
+                        scheduleCheck(recheckRequested ? settings.getHeartbeatConnectRetryFrequency(NANOSECONDS)
+                                                       : settings.getHeartbeatFrequency(NANOSECONDS));
                     }
-                    waitForNext();
+                } finally {
+                    lock.unlock();
                 }
-            } finally {
-                if (connection != null) {
+            }
+        }
+
+        void closeConnection() {
+            if (connection != null) {
+                connection.close();
+                connection = null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void check() {
+            ServerDescription previousServerDescription = currentServerDescription;
+            Throwable previousException = currentException;
+            currentException = null;
+            try {
+                if (connection == null) {
+                    connection = internalConnectionFactory.create(serverAddress);
+                }
+                try {
+                    currentServerDescription = lookupServerDescription(connection);
+                } catch (MongoSocketException e) {
+                    reset();
                     connection.close();
+                    connection = null;
+                    connection = internalConnectionFactory.create(serverAddress);
+                    try {
+                        currentServerDescription = lookupServerDescription(connection);
+                    } catch (MongoSocketException e1) {
+                        connection.close();
+                        connection = null;
+                        throw e1;
+                    }
+                }
+            } catch (Throwable t) {
+                currentException = t;
+                currentServerDescription = getConnectingServerDescription();
+            }
+
+            if (!isClosed) {
+                try {
+                    logStateChange(previousServerDescription, previousException, currentServerDescription, currentException);
+                    sendStateChangedEvent(previousServerDescription, currentServerDescription);
+                } catch (Throwable t) {
+                    LOGGER.warn("Exception in monitor thread during notification of server description state change", t);
                 }
             }
         }
@@ -180,38 +270,10 @@ class ServerMonitor {
                 }
             }
         }
-
-        private void waitForNext() {
-            try {
-                long timeRemaining = waitForSignalOrTimeout();
-                if (timeRemaining > 0) {
-                    long timeWaiting = settings.getHeartbeatFrequency(NANOSECONDS) - timeRemaining;
-                    long minimumNanosToWait = settings.getHeartbeatConnectRetryFrequency(NANOSECONDS);
-                    if (timeWaiting < minimumNanosToWait) {
-                        long millisToSleep = MILLISECONDS.convert(minimumNanosToWait - timeWaiting, NANOSECONDS);
-                        if (millisToSleep > 0) {
-                            Thread.sleep(millisToSleep);
-                        }
-                    }
-                }
-            } catch (InterruptedException e) {
-                // fall through
-            }
-        }
-
-        private long waitForSignalOrTimeout() throws InterruptedException {
-            lock.lock();
-            try {
-                return condition.awaitNanos(settings.getHeartbeatFrequency(NANOSECONDS));
-            } finally {
-                lock.unlock();
-            }
-        }
     }
 
     private void reset() {
-        count = 0;
-        roundTripTimeSum = 0;
+        averageRoundTripTime.reset();
         connectionPool.invalidate();
     }
 
@@ -243,11 +305,10 @@ class ServerMonitor {
         LOGGER.debug(format("Checking status of %s", serverAddress));
         long start = System.nanoTime();
         CommandResult isMasterResult = executeCommand("admin", new BsonDocument("ismaster", new BsonInt32(1)), connection);
-        count++;
-        roundTripTimeSum += System.nanoTime() - start;
+        long roundTripTime = averageRoundTripTime.addSample(System.nanoTime() - start);
 
         CommandResult buildInfoResult = executeCommand("admin", new BsonDocument("buildinfo", new BsonInt32(1)), connection);
-        return createDescription(isMasterResult, buildInfoResult, roundTripTimeSum / count);
+        return createDescription(isMasterResult, buildInfoResult, roundTripTime);
     }
 
     @SuppressWarnings("unchecked")
@@ -30,6 +30,7 @@ public class ServerSettings {
     private final long heartbeatFrequencyMS;
     private final long heartbeatConnectRetryFrequencyMS;
     private final int heartbeatThreadCount;
+    private final boolean includeOperationsInRoundTripTime;
 
     public static Builder builder() {
         return new Builder();
@@ -42,6 +43,7 @@ public class ServerSettings {
         private long heartbeatFrequencyMS = 5000;
         private long heartbeatConnectRetryFrequencyMS = 1000;
         private int heartbeatThreadCount;
+        private boolean includeOperationsInRoundTripTime;
 
         /**
          * Sets the frequency that the cluster monitor attempts to reach each server.
@@ -78,6 +80,19 @@ public class ServerSettings {
             return this;
         }
 
+        /**
+         * Sets whether the round trip times of operations sent over pooled connections are included in each server's average round trip
+         * time, alongside the round trip times of the heartbeats.  This lets latency-based server selection react to a slow server between
+         * heartbeats, at the cost of also counting the time the server spends executing the operations.
+         *
+         * @param includeOperationsInRoundTripTime whether to include the round trip times of operations
+         * @return this
+         */
+        public Builder includeOperationsInRoundTripTime(final boolean includeOperationsInRoundTripTime) {
+            this.includeOperationsInRoundTripTime = includeOperationsInRoundTripTime;
+            return this;
+        }
+
         public ServerSettings build() {
             return new ServerSettings(this);
         }
@@ -114,12 +129,23 @@ public class ServerSettings {
         return heartbeatThreadCount;
     }
 
+    /**
+     * Gets whether the round trip times of operations sent over pooled connections are included in each server's average round trip time.
+     * The default is false, in which case only the round trip times of the heartbeats are included.
+     *
+     * @return true if the round trip times of operations are included
+     */
+    public boolean isIncludeOperationsInRoundTripTime() {
+        return includeOperationsInRoundTripTime;
+    }
+
     @Override
     public String toString() {
         return "ServerSettings{"
                + "heartbeatFrequencyMS=" + heartbeatFrequencyMS
                + ", heartbeatConnectRetryFrequencyMS=" + heartbeatConnectRetryFrequencyMS
                + ", heartbeatThreadCount=" + heartbeatThreadCount
+               + ", includeOperationsInRoundTripTime=" + includeOperationsInRoundTripTime
                + '}';
     }
 
@@ -127,6 +153,7 @@ public class ServerSettings {
         heartbeatFrequencyMS = builder.heartbeatFrequencyMS;
         heartbeatConnectRetryFrequencyMS = builder.heartbeatConnectRetryFrequencyMS;
         heartbeatThreadCount = builder.heartbeatThreadCount;
+        includeOperationsInRoundTripTime = builder.includeOperationsInRoundTripTime;
     }
 
 }
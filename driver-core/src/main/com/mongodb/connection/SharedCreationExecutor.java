@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of daemon threads, shared by all connection pools in the JVM, that opens connections on behalf of asynchronous checkouts, pool
+ * warm-up and pool maintenance.  Opening a connection blocks on the network for the handshake and authentication, so it is kept off the
+ * threads that release connections and off the {@link SharedScheduler} that runs the heartbeats.  Every task holds a permit of the pool
+ * that it opens a connection for, so the number of threads in use is bounded by the maximum sizes of the pools.  Threads exit once they
+ * have been idle for a while.
+ */
+final class SharedCreationExecutor {
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    /**
+     * Runs the task on a pooled thread, creating one if none is idle.
+     *
+     * @param task the task
+     */
+    static void execute(final Runnable task) {
+        EXECUTOR.execute(task);
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                      new SynchronousQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                Thread thread = new Thread(runnable, "cluster-shared-connection-creator-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private SharedCreationExecutor() {
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of daemon threads, shared by all clusters and connection pools in the JVM, that runs server heartbeats and connection
+ * pool maintenance.  Unlike the tasks run by {@link SharedTimer}, these tasks may block on the network.  Threads are only created as
+ * the load requires, up to the bound, and exit once they have been idle for a while.
+ * <p>
+ * The bound is fixed, so that the number of threads does not grow with the number of monitored servers.  A heartbeat to an unreachable
+ * server blocks a thread until its connect or socket timeout elapses, so when more servers are unreachable at once than there are
+ * threads, the remaining heartbeats and the maintenance tasks wait for a thread.
+ * </p>
+ */
+final class SharedScheduler {
+    private static final int MAX_THREADS = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final long PURGE_PERIOD_SECONDS = 60;
+    private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+    /**
+     * Runs the task as soon as a thread is available.
+     *
+     * @param task the task
+     */
+    static void execute(final Runnable task) {
+        EXECUTOR.execute(task);
+    }
+
+    /**
+     * Schedules the task to run once after the given delay.
+     *
+     * @param task     the task
+     * @param delay    the delay
+     * @param timeUnit the time unit of the delay
+     * @return the future for the scheduled task, which can be used to cancel it
+     */
+    static ScheduledFuture<?> schedule(final Runnable task, final long delay, final TimeUnit timeUnit) {
+        return EXECUTOR.schedule(task, delay, timeUnit);
+    }
+
+    /**
+     * Schedules the task to run periodically, first after the initial delay and then at the given period.
+     *
+     * @param task         the task
+     * @param initialDelay the initial delay
+     * @param period       the period
+     * @param timeUnit     the time unit of the initial delay and the period
+     * @return the future for the scheduled task, which can be used to cancel it
+     */
+    static ScheduledFuture<?> scheduleAtFixedRate(final Runnable task, final long initialDelay, final long period,
+                                                  final TimeUnit timeUnit) {
+        return EXECUTOR.scheduleAtFixedRate(task, initialDelay, period, timeUnit);
+    }
+
+    private static ScheduledThreadPoolExecutor createExecutor() {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(MAX_THREADS, new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                Thread thread = new Thread(runnable, "cluster-shared-scheduler-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.setKeepAliveTime(THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        // a cancelled task stays in the queue until its delay elapses, so remove them every so often, as a monitor that is asked to check
+        // its server sooner cancels its scheduled check
+        executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                executor.purge();
+            }
+        }, PURGE_PERIOD_SECONDS, PURGE_PERIOD_SECONDS, TimeUnit.SECONDS);
+        return executor;
+    }
+
+    private SharedScheduler() {
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A single daemon timer, shared by all clusters and connection pools in the JVM, that drives the timeouts of asynchronous waiters.
+ * The timer thread only hands each task off to a pool of daemon threads when it is due, as the tasks complete application callbacks,
+ * which could otherwise delay every other timeout in the JVM.  Cancelled tasks are purged from the timer periodically, so a timeout that
+ * is cancelled once its waiter is served does not linger until it would have expired.
+ */
+final class SharedTimer {
+    private static final long PURGE_PERIOD_SECONDS = 60;
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+    private static final ThreadPoolExecutor TASK_EXECUTOR = createTaskExecutor();
+
+    /**
+     * Schedules the task to run once after the given delay.
+     *
+     * @param task     the task
+     * @param delay    the delay
+     * @param timeUnit the time unit of the delay
+     * @return the future for the scheduled task, which can be used to cancel it
+     */
+    static ScheduledFuture<?> schedule(final Runnable task, final long delay, final TimeUnit timeUnit) {
+        return TIMER.schedule(new Runnable() {
+            @Override
+            public void run() {
+                TASK_EXECUTOR.execute(task);
+            }
+        }, delay, timeUnit);
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                Thread thread = new Thread(runnable, "cluster-shared-timer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        timer.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                timer.purge();
+            }
+        }, PURGE_PERIOD_SECONDS, PURGE_PERIOD_SECONDS, TimeUnit.SECONDS);
+        return timer;
+    }
+
+    private static ThreadPoolExecutor createTaskExecutor() {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                      new SynchronousQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                Thread thread = new Thread(runnable, "cluster-shared-timer-task-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private SharedTimer() {
+    }
+}
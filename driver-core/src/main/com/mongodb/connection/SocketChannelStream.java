@@ -57,16 +57,21 @@ class SocketChannelStream implements Stream {
     public void write(final List<ByteBuf> buffers) throws IOException {
         isTrue("open", !isClosed());
 
-        int totalSize = 0;
+        long totalSize = 0;
         ByteBuffer[] byteBufferArray = new ByteBuffer[buffers.size()];
         for (int i = 0; i < buffers.size(); i++) {
             byteBufferArray[i] = buffers.get(i).asNIO();
-            totalSize += byteBufferArray[i].limit();
+            totalSize += byteBufferArray[i].remaining();
         }
 
-        long bytesRead = 0;
-        while (bytesRead < totalSize) {
-            bytesRead += socketChannel.write(byteBufferArray);
+        // a single gathering write per pass, resuming from the first buffer that still has bytes remaining
+        long bytesWritten = 0;
+        int offset = 0;
+        while (bytesWritten < totalSize) {
+            bytesWritten += socketChannel.write(byteBufferArray, offset, byteBufferArray.length - offset);
+            while (offset < byteBufferArray.length && !byteBufferArray[offset].hasRemaining()) {
+                offset++;
+            }
         }
     }
 
@@ -23,14 +23,18 @@ import org.bson.ByteBuf;
 
 import javax.net.SocketFactory;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.Socket;
 import java.util.List;
 
 class SocketStream implements Stream {
+    private static final int MAX_GATHER_BUFFER_SIZE = 64 * 1024;
+
     private final Socket socket;
     private final ServerAddress address;
     private final SocketSettings settings;
     private final BufferProvider bufferProvider;
+    private byte[] gatherBuffer;
     private volatile boolean isClosed;
 
     public SocketStream(final ServerAddress address, final SocketSettings settings, final SocketFactory socketFactory,
@@ -54,9 +58,49 @@ class SocketStream implements Stream {
 
     @Override
     public void write(final List<ByteBuf> buffers) throws IOException {
+        OutputStream outputStream = socket.getOutputStream();
+        if (buffers.size() == 1) {
+            outputStream.write(buffers.get(0).array(), 0, buffers.get(0).limit());
+            return;
+        }
+
+        // Coalesce runs of small buffers into writes the size of the socket's send buffer, so that a message encoded into a chain of
+        // buffers doesn't cost a system call and a TCP segment per buffer.  Buffers at least that large are written directly.
+        byte[] gather = getGatherBuffer();
+        int gatherPosition = 0;
         for (final ByteBuf cur : buffers) {
-            socket.getOutputStream().write(cur.array(), 0, cur.limit());
+            byte[] bytes = cur.array();
+            int length = cur.limit();
+            if (length >= gather.length) {
+                if (gatherPosition > 0) {
+                    outputStream.write(gather, 0, gatherPosition);
+                    gatherPosition = 0;
+                }
+                outputStream.write(bytes, 0, length);
+                continue;
+            }
+            int offset = 0;
+            while (offset < length) {
+                int bytesToCopy = Math.min(length - offset, gather.length - gatherPosition);
+                System.arraycopy(bytes, offset, gather, gatherPosition, bytesToCopy);
+                offset += bytesToCopy;
+                gatherPosition += bytesToCopy;
+                if (gatherPosition == gather.length) {
+                    outputStream.write(gather, 0, gatherPosition);
+                    gatherPosition = 0;
+                }
+            }
+        }
+        if (gatherPosition > 0) {
+            outputStream.write(gather, 0, gatherPosition);
+        }
+    }
+
+    private byte[] getGatherBuffer() throws IOException {
+        if (gatherBuffer == null) {
+            gatherBuffer = new byte[Math.min(socket.getSendBufferSize(), MAX_GATHER_BUFFER_SIZE)];
         }
+        return gatherBuffer;
     }
 
     @Override
@@ -28,6 +28,7 @@ public class SocketStreamFactory implements StreamFactory {
     private final SSLSettings sslSettings;
     private final SocketFactory socketFactory;
     private final BufferProvider bufferProvider = new PowerOfTwoBufferPool();
+    private final BufferProvider directBufferProvider = new BoundedBufferPool(true);
 
     public SocketStreamFactory(final SocketSettings settings, final SSLSettings sslSettings) {
         this.settings = notNull("settings", settings);
@@ -51,7 +52,7 @@ public class SocketStreamFactory implements StreamFactory {
         } else if (System.getProperty("org.mongodb.useSocket", "false").equals("true")) {
             stream = new SocketStream(serverAddress, settings, SocketFactory.getDefault(), bufferProvider);
         } else {
-            stream = new SocketChannelStream(serverAddress, settings, bufferProvider);
+            stream = new SocketChannelStream(serverAddress, settings, directBufferProvider);
         }
 
         return stream;
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.ServerAddress;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A command-related event.
+ *
+ * @since 3.0
+ */
+public class CommandEvent {
+    private final String commandName;
+    private final MongoNamespace namespace;
+    private final ServerAddress serverAddress;
+    private final String connectionId;
+    private final int requestId;
+    private final long elapsedTimeNanos;
+
+    /**
+     * Constructs a new instance of the event.
+     *
+     * @param commandName      the command name
+     * @param namespace        the namespace the command was sent to
+     * @param serverAddress    the server address
+     * @param connectionId     the connection id
+     * @param requestId        the request id of the message whose reply completed the command
+     * @param elapsedTimeNanos the elapsed time in nanoseconds, from just before the first message was sent to just after the command
+     *                         completed
+     */
+    public CommandEvent(final String commandName, final MongoNamespace namespace, final ServerAddress serverAddress,
+                        final String connectionId, final int requestId, final long elapsedTimeNanos) {
+        this.commandName = commandName;
+        this.namespace = namespace;
+        this.serverAddress = serverAddress;
+        this.connectionId = connectionId;
+        this.requestId = requestId;
+        this.elapsedTimeNanos = elapsedTimeNanos;
+    }
+
+    /**
+     * Gets the name of the command, e.g. "isMaster", "query", "getMore" or "insert".
+     *
+     * @return the command name
+     */
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * Gets the namespace the command was sent to.  For commands proper this is the $cmd collection of the database.
+     *
+     * @return the namespace
+     */
+    public MongoNamespace getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Gets the address of the server the command was sent to.
+     *
+     * @return the server address
+     */
+    public ServerAddress getServerAddress() {
+        return serverAddress;
+    }
+
+    /**
+     * Gets the identifier of the connection the command was sent on.
+     *
+     * @return the connection id
+     */
+    public String getConnectionId() {
+        return connectionId;
+    }
+
+    /**
+     * Gets the request id of the message whose reply completed the command, or 0 if no reply was received.
+     *
+     * @return the request id
+     */
+    public int getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Gets the elapsed time of the command in the given unit.
+     *
+     * @param timeUnit the time unit
+     * @return the elapsed time
+     */
+    public long getElapsedTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(elapsedTimeNanos, NANOSECONDS);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.diagnostics.Loggers;
+import com.mongodb.diagnostics.logging.Logger;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.newSetFromMap;
+
+/**
+ * A multicaster for command events.  An exception thrown by one listener is logged, and does not prevent the others from being invoked.
+ *
+ * @since 3.0
+ */
+public class CommandEventMulticaster implements CommandListener {
+    private static final Logger LOGGER = Loggers.getLogger("protocol.event");
+
+    private final Set<CommandListener> commandListeners = newSetFromMap(new ConcurrentHashMap<CommandListener, Boolean>());
+
+    /**
+     * Adds the given command listener to the list of listeners to invoke on command events.
+     *
+     * @param commandListener the command listener
+     */
+    public void add(final CommandListener commandListener) {
+        commandListeners.add(commandListener);
+    }
+
+    /**
+     * Removes the given command listener from the list of listeners to invoke on command events.
+     *
+     * @param commandListener the command listener
+     */
+    public void remove(final CommandListener commandListener) {
+        commandListeners.remove(commandListener);
+    }
+
+    @Override
+    public void commandSucceeded(final CommandSucceededEvent event) {
+        for (final CommandListener cur : commandListeners) {
+            try {
+                cur.commandSucceeded(event);
+            } catch (Throwable t) {
+                LOGGER.warn("Exception when trying to signal commandSucceeded to a commandListener", t);
+            }
+        }
+    }
+
+    @Override
+    public void commandFailed(final CommandFailedEvent event) {
+        for (final CommandListener cur : commandListeners) {
+            try {
+                cur.commandFailed(event);
+            } catch (Throwable t) {
+                LOGGER.warn("Exception when trying to signal commandFailed to a commandListener", t);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.ServerAddress;
+
+/**
+ * An event signifying that a command failed, either because the server reported an error or because of a network or decoding error.
+ *
+ * @since 3.0
+ */
+public class CommandFailedEvent extends CommandEvent {
+    private final Throwable throwable;
+
+    /**
+     * Constructs a new instance of the event.
+     *
+     * @param commandName      the command name
+     * @param namespace        the namespace the command was sent to
+     * @param serverAddress    the server address
+     * @param connectionId     the connection id
+     * @param requestId        the request id
+     * @param elapsedTimeNanos the elapsed time in nanoseconds
+     * @param throwable        the cause of the failure
+     */
+    public CommandFailedEvent(final String commandName, final MongoNamespace namespace, final ServerAddress serverAddress,
+                              final String connectionId, final int requestId, final long elapsedTimeNanos, final Throwable throwable) {
+        super(commandName, namespace, serverAddress, connectionId, requestId, elapsedTimeNanos);
+        this.throwable = throwable;
+    }
+
+    /**
+     * Gets the cause of the failure.
+     *
+     * @return the throwable
+     */
+    public Throwable getThrowable() {
+        return throwable;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import java.util.EventListener;
+
+/**
+ * A listener for command events. A command event is published after each round trip to the server made by a wire protocol
+ * conversation, whether it is a command proper or a query, get more or write message.
+ *
+ * <p>Listeners are invoked synchronously on the thread that completed the round trip, so implementations should return quickly and must
+ * be thread safe.</p>
+ *
+ * @since 3.0
+ */
+public interface CommandListener extends EventListener {
+
+    /**
+     * Publish a command succeeded event.
+     *
+     * @param event the event
+     */
+    void commandSucceeded(CommandSucceededEvent event);
+
+    /**
+     * Publish a command failed event.
+     *
+     * @param event the event
+     */
+    void commandFailed(CommandFailedEvent event);
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.ServerAddress;
+
+/**
+ * An event signifying that a command completed successfully.
+ *
+ * @since 3.0
+ */
+public class CommandSucceededEvent extends CommandEvent {
+    private final int replySize;
+
+    /**
+     * Constructs a new instance of the event.
+     *
+     * @param commandName      the command name
+     * @param namespace        the namespace the command was sent to
+     * @param serverAddress    the server address
+     * @param connectionId     the connection id
+     * @param requestId        the request id
+     * @param elapsedTimeNanos the elapsed time in nanoseconds
+     * @param replySize        the size in bytes of the reply message, or 0 if there was no reply
+     */
+    public CommandSucceededEvent(final String commandName, final MongoNamespace namespace, final ServerAddress serverAddress,
+                                 final String connectionId, final int requestId, final long elapsedTimeNanos, final int replySize) {
+        super(commandName, namespace, serverAddress, connectionId, requestId, elapsedTimeNanos);
+        this.replySize = replySize;
+    }
+
+    /**
+     * Gets the size in bytes of the reply message, including the message header, or 0 if there was no reply, as is the case for
+     * unacknowledged writes.
+     *
+     * @return the reply size
+     */
+    public int getReplySize() {
+        return replySize;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.event.CommandEvent;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * An MBean implementation for the latency statistics of one command on one server.
+ */
+final class CommandLatencyStatistics implements CommandListener, CommandLatencyStatisticsMBean {
+    private final ServerAddress serverAddress;
+    private final String commandName;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong totalReplySize = new AtomicLong();
+
+    public CommandLatencyStatistics(final ServerAddress serverAddress, final String commandName) {
+        this.serverAddress = serverAddress;
+        this.commandName = commandName;
+    }
+
+    @Override
+    public String getHost() {
+        return serverAddress.getHost();
+    }
+
+    @Override
+    public int getPort() {
+        return serverAddress.getPort();
+    }
+
+    @Override
+    public String getCommandName() {
+        return commandName;
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    @Override
+    public long getTotalReplySize() {
+        return totalReplySize.get();
+    }
+
+    @Override
+    public double getMeanLatencyMicros() {
+        return histogram.getMean();
+    }
+
+    @Override
+    public long getMedianLatencyMicros() {
+        return histogram.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getPercentile95LatencyMicros() {
+        return histogram.getValueAtPercentile(95);
+    }
+
+    @Override
+    public long getPercentile99LatencyMicros() {
+        return histogram.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getMaxLatencyMicros() {
+        return histogram.getMax();
+    }
+
+    @Override
+    public void commandSucceeded(final CommandSucceededEvent event) {
+        totalReplySize.addAndGet(event.getReplySize());
+        record(event);
+    }
+
+    @Override
+    public void commandFailed(final CommandFailedEvent event) {
+        failureCount.incrementAndGet();
+        record(event);
+    }
+
+    private void record(final CommandEvent event) {
+        histogram.record(event.getElapsedTime(MICROSECONDS));
+    }
+}
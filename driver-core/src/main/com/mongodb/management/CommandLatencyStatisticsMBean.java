@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+/**
+ * A standard MBean interface for the latency statistics of one command on one server, for use on Java 6 and above virtual machines.
+ * Latencies are in microseconds and percentiles are accurate to within 12.5%.
+ * <p/>
+ * This interface is NOT part of the public API.  Be prepared for non-binary compatible changes in minor releases.
+ */
+public interface CommandLatencyStatisticsMBean {
+
+    /**
+     * Gets the host that the command is sent to.
+     *
+     * @return the host
+     */
+    String getHost();
+
+    /**
+     * Gets the port that the command is sent to.
+     *
+     * @return the port
+     */
+    int getPort();
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the command name
+     */
+    String getCommandName();
+
+    /**
+     * Gets the number of times the command has completed, whether successfully or not.
+     *
+     * @return the count
+     */
+    long getCount();
+
+    /**
+     * Gets the number of times the command has failed.
+     *
+     * @return the failure count
+     */
+    long getFailureCount();
+
+    /**
+     * Gets the total size in bytes of the replies to the command.
+     *
+     * @return the total reply size
+     */
+    long getTotalReplySize();
+
+    /**
+     * Gets the mean latency of the command.
+     *
+     * @return the mean latency in microseconds
+     */
+    double getMeanLatencyMicros();
+
+    /**
+     * Gets the median latency of the command.
+     *
+     * @return the median latency in microseconds
+     */
+    long getMedianLatencyMicros();
+
+    /**
+     * Gets the 95th percentile latency of the command.
+     *
+     * @return the 95th percentile latency in microseconds
+     */
+    long getPercentile95LatencyMicros();
+
+    /**
+     * Gets the 99th percentile latency of the command.
+     *
+     * @return the 99th percentile latency in microseconds
+     */
+    long getPercentile99LatencyMicros();
+
+    /**
+     * Gets the maximum latency of the command.
+     *
+     * @return the maximum latency in microseconds
+     */
+    long getMaxLatencyMicros();
+}
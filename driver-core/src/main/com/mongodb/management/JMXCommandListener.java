@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.event.ClusterDescriptionChangedEvent;
+import com.mongodb.event.ClusterEvent;
+import com.mongodb.event.ClusterListener;
+import com.mongodb.event.CommandEvent;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.String.format;
+
+/**
+ * A command listener that aggregates command latencies into a set of JMX MBeans, one for each command name and server.  The MBeans are
+ * registered the first time a command completes on a server, and unregistered when the cluster is closed.
+ *
+ * <p>An instance must be registered as both the command listener and the cluster listener of a single cluster, as it takes the cluster id
+ * that it uses in the MBean object names from the cluster opened event.</p>
+ *
+ * @since 3.0
+ */
+public class JMXCommandListener implements CommandListener, ClusterListener {
+    private final ConcurrentMap<ServerAddressCommandNamePair, CommandLatencyStatistics> map =
+        new ConcurrentHashMap<ServerAddressCommandNamePair, CommandLatencyStatistics>();
+    // guards the registration and unregistration of the MBeans, so that none is registered once the cluster has been closed
+    private final Object lock = new Object();
+    private volatile String clusterId;
+    private boolean closed;
+
+    public String getMBeanObjectName(final String clusterId, final ServerAddress serverAddress, final String commandName) {
+        // as in JMXConnectionPoolListener, : is the only character that can appear in the cluster id or host that is invalid in an
+        // object name, but a command name is whatever the first key of the command document is, so replace anything unusual in it.
+        String adjustedClusterId = clusterId.replace(":", "%3A");
+        String adjustedHost = serverAddress.getHost().replace(":", "%3A");
+        String adjustedCommandName = commandName.replaceAll("[^\\w$.-]", "_");
+
+        return format("org.mongodb.driver:type=CommandLatency,clusterId=%s,host=%s,port=%s,command=%s", adjustedClusterId, adjustedHost,
+                      serverAddress.getPort(), adjustedCommandName);
+    }
+
+    public CommandLatencyStatisticsMBean getMBean(final ServerAddress serverAddress, final String commandName) {
+        return map.get(new ServerAddressCommandNamePair(serverAddress, commandName));
+    }
+
+    @Override
+    public void clusterOpened(final ClusterEvent event) {
+        clusterId = event.getClusterId();
+    }
+
+    @Override
+    public void clusterClosed(final ClusterEvent event) {
+        synchronized (lock) {
+            closed = true;
+            for (ServerAddressCommandNamePair key : map.keySet()) {
+                MBeanServerFactory.getMBeanServer().unregisterMBean(getMBeanObjectName(clusterId, key.serverAddress, key.commandName));
+            }
+            map.clear();
+        }
+    }
+
+    @Override
+    public void clusterDescriptionChanged(final ClusterDescriptionChangedEvent event) {
+    }
+
+    @Override
+    public void commandSucceeded(final CommandSucceededEvent event) {
+        CommandLatencyStatistics statistics = getStatistics(event);
+        if (statistics != null) {
+            statistics.commandSucceeded(event);
+        }
+    }
+
+    @Override
+    public void commandFailed(final CommandFailedEvent event) {
+        CommandLatencyStatistics statistics = getStatistics(event);
+        if (statistics != null) {
+            statistics.commandFailed(event);
+        }
+    }
+
+    private CommandLatencyStatistics getStatistics(final CommandEvent event) {
+        if (clusterId == null) {
+            return null;
+        }
+        ServerAddressCommandNamePair key = new ServerAddressCommandNamePair(event.getServerAddress(), event.getCommandName());
+        CommandLatencyStatistics statistics = map.get(key);
+        if (statistics != null) {
+            return statistics;
+        }
+        synchronized (lock) {
+            if (closed) {
+                return null;
+            }
+            statistics = map.get(key);
+            if (statistics == null) {
+                statistics = new CommandLatencyStatistics(event.getServerAddress(), event.getCommandName());
+                MBeanServerFactory.getMBeanServer().registerMBean(statistics, getMBeanObjectName(clusterId, event.getServerAddress(),
+                                                                                                  event.getCommandName()));
+                map.put(key, statistics);
+            }
+            return statistics;
+        }
+    }
+
+    private static final class ServerAddressCommandNamePair {
+        private final ServerAddress serverAddress;
+        private final String commandName;
+
+        private ServerAddressCommandNamePair(final ServerAddress serverAddress, final String commandName) {
+            this.serverAddress = serverAddress;
+            this.commandName = commandName;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ServerAddressCommandNamePair that = (ServerAddressCommandNamePair) o;
+
+            if (!serverAddress.equals(that.serverAddress)) {
+                return false;
+            }
+
+            if (!commandName.equals(that.commandName)) {
+                return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = serverAddress.hashCode();
+            result = 31 * result + commandName.hashCode();
+            return result;
+        }
+    }
+}
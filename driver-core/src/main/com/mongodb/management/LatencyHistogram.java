@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.management;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, fixed-size histogram of latencies in microseconds.  Values are counted in log-linear buckets: each power of two is split
+ * into eight equal sub-buckets, so a percentile is accurate to within 12.5% of the true value while recording costs a couple of atomic
+ * increments and no allocation.  Values above about nineteen hours are counted in the last bucket.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(final long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(getBucketIndex(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    double getMean() {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : (double) total.get() / currentCount;
+    }
+
+    /**
+     * Gets the smallest bucket upper bound that at least the given percentage of the recorded values fall at or below, capped at the
+     * maximum recorded value.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile, or 0 if nothing has been recorded
+     */
+    long getValueAtPercentile(final double percentile) {
+        long currentCount = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            currentCount += snapshot[i];
+        }
+        if (currentCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * currentCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(getBucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int getBucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        if (exponent == MAX_EXPONENT && value >= (1L << (MAX_EXPONENT + 1))) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long getBucketUpperBound(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+}
@@ -96,6 +96,12 @@ public class Find extends Query {
         return this;
     }
 
+    @Override
+    public Find prefetchThreshold(final double prefetchThreshold) {
+        super.prefetchThreshold(prefetchThreshold);
+        return this;
+    }
+
     @Override
     public Find batchSize(final int batchSize) {
         super.batchSize(batchSize);
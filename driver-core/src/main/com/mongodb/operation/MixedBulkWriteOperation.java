@@ -125,7 +125,7 @@ public class MixedBulkWriteOperation<T> implements AsyncWriteOperation<BulkWrite
             public BulkWriteResult call(final Connection connection) {
                 BulkWriteBatchCombiner bulkWriteBatchCombiner = new BulkWriteBatchCombiner(connection.getServerDescription().getAddress(),
                                                                                            ordered, writeConcern);
-                for (Run run : getRunGenerator(connection.getServerDescription())) {
+                for (Run run : getRunGenerator(connection)) {
                     try {
                         BulkWriteResult result = run.execute(connection);
                         if (result.isAcknowledged()) {
@@ -166,7 +166,7 @@ public class MixedBulkWriteOperation<T> implements AsyncWriteOperation<BulkWrite
                                                                                                  ordered,
                                                                                                  writeConcern
                 );
-                Iterator<Run> runs = getRunGenerator(connection.getServerDescription()).iterator();
+                Iterator<Run> runs = getRunGenerator(connection).iterator();
                 executeRunsAsync(runs, connection, bulkWriteBatchCombiner, future);
                 return future;
             }
@@ -213,11 +213,11 @@ public class MixedBulkWriteOperation<T> implements AsyncWriteOperation<BulkWrite
         return serverDescription.getVersion().compareTo(new ServerVersion(2, 6)) >= 0;
     }
 
-    private Iterable<Run> getRunGenerator(final ServerDescription serverDescription) {
+    private Iterable<Run> getRunGenerator(final Connection connection) {
         if (ordered) {
-            return new OrderedRunGenerator(serverDescription);
+            return new OrderedRunGenerator(connection.getServerDescription());
         } else {
-            return new UnorderedRunGenerator(serverDescription);
+            return new UnorderedRunGenerator(connection.getServerDescription(), shouldUseWriteCommands(connection));
         }
     }
 
@@ -272,8 +272,10 @@ public class MixedBulkWriteOperation<T> implements AsyncWriteOperation<BulkWrite
     private class UnorderedRunGenerator implements Iterable<Run> {
         private final int maxWriteBatchSize;
 
-        public UnorderedRunGenerator(final ServerDescription serverDescription) {
-            this.maxWriteBatchSize = serverDescription.getMaxWriteBatchSize();
+        // Write commands split a run into batches themselves, and pipeline the batches of an unordered run on the connection, so with
+        // write commands there is a single run for each type of write
+        public UnorderedRunGenerator(final ServerDescription serverDescription, final boolean useWriteCommands) {
+            this.maxWriteBatchSize = useWriteCommands ? Integer.MAX_VALUE : serverDescription.getMaxWriteBatchSize();
         }
 
         @Override
@@ -21,6 +21,7 @@ import com.mongodb.MongoException;
 import com.mongodb.MongoInternalException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.ServerCursor;
+import com.mongodb.async.MongoAsyncBatchCursor;
 import com.mongodb.async.MongoAsyncCursor;
 import com.mongodb.async.MongoFuture;
 import com.mongodb.async.SingleResultFuture;
@@ -37,8 +38,12 @@ import com.mongodb.protocol.KillCursorProtocol;
 import com.mongodb.protocol.QueryResult;
 import org.bson.codecs.Decoder;
 
+import java.util.List;
 
-class MongoAsyncQueryCursor<T> implements MongoAsyncCursor<T> {
+import static com.mongodb.assertions.Assertions.isTrue;
+
+
+class MongoAsyncQueryCursor<T> implements MongoAsyncCursor<T>, MongoAsyncBatchCursor<T> {
 
     private static final Logger LOGGER = Loggers.getLogger("operation.query.cursor");
 
@@ -49,29 +54,43 @@ class MongoAsyncQueryCursor<T> implements MongoAsyncCursor<T> {
     private final Decoder<T> decoder;
     private final AsyncConnectionSource connectionSource;
     private final Connection exhaustConnection;
+    private final double prefetchThreshold;
     private long numFetchedSoFar;
     private ServerCursor cursor;
-    private boolean closed;
+    private volatile boolean closed;
+
+    // batch iteration state, guarded by this
+    private boolean firstBatchReturned;
+    private boolean fetching;
+    private boolean closeRequested;
+    private int lastRequestId;
 
     // For normal queries
     MongoAsyncQueryCursor(final MongoNamespace namespace, final QueryResult<T> firstBatch, final int limit, final int batchSize,
                           final Decoder<T> decoder, final AsyncConnectionSource connectionSource) {
-        this(namespace, firstBatch, limit, batchSize, decoder, connectionSource, null);
+        this(namespace, firstBatch, limit, batchSize, 0, decoder, connectionSource);
+    }
+
+    // For normal queries that prefetch the next batch while forEach applies the block to the current one
+    MongoAsyncQueryCursor(final MongoNamespace namespace, final QueryResult<T> firstBatch, final int limit, final int batchSize,
+                          final double prefetchThreshold, final Decoder<T> decoder, final AsyncConnectionSource connectionSource) {
+        this(namespace, firstBatch, limit, batchSize, prefetchThreshold, decoder, connectionSource, null);
     }
 
     // For exhaust queries
     MongoAsyncQueryCursor(final MongoNamespace namespace, final QueryResult<T> firstBatch, final int limit, final int batchSize,
                           final Decoder<T> decoder, final Connection exhaustConnection) {
-        this(namespace, firstBatch, limit, batchSize, decoder, null, exhaustConnection);
+        this(namespace, firstBatch, limit, batchSize, 0, decoder, null, exhaustConnection);
     }
 
     private MongoAsyncQueryCursor(final MongoNamespace namespace, final QueryResult<T> firstBatch, final int limit, final int batchSize,
-                                  final Decoder<T> decoder, final AsyncConnectionSource connectionSource,
-                                  final Connection exhaustConnection) {
+                                  final double prefetchThreshold, final Decoder<T> decoder,
+                                  final AsyncConnectionSource connectionSource, final Connection exhaustConnection) {
         this.namespace = namespace;
         this.firstBatch = firstBatch;
         this.limit = limit;
         this.batchSize = batchSize;
+        this.prefetchThreshold = prefetchThreshold;
         this.decoder = decoder;
         this.connectionSource = connectionSource;
         if (this.connectionSource != null) {
@@ -81,6 +100,8 @@ class MongoAsyncQueryCursor<T> implements MongoAsyncCursor<T> {
         if (this.exhaustConnection != null) {
             this.exhaustConnection.retain();
         }
+        this.cursor = firstBatch.getCursor();
+        this.lastRequestId = firstBatch.getRequestId();
     }
 
     @Override
@@ -90,6 +111,116 @@ class MongoAsyncQueryCursor<T> implements MongoAsyncCursor<T> {
         return retVal;
     }
 
+    @Override
+    public MongoFuture<List<T>> nextBatch(final int batchSize) {
+        SingleResultFuture<List<T>> future = new SingleResultFuture<List<T>>();
+        boolean isFirstBatch;
+        synchronized (this) {
+            isTrue("no batch is being fetched", !fetching);
+            if (closeRequested || closed || (firstBatchReturned && cursor == null)) {
+                future.init(null, null);
+                return future;
+            }
+            fetching = true;
+            isFirstBatch = !firstBatchReturned;
+            firstBatchReturned = true;
+        }
+        if (isFirstBatch) {
+            onBatchResult(firstBatch, null, future);
+        } else {
+            getMore(batchSize, future);
+        }
+        return future;
+    }
+
+    @Override
+    public void close() {
+        boolean closeNow;
+        synchronized (this) {
+            closeRequested = true;
+            closeNow = !fetching;
+        }
+        if (closeNow) {
+            killBatchCursor();
+        }
+    }
+
+    private void getMore(final int requestedBatchSize, final SingleResultFuture<List<T>> future) {
+        final SingleResultCallback<QueryResult<T>> callback = new SingleResultCallback<QueryResult<T>>() {
+            @Override
+            public void onResult(final QueryResult<T> result, final MongoException e) {
+                onBatchResult(result, e, future);
+            }
+        };
+        if (isExhaust()) {
+            new GetMoreReceiveProtocol<T>(decoder, lastRequestId).executeAsync(exhaustConnection).register(callback);
+        } else {
+            connectionSource.getConnection().register(new SingleResultCallback<Connection>() {
+                @Override
+                public void onResult(final Connection connection, final MongoException e) {
+                    if (e != null) {
+                        callback.onResult(null, e);
+                    } else {
+                        int getMoreBatchSize = requestedBatchSize == 0 ? batchSize : requestedBatchSize;
+                        new GetMoreProtocol<T>(namespace, new GetMore(cursor, limit, getMoreBatchSize, numFetchedSoFar), decoder)
+                        .executeAsync(connection)
+                        .register(new SingleResultCallback<QueryResult<T>>() {
+                            @Override
+                            public void onResult(final QueryResult<T> result, final MongoException e) {
+                                connection.release();
+                                callback.onResult(result, e);
+                            }
+                        });
+                    }
+                }
+            });
+        }
+    }
+
+    private void onBatchResult(final QueryResult<T> result, final MongoException e, final SingleResultFuture<List<T>> future) {
+        List<T> results = null;
+        boolean closeNow;
+        synchronized (this) {
+            fetching = false;
+            if (e == null) {
+                cursor = result.getCursor();
+                lastRequestId = result.getRequestId();
+                results = result.getResults();
+                if (limit > 0 && numFetchedSoFar + results.size() > limit) {
+                    results = results.subList(0, limit - (int) numFetchedSoFar);
+                }
+                numFetchedSoFar += results.size();
+            }
+            closeNow = e != null || closeRequested || cursor == null || (limit > 0 && numFetchedSoFar >= limit);
+            if (closeRequested || (results != null && results.isEmpty() && cursor == null)) {
+                results = null;
+            }
+        }
+        if (closeNow) {
+            killBatchCursor();
+        }
+        future.init(results, e);
+    }
+
+    private void killBatchCursor() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (cursor == null) {
+            if (isExhaust()) {
+                exhaustConnection.release();
+            }
+            releaseConnectionSource();
+        } else if (isExhaust()) {
+            handleExhaustCleanup(lastRequestId, new SingleResultFuture<Void>(), null);
+        } else {
+            killCursorAndCompleteFuture(new SingleResultFuture<Void>(), null);
+        }
+    }
+
     private void close(final int responseTo, final SingleResultFuture<Void> future, final MongoException e) {
         if (isExhaust()) {
             handleExhaustCleanup(responseTo, future, e);
@@ -151,6 +282,39 @@ class MongoAsyncQueryCursor<T> implements MongoAsyncCursor<T> {
         }
     }
 
+    // the index in the batch of the document before which the next batch is requested, or -1 if it should not be prefetched
+    private int getPrefetchIndex(final QueryResult<T> result) {
+        int size = result.getResults().size();
+        if (prefetchThreshold == 0 || isExhaust() || result.getCursor() == null || size == 0
+            || (limit > 0 && numFetchedSoFar + size >= limit)) {
+            return -1;
+        }
+        return Math.max(1, (int) Math.ceil(prefetchThreshold * size)) - 1;
+    }
+
+    private MongoFuture<QueryResult<T>> getMoreAsync(final ServerCursor serverCursor, final long numFetched) {
+        final SingleResultFuture<QueryResult<T>> future = new SingleResultFuture<QueryResult<T>>();
+        connectionSource.getConnection().register(new SingleResultCallback<Connection>() {
+            @Override
+            public void onResult(final Connection connection, final MongoException e) {
+                if (e != null) {
+                    future.init(null, e);
+                } else {
+                    new GetMoreProtocol<T>(namespace, new GetMore(serverCursor, limit, batchSize, numFetched), decoder)
+                    .executeAsync(connection)
+                    .register(new SingleResultCallback<QueryResult<T>>() {
+                        @Override
+                        public void onResult(final QueryResult<T> result, final MongoException e) {
+                            connection.release();
+                            future.init(result, e);
+                        }
+                    });
+                }
+            }
+        });
+        return future;
+    }
+
     private void releaseConnectionSource() {
         if (connectionSource != null) {
             connectionSource.release();
@@ -188,6 +352,10 @@ class MongoAsyncQueryCursor<T> implements MongoAsyncCursor<T> {
 
             cursor = result.getCursor();
 
+            int prefetchIndex = getPrefetchIndex(result);
+            MongoFuture<QueryResult<T>> prefetchedResult = null;
+            long numFetchedIncludingBatch = numFetchedSoFar + result.getResults().size();
+            int index = 0;
             boolean breakEarly = false;
             MongoException exceptionFromApply = null;
             try {
@@ -197,6 +365,9 @@ class MongoAsyncQueryCursor<T> implements MongoAsyncCursor<T> {
                         breakEarly = true;
                         break;
                     }
+                    if (index++ == prefetchIndex) {
+                        prefetchedResult = getMoreAsync(result.getCursor(), numFetchedIncludingBatch);
+                    }
                     LOGGER.trace("Applying block to " + cur);
                     block.apply(cur);
 
@@ -207,7 +378,20 @@ class MongoAsyncQueryCursor<T> implements MongoAsyncCursor<T> {
                 exceptionFromApply = new MongoInternalException("Exception thrown by client while iterating over cursor", e1);
             }
 
-            if (result.getCursor() == null || breakEarly) {
+            if (prefetchedResult != null) {
+                if (breakEarly) {
+                    final MongoException exceptionToReport = exceptionFromApply;
+                    prefetchedResult.register(new SingleResultCallback<QueryResult<T>>() {
+                        @Override
+                        public void onResult(final QueryResult<T> prefetched, final MongoException prefetchException) {
+                            cursor = prefetched != null ? prefetched.getCursor() : null;
+                            close(0, future, exceptionToReport);
+                        }
+                    });
+                } else {
+                    prefetchedResult.register(new QueryResultSingleResultCallback(block, future));
+                }
+            } else if (result.getCursor() == null || breakEarly) {
                 close(result.getRequestId(), future, exceptionFromApply);
             } else {
                 // get more results
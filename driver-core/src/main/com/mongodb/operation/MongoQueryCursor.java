@@ -17,6 +17,8 @@
 package com.mongodb.operation;
 
 import com.mongodb.MongoCursor;
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
@@ -36,6 +38,9 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 @NotThreadSafe
 class MongoQueryCursor<T> implements MongoCursor<T> {
@@ -45,30 +50,41 @@ class MongoQueryCursor<T> implements MongoCursor<T> {
     private final int batchSize;
     private final Decoder<T> decoder;
     private final ConnectionSource source;
+    private final double prefetchThreshold;
     private QueryResult<T> currentResult;
     private Iterator<T> currentIterator;
     private long nextCount;
+    private int nextCountInBatch;
+    private Future<QueryResult<T>> prefetchedResult;
+    private boolean prefetchFailed;
     private final List<Integer> sizes = new ArrayList<Integer>();
     private boolean closed;
 
     // For normal queries
     MongoQueryCursor(final MongoNamespace namespace, final QueryResult<T> firstBatch, final int limit, final int batchSize,
                      final Decoder<T> decoder, final ConnectionSource source) {
-        this(namespace, firstBatch, limit, batchSize, decoder, source, null);
+        this(namespace, firstBatch, limit, batchSize, 0, decoder, source);
+    }
+
+    // For normal queries that prefetch the next batch
+    MongoQueryCursor(final MongoNamespace namespace, final QueryResult<T> firstBatch, final int limit, final int batchSize,
+                     final double prefetchThreshold, final Decoder<T> decoder, final ConnectionSource source) {
+        this(namespace, firstBatch, limit, batchSize, prefetchThreshold, decoder, source, null);
     }
 
     // For exhaust queries
     MongoQueryCursor(final MongoNamespace namespace, final QueryResult<T> firstBatch, final int limit, final int batchSize,
                      final Decoder<T> decoder, final Connection exhaustConnection) {
-        this(namespace, firstBatch, limit, batchSize, decoder, null, exhaustConnection);
+        this(namespace, firstBatch, limit, batchSize, 0, decoder, null, exhaustConnection);
     }
 
     private MongoQueryCursor(final MongoNamespace namespace, final QueryResult<T> firstBatch,
-                             final int limit, final int batchSize, final Decoder<T> decoder, final ConnectionSource source,
-                             final Connection exhaustConnection) {
+                             final int limit, final int batchSize, final double prefetchThreshold, final Decoder<T> decoder,
+                             final ConnectionSource source, final Connection exhaustConnection) {
         this.namespace = namespace;
         this.limit = limit;
         this.batchSize = batchSize;
+        this.prefetchThreshold = prefetchThreshold;
         this.decoder = decoder;
         this.source = source;
         if (this.source != null) {
@@ -93,6 +109,15 @@ class MongoQueryCursor<T> implements MongoCursor<T> {
         }
         if (isExhaust()) {
             discardRemainingGetMoreResponses();
+        } else if (prefetchedResult != null) {
+            try {
+                discardPrefetchedBatch();
+                if (!limitReached()) {
+                    killCursor();
+                }
+            } finally {
+                source.release();
+            }
         } else if (!limitReached()) {
             try {
                 killCursor();
@@ -140,7 +165,18 @@ class MongoQueryCursor<T> implements MongoCursor<T> {
         }
 
         nextCount++;
-        return currentIterator.next();
+        nextCountInBatch++;
+        T next = currentIterator.next();
+        if (shouldPrefetch()) {
+            try {
+                prefetch();
+            } catch (MongoException e) {
+                // the document has already been taken, so rather than losing it, leave the next batch to a normal get more, which will
+                // report the error again if it persists
+                prefetchFailed = true;
+            }
+        }
+        return next;
     }
 
     /**
@@ -180,7 +216,9 @@ class MongoQueryCursor<T> implements MongoCursor<T> {
     }
 
     private void getMore() {
-        if (isExhaust()) {
+        if (prefetchedResult != null) {
+            receivePrefetchedBatch();
+        } else if (isExhaust()) {
             currentResult = new GetMoreReceiveProtocol<T>(decoder, currentResult.getRequestId()).execute(exhaustConnection);
         } else {
             Connection connection = source.getConnection();
@@ -196,9 +234,75 @@ class MongoQueryCursor<T> implements MongoCursor<T> {
             }
         }
         currentIterator = currentResult.getResults().iterator();
+        nextCountInBatch = 0;
+        prefetchFailed = false;
         sizes.add(currentResult.getResults().size());
     }
 
+    private boolean shouldPrefetch() {
+        if (prefetchThreshold == 0 || prefetchedResult != null || prefetchFailed || isExhaust() || currentResult.getCursor() == null) {
+            return false;
+        }
+        int currentBatchSize = currentResult.getResults().size();
+        if (limit > 0 && nextCount + currentBatchSize - nextCountInBatch >= limit) {
+            return false;
+        }
+        return nextCountInBatch >= Math.ceil(prefetchThreshold * currentBatchSize);
+    }
+
+    // the get more is sent on this thread, but its reply is read on a shared thread as soon as it arrives, so that the connection goes
+    // back to the pool without waiting for the application to reach the next batch
+    private void prefetch() {
+        long numFetchedSoFar = nextCount + currentResult.getResults().size() - nextCountInBatch;
+        final GetMoreProtocol<T> protocol = new GetMoreProtocol<T>(namespace, new GetMore(currentResult.getCursor(), limit, batchSize,
+                                                                                          numFetchedSoFar), decoder);
+        final Connection connection = source.getConnection();
+        try {
+            protocol.send(connection);
+            prefetchedResult = SharedPrefetchExecutor.submit(new Callable<QueryResult<T>>() {
+                @Override
+                public QueryResult<T> call() {
+                    try {
+                        return protocol.receive(connection);
+                    } finally {
+                        connection.release();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            connection.release();
+            throw e;
+        }
+    }
+
+    private void receivePrefetchedBatch() {
+        try {
+            currentResult = prefetchedResult.get();
+        } catch (InterruptedException e) {
+            throw new MongoInterruptedException("Interrupted while waiting for the next batch of results", e);
+        } catch (ExecutionException e) {
+            prefetchedResult = null;
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MongoException("Exception reading the next batch of results", e.getCause());
+        }
+        prefetchedResult = null;
+        if (limitReached()) {
+            killCursor();
+        }
+    }
+
+    // the reply to a prefetched get more must be read before the cursor can be killed, as it may carry a new cursor state
+    private void discardPrefetchedBatch() {
+        try {
+            receivePrefetchedBatch();
+        } catch (MongoException e) {
+            // the cursor is being closed, so there is nothing to be done with the exception
+            currentResult = new QueryResult<T>(Collections.<T>emptyList(), 0, currentResult.getAddress(), currentResult.getRequestId());
+        }
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException("MongoCursor does not support remove");
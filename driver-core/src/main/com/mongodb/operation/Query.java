@@ -28,6 +28,7 @@ public abstract class Query {
     private int limit;
     private QueryOptions options = new QueryOptions();
     private EnumSet<QueryFlag> flags = EnumSet.noneOf(QueryFlag.class);
+    private double prefetchThreshold;
 
     public Query() {
     }
@@ -37,6 +38,7 @@ public abstract class Query {
         limit = from.limit;
         options = new QueryOptions(from.options);
         flags = EnumSet.copyOf(from.flags);
+        prefetchThreshold = from.prefetchThreshold;
     }
 
     public Query skip(final int skip) {
@@ -54,6 +56,22 @@ public abstract class Query {
         return this;
     }
 
+    /**
+     * Enables prefetching of the next batch of results.  Once the given fraction of a batch has been iterated, the cursor asks the server
+     * for the next batch, so that it arrives while the rest of the current batch is being consumed.  At most one batch is prefetched.
+     *
+     * @param prefetchThreshold the fraction of a batch after which to prefetch the next one, greater than 0 and at most 1, or 0 to
+     *                          disable prefetching
+     * @return this
+     */
+    public Query prefetchThreshold(final double prefetchThreshold) {
+        if (prefetchThreshold < 0 || prefetchThreshold > 1) {
+            throw new IllegalArgumentException("prefetchThreshold must be between 0 and 1");
+        }
+        this.prefetchThreshold = prefetchThreshold;
+        return this;
+    }
+
     public Query addFlags(final EnumSet<QueryFlag> flags) {
         if (flags == null) {
             throw new IllegalArgumentException();
@@ -103,6 +121,15 @@ public abstract class Query {
         return options.getBatchSize();
     }
 
+    /**
+     * Gets the fraction of a batch after which the next batch is prefetched.
+     *
+     * @return the prefetch threshold, or 0 if prefetching is disabled
+     */
+    public double getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
     public int getSkip() {
         return skip;
     }
@@ -160,6 +187,9 @@ public abstract class Query {
         if (skip != query.skip) {
             return false;
         }
+        if (Double.compare(prefetchThreshold, query.prefetchThreshold) != 0) {
+            return false;
+        }
         if (!flags.equals(query.flags)) {
             return false;
         }
@@ -176,6 +206,8 @@ public abstract class Query {
         result = 31 * result + limit;
         result = 31 * result + options.hashCode();
         result = 31 * result + flags.hashCode();
+        long temp = Double.doubleToLongBits(prefetchThreshold);
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
         return result;
     }
 }
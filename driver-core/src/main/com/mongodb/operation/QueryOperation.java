@@ -20,6 +20,7 @@ import com.mongodb.MongoCursor;
 import com.mongodb.MongoException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.ReadPreference;
+import com.mongodb.async.MongoAsyncBatchCursor;
 import com.mongodb.async.MongoAsyncCursor;
 import com.mongodb.async.MongoFuture;
 import com.mongodb.async.SingleResultFuture;
@@ -74,17 +75,50 @@ public class QueryOperation<T> implements AsyncReadOperation<MongoAsyncCursor<T>
                                                    resultDecoder, connection);
                 } else {
                     return new MongoQueryCursor<T>(namespace, queryResult, find.getLimit(), find.getBatchSize(),
-                                                   resultDecoder, source);
+                                                   find.getPrefetchThreshold(), resultDecoder, source);
                 }
             }
         });
     }
 
     public MongoFuture<MongoAsyncCursor<T>> executeAsync(final AsyncReadBinding binding) {
-        return withConnection(binding, new OperationHelper.AsyncCallableWithConnectionAndSource<MongoAsyncCursor<T>>() {
+        final SingleResultFuture<MongoAsyncCursor<T>> future = new SingleResultFuture<MongoAsyncCursor<T>>();
+        executeAsyncQuery(binding).register(new SingleResultCallback<MongoAsyncQueryCursor<T>>() {
             @Override
-            public MongoFuture<MongoAsyncCursor<T>> call(final AsyncConnectionSource source, final Connection connection) {
-                final SingleResultFuture<MongoAsyncCursor<T>> future = new SingleResultFuture<MongoAsyncCursor<T>>();
+            public void onResult(final MongoAsyncQueryCursor<T> cursor, final MongoException e) {
+                future.init(cursor, e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Gets an operation that executes this query asynchronously, returning a cursor that is iterated a batch at a time at the pace of the
+     * caller.
+     *
+     * @return the operation
+     */
+    public AsyncReadOperation<MongoAsyncBatchCursor<T>> asBatchCursorOperation() {
+        return new AsyncReadOperation<MongoAsyncBatchCursor<T>>() {
+            @Override
+            public MongoFuture<MongoAsyncBatchCursor<T>> executeAsync(final AsyncReadBinding binding) {
+                final SingleResultFuture<MongoAsyncBatchCursor<T>> future = new SingleResultFuture<MongoAsyncBatchCursor<T>>();
+                executeAsyncQuery(binding).register(new SingleResultCallback<MongoAsyncQueryCursor<T>>() {
+                    @Override
+                    public void onResult(final MongoAsyncQueryCursor<T> cursor, final MongoException e) {
+                        future.init(cursor, e);
+                    }
+                });
+                return future;
+            }
+        };
+    }
+
+    private MongoFuture<MongoAsyncQueryCursor<T>> executeAsyncQuery(final AsyncReadBinding binding) {
+        return withConnection(binding, new OperationHelper.AsyncCallableWithConnectionAndSource<MongoAsyncQueryCursor<T>>() {
+            @Override
+            public MongoFuture<MongoAsyncQueryCursor<T>> call(final AsyncConnectionSource source, final Connection connection) {
+                final SingleResultFuture<MongoAsyncQueryCursor<T>> future = new SingleResultFuture<MongoAsyncQueryCursor<T>>();
                 asQueryProtocol(connection.getServerDescription(), binding.getReadPreference())
                 .executeAsync(connection)
                 .register(new SingleResultCallback<QueryResult<T>>() {
@@ -98,7 +132,8 @@ public class QueryOperation<T> implements AsyncReadOperation<MongoAsyncCursor<T>
                                                                                    find.getBatchSize(), resultDecoder, connection), null);
                                       } else {
                                           future.init(new MongoAsyncQueryCursor<T>(namespace, queryResult, find.getLimit(),
-                                                                                   find.getBatchSize(), resultDecoder, source), null);
+                                                                                   find.getBatchSize(), find.getPrefetchThreshold(),
+                                                                                   resultDecoder, source), null);
                                       }
                                   }
                               }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of daemon threads, shared by all query cursors in the JVM, that reads the replies to prefetched get mores.  Reading the reply
+ * as soon as it arrives lets the cursor return its connection to the pool without waiting for the application to reach the next batch.
+ * Every task holds the connection that it reads from, so the number of threads in use is bounded by the maximum sizes of the
+ * connection pools.  Threads exit once they have been idle for a while.
+ */
+final class SharedPrefetchExecutor {
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    /**
+     * Runs the task on a pooled thread, creating one if none is idle.
+     *
+     * @param task the task
+     * @param <T>  the type of the result of the task
+     * @return a future for the result of the task
+     */
+    static <T> Future<T> submit(final Callable<T> task) {
+        return EXECUTOR.submit(task);
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                      new SynchronousQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                Thread thread = new Thread(runnable, "cursor-shared-prefetcher-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private SharedPrefetchExecutor() {
+    }
+}
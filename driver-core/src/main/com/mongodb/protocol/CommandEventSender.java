@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.protocol;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.ServerAddress;
+import com.mongodb.async.MongoFuture;
+import com.mongodb.async.SingleResultCallback;
+import com.mongodb.connection.CommandListenerProvider;
+import com.mongodb.connection.Connection;
+import com.mongodb.connection.ResponseBuffers;
+import com.mongodb.diagnostics.Loggers;
+import com.mongodb.diagnostics.logging.Logger;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Times a single execution of a protocol and publishes the outcome to the command listener of the connection it executes on.  When the
+ * connection does not implement {@link CommandListenerProvider}, or has no command listener, every method is a no-op, so that protocols
+ * can use this unconditionally.  An exception thrown by the listener is logged rather than allowed to fail the command.
+ *
+ * <p>A protocol may receive several replies in one execution, e.g. a pipelined batch write, in which case the reply sizes are summed and
+ * the request id is that of the last reply.</p>
+ */
+final class CommandEventSender {
+    private static final Logger LOGGER = Loggers.getLogger("protocol.event");
+
+    private final CommandListener commandListener;
+    private final String commandName;
+    private final MongoNamespace namespace;
+    private final ServerAddress serverAddress;
+    private final String connectionId;
+    private final long startTimeNanos;
+    private volatile int requestId;
+    private volatile int replySize;
+
+    CommandEventSender(final Connection connection, final String commandName, final MongoNamespace namespace) {
+        this.commandListener = connection instanceof CommandListenerProvider
+                               ? ((CommandListenerProvider) connection).getCommandListener() : null;
+        this.commandName = commandName;
+        this.namespace = namespace;
+        if (commandListener != null) {
+            serverAddress = connection.getServerAddress();
+            connectionId = connection.getId();
+            startTimeNanos = System.nanoTime();
+        } else {
+            serverAddress = null;
+            connectionId = null;
+            startTimeNanos = 0;
+        }
+    }
+
+    void replyReceived(final ResponseBuffers responseBuffers) {
+        if (commandListener != null) {
+            synchronized (this) {
+                requestId = responseBuffers.getReplyHeader().getResponseTo();
+                replySize += responseBuffers.getReplyHeader().getMessageLength();
+            }
+        }
+    }
+
+    void sendSucceededEvent() {
+        if (commandListener != null) {
+            try {
+                commandListener.commandSucceeded(new CommandSucceededEvent(commandName, namespace, serverAddress, connectionId, requestId,
+                                                                           System.nanoTime() - startTimeNanos, replySize));
+            } catch (Throwable t) {
+                LOGGER.warn("Exception when trying to signal commandSucceeded to the commandListener", t);
+            }
+        }
+    }
+
+    void sendFailedEvent(final Throwable t) {
+        if (commandListener != null) {
+            try {
+                commandListener.commandFailed(new CommandFailedEvent(commandName, namespace, serverAddress, connectionId, requestId,
+                                                                     System.nanoTime() - startTimeNanos, t));
+            } catch (Throwable e) {
+                LOGGER.warn("Exception when trying to signal commandFailed to the commandListener", e);
+            }
+        }
+    }
+
+    /**
+     * Wraps the given callback for an asynchronous receive so that the reply is recorded before the callback decodes it.
+     */
+    SingleResultCallback<ResponseBuffers> wrap(final SingleResultCallback<ResponseBuffers> callback) {
+        if (commandListener == null) {
+            return callback;
+        }
+        return new SingleResultCallback<ResponseBuffers>() {
+            @Override
+            public void onResult(final ResponseBuffers result, final MongoException e) {
+                if (result != null) {
+                    replyReceived(result);
+                }
+                callback.onResult(result, e);
+            }
+        };
+    }
+
+    /**
+     * Publishes the outcome of an asynchronous execution once the given future completes.
+     */
+    <T> MongoFuture<T> register(final MongoFuture<T> future) {
+        if (commandListener != null) {
+            future.register(new SingleResultCallback<T>() {
+                @Override
+                public void onResult(final T result, final MongoException e) {
+                    if (e != null) {
+                        sendFailedEvent(e);
+                    } else {
+                        sendSucceededEvent();
+                    }
+                }
+            });
+        }
+        return future;
+    }
+}
@@ -64,11 +64,23 @@ public class CommandProtocol implements Protocol<CommandResult> {
         LOGGER.debug(format("Sending command {%s : %s} to database %s on connection [%s] to server %s",
                             command.keySet().iterator().next(), command.values().iterator().next(),
                             namespace.getDatabaseName(), connection.getId(), connection.getServerAddress()));
-        CommandResult commandResult = receiveMessage(connection, sendMessage(connection).getId());
+        CommandEventSender eventSender = new CommandEventSender(connection, getCommandName(), namespace);
+        CommandResult commandResult;
+        try {
+            commandResult = receiveMessage(connection, sendMessage(connection).getId(), eventSender);
+        } catch (RuntimeException e) {
+            eventSender.sendFailedEvent(e);
+            throw e;
+        }
+        eventSender.sendSucceededEvent();
         LOGGER.debug("Command execution completed with status " + commandResult.isOk());
         return commandResult;
     }
 
+    private String getCommandName() {
+        return command.keySet().iterator().next();
+    }
+
     private CommandMessage sendMessage(final Connection connection) {
         ByteBufferOutputBuffer buffer = new ByteBufferOutputBuffer(connection);
         try {
@@ -82,9 +94,10 @@ public class CommandProtocol implements Protocol<CommandResult> {
         }
     }
 
-    private CommandResult receiveMessage(final Connection connection, final int messageId) {
+    private CommandResult receiveMessage(final Connection connection, final int messageId, final CommandEventSender eventSender) {
         ResponseBuffers responseBuffers = connection.receiveMessage(messageId);
         try {
+            eventSender.replyReceived(responseBuffers);
             ReplyMessage<BsonDocument> replyMessage = new ReplyMessage<BsonDocument>(responseBuffers, commandResultDecoder, messageId);
             return createCommandResult(replyMessage, connection.getServerAddress());
         } finally {
@@ -97,6 +110,7 @@ public class CommandProtocol implements Protocol<CommandResult> {
                             command.keySet().iterator().next(), command.values().iterator().next(),
                             namespace.getDatabaseName(), connection.getId(), connection.getServerAddress()));
         SingleResultFuture<CommandResult> retVal = new SingleResultFuture<CommandResult>();
+        CommandEventSender eventSender = new CommandEventSender(connection, getCommandName(), namespace);
 
         ByteBufferOutputBuffer buffer = new ByteBufferOutputBuffer(connection);
         CommandMessage message = new CommandMessage(namespace.getFullName(), command, queryFlags, fieldNameValidator,
@@ -109,8 +123,9 @@ public class CommandProtocol implements Protocol<CommandResult> {
                                                                           connection.getServerAddress());
         connection.sendMessageAsync(buffer.getByteBuffers(),
                                     message.getId(),
-                                    new SendMessageCallback<CommandResult>(connection, buffer, message.getId(), retVal, receiveCallback));
-        return retVal;
+                                    new SendMessageCallback<CommandResult>(connection, buffer, message.getId(), retVal,
+                                                                           eventSender.wrap(receiveCallback)));
+        return eventSender.register(retVal);
     }
 
     private CommandResult createCommandResult(final ReplyMessage<BsonDocument> replyMessage, final ServerAddress serverAddress) {
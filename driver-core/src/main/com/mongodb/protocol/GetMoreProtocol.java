@@ -33,6 +33,7 @@ import com.mongodb.protocol.message.ReplyMessage;
 import org.bson.codecs.Decoder;
 import org.mongodb.Document;
 
+import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.protocol.ProtocolHelper.encodeMessageToBuffer;
 import static com.mongodb.protocol.ProtocolHelper.getQueryFailureException;
 import static java.lang.String.format;
@@ -41,9 +42,13 @@ public class GetMoreProtocol<T> implements Protocol<QueryResult<T>> {
 
     public static final Logger LOGGER = Loggers.getLogger("protocol.getmore");
 
+    private static final String COMMAND_NAME = "getMore";
+
     private final GetMore getMore;
     private final Decoder<T> resultDecoder;
     private final MongoNamespace namespace;
+    private GetMoreMessage sentMessage;
+    private CommandEventSender sentEventSender;
 
     public GetMoreProtocol(final MongoNamespace namespace, final GetMore getMore, final Decoder<T> resultDecoder) {
         this.namespace = namespace;
@@ -55,15 +60,63 @@ public class GetMoreProtocol<T> implements Protocol<QueryResult<T>> {
     public QueryResult<T> execute(final Connection connection) {
         LOGGER.debug(format("Getting more documents from namespace %s with cursor %d on connection [%s] to server %s",
                             namespace, getMore.getServerCursor().getId(), connection.getId(), connection.getServerAddress()));
-        QueryResult<T> queryResult = receiveMessage(connection, sendMessage(connection));
+        CommandEventSender eventSender = new CommandEventSender(connection, COMMAND_NAME, namespace);
+        QueryResult<T> queryResult;
+        try {
+            queryResult = receiveMessage(connection, sendMessage(connection), eventSender);
+        } catch (RuntimeException e) {
+            eventSender.sendFailedEvent(e);
+            throw e;
+        }
+        eventSender.sendSucceededEvent();
         LOGGER.debug("Get-more completed");
         return queryResult;
     }
 
+    /**
+     * Sends the get more message without waiting for the reply, so that the server can produce the next batch while the caller is still
+     * busy with the current one.  The reply must then be read with {@link #receive(Connection)} on the same connection.
+     *
+     * @param connection the connection to send the message on
+     */
+    public void send(final Connection connection) {
+        LOGGER.debug(format("Prefetching more documents from namespace %s with cursor %d on connection [%s] to server %s",
+                            namespace, getMore.getServerCursor().getId(), connection.getId(), connection.getServerAddress()));
+        isTrue("not already sent", sentMessage == null);
+        sentEventSender = new CommandEventSender(connection, COMMAND_NAME, namespace);
+        try {
+            sentMessage = sendMessage(connection);
+        } catch (RuntimeException e) {
+            sentEventSender.sendFailedEvent(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Receives the reply to a get more message previously sent with {@link #send(Connection)}.
+     *
+     * @param connection the connection the message was sent on
+     * @return the query result
+     */
+    public QueryResult<T> receive(final Connection connection) {
+        isTrue("already sent", sentMessage != null);
+        QueryResult<T> queryResult;
+        try {
+            queryResult = receiveMessage(connection, sentMessage, sentEventSender);
+        } catch (RuntimeException e) {
+            sentEventSender.sendFailedEvent(e);
+            throw e;
+        }
+        sentEventSender.sendSucceededEvent();
+        LOGGER.debug("Prefetched get-more completed");
+        return queryResult;
+    }
+
     public MongoFuture<QueryResult<T>> executeAsync(final Connection connection) {
         LOGGER.debug(format("Asynchronously getting more documents from namespace %s with cursor %d on connection [%s] to server %s",
                             namespace, getMore.getServerCursor().getId(), connection.getId(), connection.getServerAddress()));
         SingleResultFuture<QueryResult<T>> retVal = new SingleResultFuture<QueryResult<T>>();
+        CommandEventSender eventSender = new CommandEventSender(connection, COMMAND_NAME, namespace);
 
         ByteBufferOutputBuffer buffer = new ByteBufferOutputBuffer(connection);
         GetMoreMessage message = new GetMoreMessage(namespace.getFullName(), getMore);
@@ -76,8 +129,8 @@ public class GetMoreProtocol<T> implements Protocol<QueryResult<T>> {
         connection.sendMessageAsync(buffer.getByteBuffers(),
                                          message.getId(),
                                          new SendMessageCallback<QueryResult<T>>(connection, buffer, message.getId(), retVal,
-                                                                                 receiveCallback));
-        return retVal;
+                                                                                 eventSender.wrap(receiveCallback)));
+        return eventSender.register(retVal);
     }
 
 
@@ -93,9 +146,11 @@ public class GetMoreProtocol<T> implements Protocol<QueryResult<T>> {
         }
     }
 
-    private QueryResult<T> receiveMessage(final Connection connection, final GetMoreMessage message) {
+    private QueryResult<T> receiveMessage(final Connection connection, final GetMoreMessage message,
+                                          final CommandEventSender eventSender) {
         ResponseBuffers responseBuffers = connection.receiveMessage(message.getId());
         try {
+            eventSender.replyReceived(responseBuffers);
             if (responseBuffers.getReplyHeader().isCursorNotFound()) {
                 throw new MongoCursorNotFoundException(message.getCursorId(), connection.getServerAddress());
             }
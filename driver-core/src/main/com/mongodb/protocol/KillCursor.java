@@ -18,6 +18,7 @@ package com.mongodb.protocol;
 
 import com.mongodb.ServerCursor;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -28,6 +29,10 @@ public class KillCursor {
         this.serverCursors = Collections.singletonList(serverCursor);
     }
 
+    public KillCursor(final List<ServerCursor> serverCursors) {
+        this.serverCursors = Collections.unmodifiableList(new ArrayList<ServerCursor>(serverCursors));
+    }
+
     public List<ServerCursor> getServerCursors() {
         return serverCursors;
     }
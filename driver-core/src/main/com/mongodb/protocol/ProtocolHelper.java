@@ -25,6 +25,10 @@ import com.mongodb.ServerAddress;
 import com.mongodb.WriteConcernException;
 import com.mongodb.connection.ByteBufferOutputBuffer;
 import com.mongodb.connection.ServerDescription;
+import com.mongodb.protocol.message.DeleteCommandMessage;
+import com.mongodb.protocol.message.DeleteMessage;
+import com.mongodb.protocol.message.InsertCommandMessage;
+import com.mongodb.protocol.message.InsertMessage;
 import com.mongodb.protocol.message.MessageSettings;
 import com.mongodb.protocol.message.RequestMessage;
 import org.bson.BsonBoolean;
@@ -93,6 +97,17 @@ final class ProtocolHelper {
                               .build();
     }
 
+    // the name of the write command that a write message executes, whether it is sent as a write command or as a legacy write op code
+    static String getWriteCommandName(final RequestMessage message) {
+        if (message instanceof InsertMessage || message instanceof InsertCommandMessage) {
+            return "insert";
+        } else if (message instanceof DeleteMessage || message instanceof DeleteCommandMessage) {
+            return "delete";
+        } else {
+            return "update";
+        }
+    }
+
     static RequestMessage encodeMessageToBuffer(final RequestMessage message, final ByteBufferOutputBuffer buffer) {
         try {
             return message.encode(buffer);
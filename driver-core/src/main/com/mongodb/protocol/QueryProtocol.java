@@ -45,6 +45,8 @@ public class QueryProtocol<T> implements Protocol<QueryResult<T>> {
 
     public static final Logger LOGGER = Loggers.getLogger("protocol.query");
 
+    private static final String COMMAND_NAME = "query";
+
     private final EnumSet<QueryFlag> queryFlags;
     private final int skip;
     private final int numberToReturn;
@@ -69,7 +71,15 @@ public class QueryProtocol<T> implements Protocol<QueryResult<T>> {
     public QueryResult<T> execute(final Connection connection) {
         LOGGER.debug(format("Sending query of namespace %s on connection [%s] to server %s", namespace, connection.getId(),
                             connection.getServerAddress()));
-        QueryResult<T> queryResult = receiveMessage(connection, sendMessage(connection));
+        CommandEventSender eventSender = new CommandEventSender(connection, COMMAND_NAME, namespace);
+        QueryResult<T> queryResult;
+        try {
+            queryResult = receiveMessage(connection, sendMessage(connection), eventSender);
+        } catch (RuntimeException e) {
+            eventSender.sendFailedEvent(e);
+            throw e;
+        }
+        eventSender.sendSucceededEvent();
         LOGGER.debug("Query completed");
         return queryResult;
     }
@@ -78,6 +88,7 @@ public class QueryProtocol<T> implements Protocol<QueryResult<T>> {
         LOGGER.debug(format("Asynchronously sending query of namespace %s on connection [%s] to server %s", namespace, connection.getId(),
                             connection.getServerAddress()));
         SingleResultFuture<QueryResult<T>> retVal = new SingleResultFuture<QueryResult<T>>();
+        CommandEventSender eventSender = new CommandEventSender(connection, COMMAND_NAME, namespace);
 
         ByteBufferOutputBuffer buffer = new ByteBufferOutputBuffer(connection);
         QueryMessage message = createQueryMessage(connection.getServerDescription());
@@ -89,9 +100,9 @@ public class QueryProtocol<T> implements Protocol<QueryResult<T>> {
         connection.sendMessageAsync(buffer.getByteBuffers(),
                                     message.getId(),
                                     new SendMessageCallback<QueryResult<T>>(connection, buffer, message.getId(), retVal,
-                                                                            receiveCallback)
+                                                                            eventSender.wrap(receiveCallback))
                                    );
-        return retVal;
+        return eventSender.register(retVal);
     }
 
     private QueryMessage createQueryMessage(final ServerDescription serverDescription) {
@@ -111,9 +122,11 @@ public class QueryProtocol<T> implements Protocol<QueryResult<T>> {
         }
     }
 
-    private QueryResult<T> receiveMessage(final Connection connection, final QueryMessage message) {
+    private QueryResult<T> receiveMessage(final Connection connection, final QueryMessage message,
+                                          final CommandEventSender eventSender) {
         ResponseBuffers responseBuffers = connection.receiveMessage(message.getId());
         try {
+            eventSender.replyReceived(responseBuffers);
             if (responseBuffers.getReplyHeader().isQueryFailure()) {
                 Document errorDocument = new ReplyMessage<Document>(responseBuffers,
                                                                     new DocumentCodec(),
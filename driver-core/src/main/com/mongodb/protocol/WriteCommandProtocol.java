@@ -36,14 +36,23 @@ import org.bson.codecs.BsonDocumentCodec;
 import org.mongodb.BulkWriteResult;
 import org.mongodb.CommandResult;
 
+import java.util.LinkedList;
+import java.util.List;
+
 import static com.mongodb.protocol.ProtocolHelper.getCommandFailureException;
 import static com.mongodb.protocol.ProtocolHelper.getMessageSettings;
+import static com.mongodb.protocol.ProtocolHelper.getWriteCommandName;
 import static com.mongodb.protocol.WriteCommandResultHelper.getBulkWriteException;
 import static com.mongodb.protocol.WriteCommandResultHelper.getBulkWriteResult;
 import static com.mongodb.protocol.WriteCommandResultHelper.hasError;
 import static java.lang.String.format;
 
 public abstract class WriteCommandProtocol implements Protocol<BulkWriteResult> {
+    /**
+     * The maximum number of batches of an unordered write that are sent before waiting for a reply.
+     */
+    public static final int MAX_UNORDERED_BATCHES_IN_FLIGHT = 4;
+
     private final MongoNamespace namespace;
     private final boolean ordered;
     private final WriteConcern writeConcern;
@@ -58,30 +67,69 @@ public abstract class WriteCommandProtocol implements Protocol<BulkWriteResult>
         return writeConcern;
     }
 
+    /**
+     * Gets the maximum number of batches that are sent to the server before waiting for the reply to the first of them.  Ordered writes
+     * must stop at the first error so they wait for each reply before sending the next batch, while unordered writes pipeline up to
+     * {@link #MAX_UNORDERED_BATCHES_IN_FLIGHT} batches on the connection.
+     *
+     * @return the maximum number of batches in flight
+     */
+    protected int getMaxBatchesInFlight() {
+        return ordered ? 1 : MAX_UNORDERED_BATCHES_IN_FLIGHT;
+    }
+
     public BulkWriteResult execute(final Connection connection) {
         BaseWriteCommandMessage message = createRequestMessage(getMessageSettings(connection.getServerDescription()));
+        CommandEventSender eventSender = new CommandEventSender(connection, getWriteCommandName(message), namespace);
+        BulkWriteResult bulkWriteResult;
+        try {
+            bulkWriteResult = execute(connection, message, eventSender);
+        } catch (RuntimeException e) {
+            eventSender.sendFailedEvent(e);
+            throw e;
+        }
+        eventSender.sendSucceededEvent();
+        return bulkWriteResult;
+    }
+
+    private BulkWriteResult execute(final Connection connection, final BaseWriteCommandMessage firstMessage,
+                                    final CommandEventSender eventSender) {
+        BaseWriteCommandMessage message = firstMessage;
         BulkWriteBatchCombiner bulkWriteBatchCombiner = new BulkWriteBatchCombiner(connection.getServerAddress(), ordered, writeConcern);
+        LinkedList<Batch> batchesInFlight = new LinkedList<Batch>();
+        int maxBatchesInFlight = getMaxBatchesInFlight();
         int batchNum = 0;
         int currentRangeStartIndex = 0;
-        do {
-            batchNum++;
-            BaseWriteCommandMessage nextMessage = sendMessage(connection, message, batchNum);
-            int itemCount = nextMessage != null ? message.getItemCount() - nextMessage.getItemCount() : message.getItemCount();
-            IndexMap indexMap = IndexMap.create(currentRangeStartIndex, itemCount);
-            CommandResult commandResult = receiveMessage(connection, message);
+        try {
+            do {
+                while (message != null && batchesInFlight.size() < maxBatchesInFlight
+                       && !bulkWriteBatchCombiner.shouldStopSendingMoreBatches()) {
+                    batchNum++;
+                    BaseWriteCommandMessage nextMessage = sendMessage(connection, message, batchNum);
+                    int itemCount = nextMessage != null ? message.getItemCount() - nextMessage.getItemCount() : message.getItemCount();
+                    batchesInFlight.add(new Batch(message, batchNum, IndexMap.create(currentRangeStartIndex, itemCount),
+                                                  nextMessage != null || batchNum > 1));
+                    currentRangeStartIndex += itemCount;
+                    message = nextMessage;
+                }
 
-            if (nextMessage != null || batchNum > 1) {
-                getLogger().debug(format("Received response for batch %d", batchNum));
-            }
+                Batch batch = batchesInFlight.removeFirst();
+                CommandResult commandResult = receiveMessage(connection, batch.message, eventSender);
 
-            if (hasError(commandResult)) {
-                bulkWriteBatchCombiner.addErrorResult(getBulkWriteException(getType(), commandResult), indexMap);
-            } else {
-                bulkWriteBatchCombiner.addResult(getBulkWriteResult(getType(), commandResult), indexMap);
-            }
-            currentRangeStartIndex += itemCount;
-            message = nextMessage;
-        } while (message != null && !bulkWriteBatchCombiner.shouldStopSendingMoreBatches());
+                if (batch.isSplit) {
+                    getLogger().debug(format("Received response for batch %d", batch.batchNum));
+                }
+
+                if (hasError(commandResult)) {
+                    bulkWriteBatchCombiner.addErrorResult(getBulkWriteException(getType(), commandResult), batch.indexMap);
+                } else {
+                    bulkWriteBatchCombiner.addResult(getBulkWriteResult(getType(), commandResult), batch.indexMap);
+                }
+            } while (!batchesInFlight.isEmpty() || (message != null && !bulkWriteBatchCombiner.shouldStopSendingMoreBatches()));
+        } catch (RuntimeException e) {
+            discardReplies(connection, batchesInFlight);
+            throw e;
+        }
 
         return bulkWriteBatchCombiner.getResult();
     }
@@ -89,52 +137,133 @@ public abstract class WriteCommandProtocol implements Protocol<BulkWriteResult>
     @Override
     public MongoFuture<BulkWriteResult> executeAsync(final Connection connection) {
         SingleResultFuture<BulkWriteResult> future = new SingleResultFuture<BulkWriteResult>();
-        executeBatchesAsync(connection, createRequestMessage(getMessageSettings(connection.getServerDescription())),
-                            new BulkWriteBatchCombiner(connection.getServerAddress(), ordered, writeConcern), 0, 0, future);
-        return future;
+        BaseWriteCommandMessage message = createRequestMessage(getMessageSettings(connection.getServerDescription()));
+        CommandEventSender eventSender = new CommandEventSender(connection, getWriteCommandName(message), namespace);
+        new AsyncBatchExecutor(connection, message,
+                               new BulkWriteBatchCombiner(connection.getServerAddress(), ordered, writeConcern), future,
+                               eventSender).sendBatches();
+        return eventSender.register(future);
+    }
+
+    // reads the replies to batches that were sent before a failure, so that they are not left on the connection
+    private void discardReplies(final Connection connection, final List<Batch> batchesInFlight) {
+        for (Batch batch : batchesInFlight) {
+            try {
+                connection.receiveMessage(batch.message.getId()).close();
+            } catch (MongoException e) {
+                getLogger().debug(format("Exception receiving response for batch %d after a previous failure", batch.batchNum), e);
+                break;
+            }
+        }
+        batchesInFlight.clear();
     }
 
-    private void executeBatchesAsync(final Connection connection, final BaseWriteCommandMessage message,
-                                     final BulkWriteBatchCombiner bulkWriteBatchCombiner, final int batchNum,
-                                     final int currentRangeStartIndex, final SingleResultFuture<BulkWriteResult> future) {
+    private static final class Batch {
+        private final BaseWriteCommandMessage message;
+        private final int batchNum;
+        private final IndexMap indexMap;
+        private final boolean isSplit;
+
+        Batch(final BaseWriteCommandMessage message, final int batchNum, final IndexMap indexMap, final boolean isSplit) {
+            this.message = message;
+            this.batchNum = batchNum;
+            this.indexMap = indexMap;
+            this.isSplit = isSplit;
+        }
+    }
 
-        if (message != null && !bulkWriteBatchCombiner.shouldStopSendingMoreBatches()) {
+    /**
+     * Sends the batches of an asynchronous write, keeping up to {@link #getMaxBatchesInFlight()} of them in flight.  Replies may complete
+     * on other threads, so all state is guarded by this object's lock.
+     */
+    private final class AsyncBatchExecutor {
+        private final Connection connection;
+        private final BulkWriteBatchCombiner bulkWriteBatchCombiner;
+        private final SingleResultFuture<BulkWriteResult> future;
+        private final CommandEventSender eventSender;
+        private final int maxBatchesInFlight = getMaxBatchesInFlight();
+        private BaseWriteCommandMessage message;
+        private int batchNum;
+        private int currentRangeStartIndex;
+        private int batchesInFlight;
+        private MongoException exception;
+        private boolean completed;
 
+        AsyncBatchExecutor(final Connection connection, final BaseWriteCommandMessage message,
+                           final BulkWriteBatchCombiner bulkWriteBatchCombiner, final SingleResultFuture<BulkWriteResult> future,
+                           final CommandEventSender eventSender) {
+            this.connection = connection;
+            this.eventSender = eventSender;
+            this.message = message;
+            this.bulkWriteBatchCombiner = bulkWriteBatchCombiner;
+            this.future = future;
+        }
+
+        synchronized void sendBatches() {
+            while (canSendMoreBatches() && batchesInFlight < maxBatchesInFlight) {
+                sendBatch();
+            }
+            if (batchesInFlight == 0 && !completed) {
+                completed = true;
+                complete();
+            }
+        }
+
+        private boolean canSendMoreBatches() {
+            return message != null && exception == null && !bulkWriteBatchCombiner.shouldStopSendingMoreBatches();
+        }
+
+        private void sendBatch() {
             final ByteBufferOutputBuffer buffer = new ByteBufferOutputBuffer(connection);
-            final BaseWriteCommandMessage nextMessage = message.encode(buffer);
-            final int itemCount = nextMessage != null ? message.getItemCount() - nextMessage.getItemCount() : message.getItemCount();
+            final BaseWriteCommandMessage currentMessage = message;
+            final BaseWriteCommandMessage nextMessage = currentMessage.encode(buffer);
+            final int itemCount = nextMessage != null ? currentMessage.getItemCount() - nextMessage.getItemCount()
+                                                      : currentMessage.getItemCount();
             final IndexMap indexMap = IndexMap.create(currentRangeStartIndex, itemCount);
-            final int nextBatchNum = batchNum + 1;
-            final int nextRangeStartIndex = currentRangeStartIndex + itemCount;
+            final int currentBatchNum = ++batchNum;
 
-            if (nextBatchNum > 1) {
-                getLogger().debug(format("Asynchronously sending batch %d", batchNum));
+            if (currentBatchNum > 1) {
+                getLogger().debug(format("Asynchronously sending batch %d", currentBatchNum));
             }
 
-            sendMessageAsync(connection, message.getId(), buffer).register(new SingleResultCallback<CommandResult>() {
+            currentRangeStartIndex += itemCount;
+            message = nextMessage;
+            batchesInFlight++;
+
+            sendMessageAsync(connection, currentMessage.getId(), buffer, eventSender).register(new SingleResultCallback<CommandResult>() {
                 @Override
                 public void onResult(final CommandResult result, final MongoException e) {
                     buffer.close();
-                    if (e != null) {
-                        future.init(null, e);
-                    } else {
-
-                        if (nextBatchNum > 1) {
-                            getLogger().debug(format("Asynchronously received response for batch %d", batchNum));
-                        }
-
-                        if (hasError(result)) {
-                            bulkWriteBatchCombiner.addErrorResult(getBulkWriteException(getType(), result), indexMap);
-                        } else {
-                            bulkWriteBatchCombiner.addResult(getBulkWriteResult(getType(), result), indexMap);
-                        }
-
-                        executeBatchesAsync(connection, nextMessage, bulkWriteBatchCombiner, nextBatchNum, nextRangeStartIndex, future);
-                    }
+                    onBatchResult(currentBatchNum, indexMap, result, e);
                 }
             });
-        } else {
-            if (bulkWriteBatchCombiner.hasErrors()) {
+        }
+
+        private synchronized void onBatchResult(final int resultBatchNum, final IndexMap indexMap, final CommandResult result,
+                                                final MongoException e) {
+            batchesInFlight--;
+            if (e != null) {
+                if (exception == null) {
+                    exception = e;
+                }
+            } else {
+                if (batchNum > 1) {
+                    getLogger().debug(format("Asynchronously received response for batch %d", resultBatchNum));
+                }
+
+                if (hasError(result)) {
+                    bulkWriteBatchCombiner.addErrorResult(getBulkWriteException(getType(), result), indexMap);
+                } else {
+                    bulkWriteBatchCombiner.addResult(getBulkWriteResult(getType(), result), indexMap);
+                }
+            }
+            sendBatches();
+        }
+
+        private void complete() {
+            if (exception != null) {
+                future.init(null, exception);
+            } else if (bulkWriteBatchCombiner.hasErrors()) {
                 future.init(null, bulkWriteBatchCombiner.getError());
             } else {
                 future.init(bulkWriteBatchCombiner.getResult(), null);
@@ -160,9 +289,11 @@ public abstract class WriteCommandProtocol implements Protocol<BulkWriteResult>
         }
     }
 
-    private CommandResult receiveMessage(final Connection connection, final RequestMessage message) {
+    private CommandResult receiveMessage(final Connection connection, final RequestMessage message,
+                                         final CommandEventSender eventSender) {
         ResponseBuffers responseBuffers = connection.receiveMessage(message.getId());
         try {
+            eventSender.replyReceived(responseBuffers);
             ReplyMessage<BsonDocument> replyMessage = new ReplyMessage<BsonDocument>(responseBuffers, new BsonDocumentCodec(),
                                                                                      message.getId());
             CommandResult commandResult = new CommandResult(connection.getServerAddress(), replyMessage.getDocuments().get(0)
@@ -179,7 +310,7 @@ public abstract class WriteCommandProtocol implements Protocol<BulkWriteResult>
     }
 
     private MongoFuture<CommandResult> sendMessageAsync(final Connection connection, final int messageId,
-                                                        final ByteBufferOutputBuffer buffer) {
+                                                        final ByteBufferOutputBuffer buffer, final CommandEventSender eventSender) {
         SingleResultFuture<CommandResult> future = new SingleResultFuture<CommandResult>();
 
         CommandResultCallback receiveCallback = new CommandResultCallback(new SingleResultFutureCallback<CommandResult>(future),
@@ -187,7 +318,8 @@ public abstract class WriteCommandProtocol implements Protocol<BulkWriteResult>
                                                                           messageId,
                                                                           connection.getServerAddress());
         connection.sendMessageAsync(buffer.getByteBuffers(), messageId,
-                                    new SendMessageCallback<CommandResult>(connection, buffer, messageId, future, receiveCallback));
+                                    new SendMessageCallback<CommandResult>(connection, buffer, messageId, future,
+                                                                                          eventSender.wrap(receiveCallback)));
 
         return future;
     }
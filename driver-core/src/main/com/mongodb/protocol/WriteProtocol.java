@@ -40,6 +40,7 @@ import java.util.EnumSet;
 import static com.mongodb.MongoNamespace.COMMAND_COLLECTION_NAME;
 import static com.mongodb.protocol.ProtocolHelper.encodeMessageToBuffer;
 import static com.mongodb.protocol.ProtocolHelper.getMessageSettings;
+import static com.mongodb.protocol.ProtocolHelper.getWriteCommandName;
 import static java.lang.String.format;
 
 public abstract class WriteProtocol implements Protocol<WriteResult> {
@@ -55,7 +56,17 @@ public abstract class WriteProtocol implements Protocol<WriteResult> {
     }
 
     public WriteResult execute(final Connection connection) {
-        return receiveMessage(connection, sendMessage(connection));
+        RequestMessage requestMessage = createRequestMessage(getMessageSettings(connection.getServerDescription()));
+        CommandEventSender eventSender = new CommandEventSender(connection, getWriteCommandName(requestMessage), namespace);
+        WriteResult writeResult;
+        try {
+            writeResult = receiveMessage(connection, sendMessage(connection, requestMessage), eventSender);
+        } catch (RuntimeException e) {
+            eventSender.sendFailedEvent(e);
+            throw e;
+        }
+        eventSender.sendSucceededEvent();
+        return writeResult;
     }
 
     public MongoFuture<WriteResult> executeAsync(final Connection connection) {
@@ -63,6 +74,7 @@ public abstract class WriteProtocol implements Protocol<WriteResult> {
 
         ByteBufferOutputBuffer buffer = new ByteBufferOutputBuffer(connection);
         RequestMessage requestMessage = createRequestMessage(getMessageSettings(connection.getServerDescription()));
+        CommandEventSender eventSender = new CommandEventSender(connection, getWriteCommandName(requestMessage), namespace);
         RequestMessage nextMessage = encodeMessageToBuffer(requestMessage, buffer);
         if (writeConcern.isAcknowledged()) {
             CommandMessage getLastErrorMessage = new CommandMessage(new MongoNamespace(getNamespace().getDatabaseName(),
@@ -77,14 +89,14 @@ public abstract class WriteProtocol implements Protocol<WriteResult> {
                                                                              buffer,
                                                                              getLastErrorMessage.getId(),
                                                                              retVal,
-                                                                             new WriteResultCallback(retVal,
+                                                                             eventSender.wrap(new WriteResultCallback(retVal,
                                                                                                      new BsonDocumentCodec(),
                                                                                                      getNamespace(),
                                                                                                      nextMessage,
                                                                                                      ordered,
                                                                                                      writeConcern,
                                                                                                      getLastErrorMessage.getId(),
-                                                                                                     connection)
+                                                                                                     connection))
                                         )
                                        );
         } else {
@@ -93,14 +105,14 @@ public abstract class WriteProtocol implements Protocol<WriteResult> {
                                                                               connection)
                                        );
         }
-        return retVal;
+        return eventSender.register(retVal);
     }
 
 
-    private CommandMessage sendMessage(final Connection connection) {
+    private CommandMessage sendMessage(final Connection connection, final RequestMessage requestMessage) {
         ByteBufferOutputBuffer buffer = new ByteBufferOutputBuffer(connection);
         try {
-            RequestMessage lastMessage = createRequestMessage(getMessageSettings(connection.getServerDescription()));
+            RequestMessage lastMessage = requestMessage;
             RequestMessage nextMessage = lastMessage.encode(buffer);
             int batchNum = 1;
             if (nextMessage != null) {
@@ -136,12 +148,14 @@ public abstract class WriteProtocol implements Protocol<WriteResult> {
         return command;
     }
 
-    private WriteResult receiveMessage(final Connection connection, final RequestMessage requestMessage) {
+    private WriteResult receiveMessage(final Connection connection, final RequestMessage requestMessage,
+                                       final CommandEventSender eventSender) {
         if (requestMessage == null) {
             return new UnacknowledgedWriteResult();
         }
         ResponseBuffers responseBuffers = connection.receiveMessage(requestMessage.getId());
         try {
+            eventSender.replyReceived(responseBuffers);
             ReplyMessage<BsonDocument> replyMessage = new ReplyMessage<BsonDocument>(responseBuffers, new BsonDocumentCodec(),
                                                                                      requestMessage.getId());
             return ProtocolHelper.getWriteResult(new CommandResult(connection.getServerAddress(), replyMessage.getDocuments().get(0)
@@ -70,6 +70,25 @@ public final class CompositeServerSelector implements ServerSelector {
         return choices;
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CompositeServerSelector that = (CompositeServerSelector) o;
+
+        return serverSelectors.equals(that.serverSelectors);
+    }
+
+    @Override
+    public int hashCode() {
+        return serverSelectors.hashCode();
+    }
+
     @Override
     public String toString() {
         return "{"
@@ -67,6 +67,25 @@ public class LatencyMinimizingServerSelector implements ServerSelector {
         }
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        LatencyMinimizingServerSelector that = (LatencyMinimizingServerSelector) o;
+
+        return acceptableLatencyDifferenceNanos == that.acceptableLatencyDifferenceNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (acceptableLatencyDifferenceNanos ^ (acceptableLatencyDifferenceNanos >>> 32));
+    }
+
     @Override
     public String toString() {
         return "LatencyMinimizingServerSelector{"
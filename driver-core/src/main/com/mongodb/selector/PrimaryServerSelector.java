@@ -33,6 +33,16 @@ public final class PrimaryServerSelector implements ServerSelector {
         return clusterDescription.getPrimaries();
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        return o != null && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
     @Override
     public String toString() {
         return "PrimaryServerSelector";
@@ -55,6 +55,25 @@ public class ReadPreferenceServerSelector implements ServerSelector {
         return readPreference.choose(clusterDescription);
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ReadPreferenceServerSelector that = (ReadPreferenceServerSelector) o;
+
+        return readPreference.equals(that.readPreference);
+    }
+
+    @Override
+    public int hashCode() {
+        return readPreference.hashCode();
+    }
+
     @Override
     public String toString() {
         return "ReadPreferenceServerSelector{"
@@ -28,6 +28,11 @@ import java.util.List;
  * Implementations of this interface should ensure that their equals and hashCode methods compare equal preferences as equal, as users of
  * this interface may rely on that behavior to efficiently consolidate handling of multiple requests waiting on a server that can satisfy
  * the preference.
+ * <p/>
+ * A cluster description is immutable, so a cluster may also cache the list returned by {@code select} for each description instance,
+ * keyed by the selector, and hand the same list to every operation with an equal selector until the description changes.  Implementations
+ * should therefore return the same servers each time they are given the same description, and callers must not modify the returned
+ * list.
  *
  * @since 3.0.0
  */
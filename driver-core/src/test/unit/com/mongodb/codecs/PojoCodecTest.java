@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.codecs;
+
+import org.bson.BsonObjectId;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.configuration.RootCodecRegistry;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+import org.mongodb.Document;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mongodb.codecs.CodecTestUtil.prepareReaderWithObjectToBeDecoded;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PojoCodecTest {
+    private final CodecRegistry registry =
+    new RootCodecRegistry(Arrays.<CodecProvider>asList(new PojoCodecProvider(Arrays.<Class<?>>asList(Person.class, Address.class)),
+                                                       new DocumentCodecProvider()));
+
+    @Test
+    public void shouldRoundTripAllProperties() {
+        Person person = createPerson();
+        Codec<Person> codec = registry.get(Person.class);
+
+        Person decodedPerson = codec.decode(prepareReaderWithObjectToBeDecoded(person, codec), DecoderContext.builder().build());
+
+        assertEquals(person.id, decodedPerson.id);
+        assertEquals(person.getName(), decodedPerson.getName());
+        assertEquals(person.age, decodedPerson.age);
+        assertEquals(person.nicknames, decodedPerson.nicknames);
+        assertEquals(person.address.city, decodedPerson.address.city);
+        assertEquals(person.extra, decodedPerson.extra);
+        assertEquals(person.friend.getName(), decodedPerson.friend.getName());
+        assertEquals(0, decodedPerson.cached);
+    }
+
+    @Test
+    public void shouldWriteIdFirstAndSkipNullAndTransientProperties() {
+        Person person = createPerson();
+        person.setName(null);
+
+        Document document = new DocumentCodec().decode(prepareReaderWithObjectToBeDecoded(person, registry.get(Person.class)),
+                                                       DecoderContext.builder().build());
+
+        assertEquals(asList("_id", "kind", "age", "nicknames", "address", "extra", "friend"), asList(document.keySet().toArray()));
+        assertEquals(new Document("city", "Dublin"), document.get("address"));
+    }
+
+    @Test
+    public void shouldIgnoreUnknownFieldsWhenDecoding() {
+        Document document = new Document("name", "Ada").append("unknown", 1).append("age", 36);
+        Codec<Person> codec = registry.get(Person.class);
+
+        Person decodedPerson = codec.decode(prepareReaderWithObjectToBeDecoded(document, new DocumentCodec()),
+                                            DecoderContext.builder().build());
+
+        assertEquals("Ada", decodedPerson.getName());
+        assertEquals(36, decodedPerson.age);
+        assertNull(decodedPerson.id);
+    }
+
+    @Test
+    public void shouldGenerateIdIfAbsent() {
+        PojoCodec<Person> codec = (PojoCodec<Person>) registry.get(Person.class);
+        Person person = new Person();
+
+        assertFalse(codec.documentHasId(person));
+        codec.generateIdIfAbsentFromDocument(person);
+
+        assertTrue(codec.documentHasId(person));
+        assertNotNull(person.id);
+        assertEquals(new BsonObjectId(person.id), codec.getDocumentId(person));
+    }
+
+    @Test
+    public void shouldNotProvideACodecForOtherClasses() {
+        assertNull(new PojoCodecProvider(Arrays.<Class<?>>asList(Person.class)).get(Address.class, registry));
+    }
+
+    @Test(expected = CodecConfigurationException.class)
+    public void shouldThrowForAClassWithoutANoArgumentConstructor() {
+        new PojoCodecProvider(Arrays.<Class<?>>asList(Point.class)).get(Point.class, registry);
+    }
+
+    @Test
+    public void shouldRoundTripCollectionsOfDecodableClasses() {
+        Tags tags = new Tags();
+        tags.counts = asList(1, 2, 3);
+        tags.groups = asList(asList("a", "b"), asList("c"));
+        Codec<Tags> codec = new RootCodecRegistry(Arrays.<CodecProvider>asList(new PojoCodecProvider(Arrays.<Class<?>>asList(Tags.class)),
+                                                                               new DocumentCodecProvider())).get(Tags.class);
+
+        Tags decodedTags = codec.decode(prepareReaderWithObjectToBeDecoded(tags, codec), DecoderContext.builder().build());
+
+        assertEquals(tags.counts, decodedTags.counts);
+        assertEquals(tags.groups, decodedTags.groups);
+    }
+
+    @Test(expected = CodecConfigurationException.class)
+    public void shouldThrowForACollectionOfAClassThatCanNotBeDecoded() {
+        new PojoCodecProvider(Arrays.<Class<?>>asList(Household.class, Address.class)).get(Household.class, registry);
+    }
+
+    @Test(expected = CodecConfigurationException.class)
+    public void shouldThrowWhenTheCodecForAPropertyCanNotBeCreated() {
+        new RootCodecRegistry(Arrays.<CodecProvider>asList(new PojoCodecProvider(Arrays.<Class<?>>asList(Route.class, Point.class)),
+                                                           new DocumentCodecProvider())).get(Route.class);
+    }
+
+    @Test(expected = CodecConfigurationException.class)
+    public void shouldThrowForAPropertyOfAClassWithoutACodec() {
+        new RootCodecRegistry(Arrays.<CodecProvider>asList(new PojoCodecProvider(Arrays.<Class<?>>asList(Person.class)),
+                                                           new DocumentCodecProvider())).get(Person.class);
+    }
+
+    private Person createPerson() {
+        Person friend = new Person();
+        friend.setName("Charles");
+
+        Person person = new Person();
+        person.id = new ObjectId();
+        person.setName("Ada");
+        person.age = 36;
+        person.nicknames = asList("Countess");
+        person.address = new Address();
+        person.address.city = "Dublin";
+        person.extra = "extra";
+        person.friend = friend;
+        person.cached = 42;
+        return person;
+    }
+
+    static class Named {
+        private String kind = "person";
+        private String name;
+
+        String getName() {
+            return name;
+        }
+
+        void setName(final String name) {
+            this.name = name;
+        }
+    }
+
+    static class Person extends Named {
+        private static final String IGNORED = "ignored";
+        private int age;
+        private List<String> nicknames;
+        private Address address;
+        private Object extra;
+        private Person friend;
+        private ObjectId id;
+        private transient int cached;
+    }
+
+    static final class Address {
+        private String city;
+
+        private Address() {
+        }
+    }
+
+    static class Point {
+        private final int x;
+
+        Point(final int x) {
+            this.x = x;
+        }
+    }
+
+    static class Tags {
+        private List<Integer> counts;
+        private List<List<String>> groups;
+    }
+
+    static class Household {
+        private List<Address> addresses;
+    }
+
+    static class Route {
+        private Point start;
+    }
+}
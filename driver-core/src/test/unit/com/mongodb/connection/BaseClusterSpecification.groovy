@@ -20,6 +20,7 @@
 
 package com.mongodb.connection
 
+import com.mongodb.MongoTimeoutException
 import com.mongodb.ReadPreference
 import com.mongodb.ServerAddress
 import com.mongodb.event.ClusterListener
@@ -31,6 +32,7 @@ import static com.mongodb.connection.ClusterConnectionMode.MULTIPLE
 import static com.mongodb.connection.ClusterSettings.builder
 import static com.mongodb.connection.ServerType.REPLICA_SET_PRIMARY
 import static com.mongodb.connection.ServerType.REPLICA_SET_SECONDARY
+import static java.util.concurrent.TimeUnit.MILLISECONDS
 import static java.util.concurrent.TimeUnit.SECONDS
 
 class BaseClusterSpecification extends Specification {
@@ -74,6 +76,115 @@ class BaseClusterSpecification extends Specification {
         cluster.selectServer(new DefaultPortServerSelector(), 1, SECONDS).description.address == firstServer
     }
 
+    def 'should select the less loaded of two servers when load-aware server selection is enabled'() {
+        given:
+        def cluster = new MultiServerCluster(CLUSTER_ID,
+                                             builder().mode(MULTIPLE)
+                                                      .hosts([firstServer, secondServer, thirdServer])
+                                                      .loadAwareServerSelectionEnabled(true)
+                                                      .build(),
+                                             factory, CLUSTER_LISTENER)
+        factory.sendNotification(firstServer, REPLICA_SET_SECONDARY, allServers)
+        factory.sendNotification(secondServer, REPLICA_SET_SECONDARY, allServers)
+        factory.sendNotification(thirdServer, REPLICA_SET_PRIMARY, allServers)
+        factory.getServer(firstServer).setOperationCount(10)
+
+        expect:
+        (1..20).collect {
+            cluster.selectServer(new ReadPreferenceServerSelector(ReadPreference.secondary()), 1, SECONDS).description.address
+        }.every { it == secondServer }
+    }
+
+    def 'should select among all the servers when load-aware server selection is disabled'() {
+        given:
+        def cluster = new MultiServerCluster(CLUSTER_ID,
+                                             builder().mode(MULTIPLE)
+                                                      .hosts([firstServer, secondServer, thirdServer])
+                                                      .build(),
+                                             factory, CLUSTER_LISTENER)
+        factory.sendNotification(firstServer, REPLICA_SET_SECONDARY, allServers)
+        factory.sendNotification(secondServer, REPLICA_SET_SECONDARY, allServers)
+        factory.sendNotification(thirdServer, REPLICA_SET_PRIMARY, allServers)
+        factory.getServer(firstServer).setOperationCount(10)
+
+        expect:
+        (1..100).collect {
+            cluster.selectServer(new ReadPreferenceServerSelector(ReadPreference.secondary()), 1, SECONDS).description.address
+        }.toSet() == [firstServer, secondServer].toSet()
+    }
+
+    def 'should reuse the servers selected by an equal selector until the cluster description changes'() {
+        given:
+        def cluster = new MultiServerCluster(CLUSTER_ID,
+                                             builder().mode(MULTIPLE)
+                                                      .hosts([firstServer, secondServer, thirdServer])
+                                                      .build(),
+                                             factory, CLUSTER_LISTENER)
+        factory.sendNotification(firstServer, REPLICA_SET_SECONDARY, allServers)
+        def selections = 0
+        def createSelector = {
+            new ReadPreferenceServerSelector(ReadPreference.secondaryPreferred()) {
+                @Override
+                List<ServerDescription> select(final ClusterDescription clusterDescription) {
+                    selections++
+                    super.select(clusterDescription)
+                }
+            }
+        }
+
+        when:
+        cluster.selectServer(createSelector(), 1, SECONDS)
+        cluster.selectServer(createSelector(), 1, SECONDS)
+
+        then:
+        selections == 1
+
+        when:
+        factory.sendNotification(thirdServer, REPLICA_SET_PRIMARY, allServers)
+        cluster.selectServer(createSelector(), 1, SECONDS)
+
+        then:
+        selections == 2
+    }
+
+    def 'should complete async server selection when a matching server is discovered'() {
+        given:
+        def cluster = new MultiServerCluster(CLUSTER_ID,
+                                             builder().mode(MULTIPLE)
+                                                      .hosts([firstServer, secondServer, thirdServer])
+                                                      .build(),
+                                             factory, CLUSTER_LISTENER)
+        factory.sendNotification(firstServer, REPLICA_SET_SECONDARY, allServers)
+
+        when:
+        def future = cluster.selectServerAsync(new ReadPreferenceServerSelector(ReadPreference.primary()), 1, SECONDS)
+
+        then:
+        !future.isDone()
+
+        when:
+        factory.sendNotification(thirdServer, REPLICA_SET_PRIMARY, allServers)
+
+        then:
+        future.get(0, SECONDS).description.address == thirdServer
+    }
+
+    def 'should time out async server selection if no matching server is discovered'() {
+        given:
+        def cluster = new MultiServerCluster(CLUSTER_ID,
+                                             builder().mode(MULTIPLE)
+                                                      .hosts([firstServer, secondServer, thirdServer])
+                                                      .build(),
+                                             factory, CLUSTER_LISTENER)
+        factory.sendNotification(firstServer, REPLICA_SET_SECONDARY, allServers)
+
+        when:
+        cluster.selectServerAsync(new ReadPreferenceServerSelector(ReadPreference.primary()), 1, MILLISECONDS).get(1, SECONDS)
+
+        then:
+        thrown(MongoTimeoutException)
+    }
+
     class DefaultPortServerSelector implements ServerSelector {
         @Override
         List<ServerDescription> select(final ClusterDescription clusterDescription) {
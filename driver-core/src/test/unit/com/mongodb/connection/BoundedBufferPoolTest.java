@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import org.bson.ByteBuf;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BoundedBufferPoolTest {
+
+    @Test
+    public void testNormalRequest() {
+        BoundedBufferPool pool = new BoundedBufferPool(true);
+        ByteBuf buf = pool.getBuffer(1000);
+        assertEquals(1024, buf.capacity());
+        assertEquals(1000, buf.limit());
+        assertTrue(buf.asNIO().isDirect());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buf.asNIO().order());
+    }
+
+    @Test
+    public void testHeapAllocation() {
+        BoundedBufferPool pool = new BoundedBufferPool(false);
+        assertFalse(pool.isDirect());
+        assertFalse(pool.getBuffer(1000).asNIO().isDirect());
+    }
+
+    @Test
+    public void testReuseFromThreadCache() {
+        BoundedBufferPool pool = new BoundedBufferPool(true);
+        ByteBuf buf = pool.getBuffer(1024);
+        ByteBuffer byteBuffer = buf.asNIO();
+        buf.close();
+        assertSame(byteBuffer, pool.getBuffer(1024).asNIO());
+        assertEquals(0, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void testReuseFromSharedPool() {
+        BoundedBufferPool pool = new BoundedBufferPool(false);
+        int size = 1 << 20;
+        ByteBuf buf = pool.getBuffer(size);
+        ByteBuffer byteBuffer = buf.asNIO();
+        buf.close();
+        assertEquals(size, pool.getRetainedBytes());
+        assertSame(byteBuffer, pool.getBuffer(size).asNIO());
+        assertEquals(0, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void testRetentionIsBoundedPerSizeClass() {
+        BoundedBufferPool pool = new BoundedBufferPool(false, 1 << 20, 1 << 24);
+        ByteBuf first = pool.getBuffer(1 << 20);
+        ByteBuf second = pool.getBuffer(1 << 20);
+        first.close();
+        second.close();
+        assertEquals(1 << 20, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void testRetentionIsBoundedInTotal() {
+        BoundedBufferPool pool = new BoundedBufferPool(false, 1 << 24, 3 << 19);
+        ByteBuf first = pool.getBuffer(1 << 20);
+        ByteBuf second = pool.getBuffer(1 << 19);
+        ByteBuf third = pool.getBuffer(1 << 18);
+        first.close();
+        second.close();
+        third.close();
+        assertEquals(3 << 19, pool.getRetainedBytes());
+    }
+
+    @Test
+    public void testHugeBufferRequest() {
+        BoundedBufferPool pool = new BoundedBufferPool(false);
+        int size = (1 << 24) + 1;
+        ByteBuf buf = pool.getBuffer(size);
+        assertEquals(size, buf.capacity());
+        assertEquals(size, buf.limit());
+
+        ByteBuffer byteBuffer = buf.asNIO();
+        buf.close();
+        assertEquals(0, pool.getRetainedBytes());
+        assertNotSame(byteBuffer, pool.getBuffer(size).asNIO());
+    }
+
+    @Test
+    public void testPowerOfTwoFor() {
+        assertEquals(0, BoundedBufferPool.powerOfTwoFor(0));
+        assertEquals(0, BoundedBufferPool.powerOfTwoFor(1));
+        assertEquals(1, BoundedBufferPool.powerOfTwoFor(2));
+        assertEquals(2, BoundedBufferPool.powerOfTwoFor(3));
+        assertEquals(10, BoundedBufferPool.powerOfTwoFor(1024));
+        assertEquals(11, BoundedBufferPool.powerOfTwoFor(1025));
+    }
+}
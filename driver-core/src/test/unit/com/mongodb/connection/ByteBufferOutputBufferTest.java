@@ -21,6 +21,7 @@ import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.Random;
 
@@ -92,6 +93,23 @@ public class ByteBufferOutputBufferTest {
         assertArrayEquals(new byte[] {4, 0, 0, 0, 'h', 0, 'i', 0}, buf.toByteArray());
     }
 
+    @Test
+    public void shouldEncodeStringsThatSpanBuffersAsUTF8() throws UnsupportedEncodingException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            builder.append("ab\u00e9\u4e2d\ud83d\ude00");
+        }
+        String str = builder.toString();
+        ByteBufferOutputBuffer buf = new ByteBufferOutputBuffer(new SimpleBufferProvider());
+        buf.write(1);
+
+        int size = buf.writeCString(str);
+
+        byte[] expected = (str + "\u0000").getBytes("UTF-8");
+        assertEquals(expected.length, size);
+        assertArrayEquals(expected, Arrays.copyOfRange(buf.toByteArray(), 1, buf.size()));
+    }
+
     private byte[] getRandomBytes(final int len) {
         byte[] randomBytes = new byte[len];
         random.nextBytes(randomBytes);
@@ -32,6 +32,7 @@ class ClusterSettingsSpecification extends Specification {
                                       .requiredClusterType(ClusterType.REPLICA_SET)
                                       .requiredReplicaSetName('foo')
                                       .serverSelector(serverSelector)
+                                      .loadAwareServerSelectionEnabled(true)
                                       .build();
 
         then:
@@ -40,6 +41,7 @@ class ClusterSettingsSpecification extends Specification {
         settings.requiredClusterType == ClusterType.REPLICA_SET
         settings.requiredReplicaSetName == 'foo'
         settings.serverSelector == serverSelector
+        settings.loadAwareServerSelectionEnabled
     }
 
     def 'when connection string is applied to builder, all properties should be set'() {
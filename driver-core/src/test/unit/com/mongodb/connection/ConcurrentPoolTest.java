@@ -16,20 +16,44 @@
 
 package com.mongodb.connection;
 
+import com.mongodb.MongoException;
 import com.mongodb.MongoTimeoutException;
+import com.mongodb.async.SingleResultCallback;
+import com.mongodb.async.SingleResultFuture;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.Closeable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class ConcurrentPoolTest {
+    private static final Executor SAME_THREAD_EXECUTOR = new Executor() {
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    };
+
     private ConcurrentPool<TestCloseable> pool;
 
     static class TestCloseable implements Closeable {
@@ -147,23 +171,160 @@ public class ConcurrentPoolTest {
 
     @Test
     public void testEnsureMinSize() {
-        pool.ensureMinSize(0);
+        pool.ensureMinSize(0, SAME_THREAD_EXECUTOR);
         assertEquals(0, pool.getAvailableCount());
 
-        pool.ensureMinSize(1);
+        pool.ensureMinSize(1, SAME_THREAD_EXECUTOR);
         assertEquals(1, pool.getAvailableCount());
 
-        pool.ensureMinSize(1);
+        pool.ensureMinSize(1, SAME_THREAD_EXECUTOR);
         assertEquals(1, pool.getAvailableCount());
 
         pool.get();
-        pool.ensureMinSize(1);
+        pool.ensureMinSize(1, SAME_THREAD_EXECUTOR);
         assertEquals(0, pool.getAvailableCount());
 
-        pool.ensureMinSize(4);
+        pool.ensureMinSize(4, SAME_THREAD_EXECUTOR);
+        assertEquals(3, pool.getAvailableCount());
+    }
+
+    @Test
+    public void testEnsureMinSizeCreatesItemsInParallel() throws InterruptedException {
+        final CyclicBarrier barrier = new CyclicBarrier(3);
+        final AtomicInteger creatingCount = new AtomicInteger();
+        final AtomicBoolean exceededMaxCreating = new AtomicBoolean();
+        pool = new ConcurrentPool<TestCloseable>(10, 3, new TestItemFactory() {
+            @Override
+            public TestCloseable create() {
+                if (creatingCount.incrementAndGet() > 3) {
+                    exceededMaxCreating.set(true);
+                }
+                try {
+                    barrier.await(5, SECONDS);
+                    return new TestCloseable();
+                } catch (Exception e) {
+                    throw new MongoException("barrier", e);
+                } finally {
+                    creatingCount.decrementAndGet();
+                }
+            }
+        });
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            pool.ensureMinSize(6, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(6, pool.getAvailableCount());
+        assertFalse(exceededMaxCreating.get());
+    }
+
+    @Test
+    public void testEnsureMinSizeCreatesItemsWhenExecutorDoesNotRunTasks() {
+        pool.ensureMinSize(3, new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+            }
+        });
+
         assertEquals(3, pool.getAvailableCount());
     }
 
+    @Test
+    public void testGetTakesReleasedItemWhileAnotherIsBeingCreated() throws Exception {
+        final CountDownLatch creationStarted = new CountDownLatch(1);
+        final CountDownLatch finishCreation = new CountDownLatch(1);
+        pool = new ConcurrentPool<TestCloseable>(3, 1, new TestItemFactory() {
+            private int count;
+
+            @Override
+            public TestCloseable create() {
+                if (count++ == 1) {
+                    creationStarted.countDown();
+                    try {
+                        finishCreation.await();
+                    } catch (InterruptedException e) {
+                        throw new MongoException("interrupted", e);
+                    }
+                }
+                return new TestCloseable();
+            }
+        });
+        TestCloseable first = pool.get();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<TestCloseable> creating = executor.submit(new Callable<TestCloseable>() {
+                @Override
+                public TestCloseable call() {
+                    return pool.get();
+                }
+            });
+            creationStarted.await();
+            Future<TestCloseable> waiting = executor.submit(new Callable<TestCloseable>() {
+                @Override
+                public TestCloseable call() {
+                    return pool.get(5, SECONDS);
+                }
+            });
+
+            try {
+                pool.get(50, MILLISECONDS);
+                fail();
+            } catch (MongoTimeoutException e) {
+                // all good
+            }
+
+            pool.release(first);
+            assertEquals(first, waiting.get(5, SECONDS));
+            assertFalse(creating.isDone());
+
+            finishCreation.countDown();
+            assertNotNull(creating.get(5, SECONDS));
+        } finally {
+            finishCreation.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGetIfAvailableReturnsTheItemLastReleasedByTheThread() {
+        TestCloseable first = pool.get();
+        TestCloseable second = pool.get();
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(2, pool.getAvailableCount());
+        assertEquals(first, pool.getIfAvailable());
+        assertEquals(1, pool.getInUseCount());
+        assertEquals(second, pool.getIfAvailable());
+        assertEquals(2, pool.getInUseCount());
+    }
+
+    @Test
+    public void testGetIfAvailableReturnsNullWithoutCreatingItems() {
+        assertNull(pool.getIfAvailable());
+        assertEquals(0, pool.getCount());
+
+        TestCloseable first = pool.get();
+        pool.get();
+        pool.get();
+        pool.release(first);
+        assertEquals(first, pool.getIfAvailable());
+        assertNull(pool.getIfAvailable());
+        assertEquals(3, pool.getInUseCount());
+    }
+
+    @Test
+    public void testCloseClosesItemsHeldInStripes() {
+        TestCloseable first = pool.get();
+        pool.release(first);
+        pool.close();
+
+        assertTrue(first.isClosed());
+        assertEquals(0, pool.getAvailableCount());
+    }
+
     @Test
     public void testPrune() {
         TestCloseable t1 = pool.get();
@@ -180,4 +341,166 @@ public class ConcurrentPoolTest {
         assertTrue(t1.isClosed());
         assertTrue(t2.isClosed());
     }
+
+    @Test
+    public void testGetAsyncCompletesImmediatelyWhenAvailable() throws TimeoutException {
+        TestCloseable closeable = pool.get();
+        pool.release(closeable);
+
+        SingleResultFuture<TestCloseable> future = new SingleResultFuture<TestCloseable>();
+        pool.getAsync(1, MILLISECONDS, new FutureCallback(future));
+
+        assertTrue(future.isDone());
+        assertEquals(closeable, future.get(0, MILLISECONDS));
+    }
+
+    @Test
+    public void testGetAsyncIsCompletedByRelease() throws TimeoutException {
+        TestCloseable first = pool.get();
+        pool.get();
+        pool.get();
+
+        SingleResultFuture<TestCloseable> future = new SingleResultFuture<TestCloseable>();
+        pool.getAsync(-1, MILLISECONDS, new FutureCallback(future));
+        assertFalse(future.isDone());
+
+        pool.release(first);
+        assertEquals(first, future.get(0, MILLISECONDS));
+        assertEquals(3, pool.getInUseCount());
+    }
+
+    @Test
+    public void testGetAsyncTimesOut() throws TimeoutException {
+        pool.get();
+        pool.get();
+        pool.get();
+
+        SingleResultFuture<TestCloseable> future = new SingleResultFuture<TestCloseable>();
+        pool.getAsync(1, MILLISECONDS, new FutureCallback(future));
+
+        try {
+            future.get(1000, MILLISECONDS);
+            fail();
+        } catch (MongoTimeoutException e) {
+            // all good
+        }
+    }
+
+    @Test
+    public void testGetAsyncFailsWhenPoolClosed() throws TimeoutException {
+        pool.get();
+        pool.get();
+        pool.get();
+
+        SingleResultFuture<TestCloseable> future = new SingleResultFuture<TestCloseable>();
+        pool.getAsync(-1, MILLISECONDS, new FutureCallback(future));
+        pool.close();
+
+        try {
+            future.get(0, MILLISECONDS);
+            fail();
+        } catch (MongoException e) {
+            // all good
+        }
+    }
+
+    @Test
+    public void testGetAsyncCreatesItemOffTheCallingThread() throws TimeoutException {
+        final AtomicReference<Thread> creatingThread = new AtomicReference<Thread>();
+        pool = new ConcurrentPool<TestCloseable>(3, new TestItemFactory() {
+            @Override
+            public TestCloseable create() {
+                creatingThread.set(Thread.currentThread());
+                return super.create();
+            }
+        });
+
+        SingleResultFuture<TestCloseable> future = new SingleResultFuture<TestCloseable>();
+        pool.getAsync(-1, MILLISECONDS, new FutureCallback(future));
+
+        assertNotNull(future.get(5, SECONDS));
+        assertNotNull(creatingThread.get());
+        assertFalse(creatingThread.get() == Thread.currentThread());
+        assertEquals(1, pool.getInUseCount());
+    }
+
+    @Test
+    public void testFailedCreationHandsThePermitToAnAsyncWaiter() throws Exception {
+        final CountDownLatch creationStarted = new CountDownLatch(1);
+        final CountDownLatch failCreation = new CountDownLatch(1);
+        pool = new ConcurrentPool<TestCloseable>(1, new TestItemFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public TestCloseable create() {
+                if (count.getAndIncrement() == 0) {
+                    creationStarted.countDown();
+                    try {
+                        failCreation.await();
+                    } catch (InterruptedException e) {
+                        throw new MongoException("interrupted", e);
+                    }
+                    throw new MongoException("creation failed");
+                }
+                return super.create();
+            }
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<TestCloseable> failing = executor.submit(new Callable<TestCloseable>() {
+                @Override
+                public TestCloseable call() {
+                    return pool.get();
+                }
+            });
+            creationStarted.await();
+
+            SingleResultFuture<TestCloseable> future = new SingleResultFuture<TestCloseable>();
+            pool.getAsync(-1, MILLISECONDS, new FutureCallback(future));
+            assertFalse(future.isDone());
+
+            failCreation.countDown();
+            try {
+                failing.get(5, SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                // all good
+            }
+            assertNotNull(future.get(5, SECONDS));
+            assertEquals(1, pool.getInUseCount());
+        } finally {
+            failCreation.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static class TestItemFactory implements ConcurrentPool.ItemFactory<TestCloseable> {
+        @Override
+        public TestCloseable create() {
+            return new TestCloseable();
+        }
+
+        @Override
+        public void close(final TestCloseable closeable) {
+            closeable.close();
+        }
+
+        @Override
+        public boolean shouldPrune(final TestCloseable testCloseable) {
+            return testCloseable.shouldPrune();
+        }
+    }
+
+    private static final class FutureCallback implements SingleResultCallback<TestCloseable> {
+        private final SingleResultFuture<TestCloseable> future;
+
+        private FutureCallback(final SingleResultFuture<TestCloseable> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void onResult(final TestCloseable result, final MongoException e) {
+            future.init(result, e);
+        }
+    }
 }
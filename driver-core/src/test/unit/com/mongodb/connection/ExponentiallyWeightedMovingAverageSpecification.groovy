@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import spock.lang.Specification
+
+class ExponentiallyWeightedMovingAverageSpecification extends Specification {
+
+    def 'should throw if alpha is not between 0.0 and 1.0'() {
+        when:
+        new ExponentiallyWeightedMovingAverage(alpha)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        alpha << [-0.001, 1.001]
+    }
+
+    def 'should have an average of 0 when there are no samples'() {
+        expect:
+        new ExponentiallyWeightedMovingAverage(0.2).getAverage() == 0
+    }
+
+    def 'should use the first sample as the average'() {
+        given:
+        def average = new ExponentiallyWeightedMovingAverage(0.2)
+
+        when:
+        average.addSample(100)
+
+        then:
+        average.getAverage() == 100
+    }
+
+    def 'should weight each new sample by alpha'() {
+        given:
+        def average = new ExponentiallyWeightedMovingAverage(0.2)
+
+        when:
+        average.addSample(100)
+        average.addSample(200)
+        average.addSample(200)
+
+        then:
+        average.getAverage() == 136  // 100 * 0.8 + 200 * 0.2 = 120, then 120 * 0.8 + 200 * 0.2 = 136
+    }
+
+    def 'should follow a change in the samples regardless of how many samples came before'() {
+        given:
+        def average = new ExponentiallyWeightedMovingAverage(0.2)
+        10000.times { average.addSample(1000) }
+
+        when:
+        20.times { average.addSample(100000) }
+
+        then:
+        average.getAverage() > 95000
+    }
+
+    def 'should discard samples on reset'() {
+        given:
+        def average = new ExponentiallyWeightedMovingAverage(0.2)
+        average.addSample(100)
+
+        when:
+        average.reset()
+
+        then:
+        average.getAverage() == 0
+
+        when:
+        average.addSample(50)
+
+        then:
+        average.getAverage() == 50
+    }
+}
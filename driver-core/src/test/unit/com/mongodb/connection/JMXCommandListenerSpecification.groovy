@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import com.mongodb.MongoException
+import com.mongodb.MongoNamespace
+import com.mongodb.ServerAddress
+import com.mongodb.event.ClusterEvent
+import com.mongodb.event.CommandFailedEvent
+import com.mongodb.event.CommandSucceededEvent
+import com.mongodb.management.JMXCommandListener
+import spock.lang.Specification
+import spock.lang.Subject
+
+import javax.management.ObjectName
+import java.lang.management.ManagementFactory
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS
+
+class JMXCommandListenerSpecification extends Specification {
+    private static final String CLUSTER_ID = '1'
+    private static final ServerAddress SERVER_ADDRESS = new ServerAddress()
+    private static final MongoNamespace NAMESPACE = new MongoNamespace('test', '$cmd')
+
+    @Subject
+    private final JMXCommandListener jmxListener = new JMXCommandListener()
+
+    def setup() {
+        jmxListener.clusterOpened(new ClusterEvent(CLUSTER_ID))
+    }
+
+    def cleanup() {
+        jmxListener.clusterClosed(new ClusterEvent(CLUSTER_ID))
+    }
+
+    def 'statistics should aggregate the completed commands'() {
+        when:
+        (1..100).each {
+            jmxListener.commandSucceeded(new CommandSucceededEvent('count', NAMESPACE, SERVER_ADDRESS, '1', it,
+                                                                   MICROSECONDS.toNanos(it * 10), 50))
+        }
+        jmxListener.commandFailed(new CommandFailedEvent('count', NAMESPACE, SERVER_ADDRESS, '1', 101, MICROSECONDS.toNanos(5000),
+                                                         new MongoException('failed')))
+
+        then:
+        with(jmxListener.getMBean(SERVER_ADDRESS, 'count')) {
+            host == SERVER_ADDRESS.host
+            port == SERVER_ADDRESS.port
+            commandName == 'count'
+            count == 101
+            failureCount == 1
+            totalReplySize == 5000
+            maxLatencyMicros == 5000
+            medianLatencyMicros >= 500 && medianLatencyMicros <= 500 * 1.125
+            percentile95LatencyMicros >= 950 && percentile95LatencyMicros <= 950 * 1.125
+            percentile99LatencyMicros >= 990 && percentile99LatencyMicros <= 990 * 1.125
+        }
+    }
+
+    def 'should keep separate statistics for each command name and server'() {
+        when:
+        jmxListener.commandSucceeded(new CommandSucceededEvent('count', NAMESPACE, SERVER_ADDRESS, '1', 1, 1000, 50))
+        jmxListener.commandSucceeded(new CommandSucceededEvent('query', NAMESPACE, SERVER_ADDRESS, '1', 2, 1000, 50))
+        jmxListener.commandSucceeded(new CommandSucceededEvent('query', NAMESPACE, new ServerAddress('localhost', 27018), '1', 3,
+                                                               1000, 50))
+
+        then:
+        jmxListener.getMBean(SERVER_ADDRESS, 'count').count == 1
+        jmxListener.getMBean(SERVER_ADDRESS, 'query').count == 1
+        jmxListener.getMBean(new ServerAddress('localhost', 27018), 'query').count == 1
+        jmxListener.getMBean(SERVER_ADDRESS, 'getMore') == null
+    }
+
+    def 'should add MBean when a command first completes'() {
+        when:
+        jmxListener.commandSucceeded(new CommandSucceededEvent('count', NAMESPACE, SERVER_ADDRESS, '1', 1, 1000, 50))
+
+        then:
+        ManagementFactory.getPlatformMBeanServer().isRegistered(
+                new ObjectName(jmxListener.getMBeanObjectName(CLUSTER_ID, SERVER_ADDRESS, 'count')))
+    }
+
+    def 'should remove MBeans when the cluster is closed'() {
+        given:
+        jmxListener.commandSucceeded(new CommandSucceededEvent('count', NAMESPACE, SERVER_ADDRESS, '1', 1, 1000, 50))
+
+        when:
+        jmxListener.clusterClosed(new ClusterEvent(CLUSTER_ID))
+
+        then:
+        jmxListener.getMBean(SERVER_ADDRESS, 'count') == null
+        !ManagementFactory.getPlatformMBeanServer().isRegistered(
+                new ObjectName(jmxListener.getMBeanObjectName(CLUSTER_ID, SERVER_ADDRESS, 'count')))
+    }
+
+    def 'should create a valid ObjectName for any command name'() {
+        given:
+        String beanName = jmxListener.getMBeanObjectName(CLUSTER_ID, new ServerAddress('localhost'), 'a,b=c:d')
+
+        when:
+        ObjectName objectName = new ObjectName(beanName)
+
+        then:
+        objectName.toString() == 'org.mongodb.driver:type=CommandLatency,clusterId=1,host=localhost,port=27017,command=a_b_c_d'
+    }
+}
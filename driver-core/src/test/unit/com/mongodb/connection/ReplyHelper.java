@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.ByteBufNIO;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicInputBuffer;
+import org.bson.io.BasicOutputBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Builds the response buffers of a successful reply, for tests that stub the receiving side of a connection.
+ */
+public final class ReplyHelper {
+
+    private ReplyHelper() {
+    }
+
+    public static ResponseBuffers buildReply(final int responseTo, final BsonDocument document) {
+        return buildReply(responseTo, 0, asList(document));
+    }
+
+    public static ResponseBuffers buildReply(final int responseTo, final long cursorId, final List<BsonDocument> documents) {
+        BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+        for (final BsonDocument document : documents) {
+            new BsonDocumentCodec().encode(new BsonBinaryWriter(outputBuffer, true), document, EncoderContext.builder().build());
+        }
+        byte[] body = outputBuffer.toByteArray();
+
+        ByteBuffer headerByteBuffer = ByteBuffer.allocate(36);
+        headerByteBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        headerByteBuffer.putInt(36 + body.length); // length
+        headerByteBuffer.putInt(1); // request id
+        headerByteBuffer.putInt(responseTo); // response to
+        headerByteBuffer.putInt(1); // opcode
+        headerByteBuffer.putInt(0); // responseFlags
+        headerByteBuffer.putLong(cursorId); // cursorId
+        headerByteBuffer.putInt(0); // startingFrom
+        headerByteBuffer.putInt(documents.size()); // numberReturned
+        headerByteBuffer.flip();
+
+        return new ResponseBuffers(new ReplyHeader(new BasicInputBuffer(new ByteBufNIO(headerByteBuffer))),
+                                   new ByteBufNIO(ByteBuffer.wrap(body)));
+    }
+}
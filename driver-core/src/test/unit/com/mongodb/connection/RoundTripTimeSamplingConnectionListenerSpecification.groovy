@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import com.mongodb.ServerAddress
+import com.mongodb.event.ConnectionEvent
+import com.mongodb.event.ConnectionMessageReceivedEvent
+import com.mongodb.event.ConnectionMessagesSentEvent
+import spock.lang.Specification
+
+class RoundTripTimeSamplingConnectionListenerSpecification extends Specification {
+
+    def 'should sample the round trip time of a message sent on a connection when its reply is received'() {
+        given:
+        def average = new ExponentiallyWeightedMovingAverage(0.2)
+        def listener = new RoundTripTimeSamplingConnectionListener(average)
+
+        when:
+        listener.messagesSent(new ConnectionMessagesSentEvent('cluster-1', new ServerAddress(), 'connection-1', 5, 100))
+        Thread.sleep(5)
+        listener.messageReceived(new ConnectionMessageReceivedEvent('cluster-1', new ServerAddress(), 'connection-1', 5, 100))
+
+        then:
+        average.getAverage() >= 5000000
+    }
+
+    def 'should not sample a reply that does not match the last message sent on the connection'() {
+        given:
+        def average = new ExponentiallyWeightedMovingAverage(0.2)
+        def listener = new RoundTripTimeSamplingConnectionListener(average)
+
+        when:
+        listener.messagesSent(new ConnectionMessagesSentEvent('cluster-1', new ServerAddress(), 'connection-1', 5, 100))
+        listener.messageReceived(new ConnectionMessageReceivedEvent('cluster-1', new ServerAddress(), 'connection-2', 5, 100))
+        listener.messageReceived(new ConnectionMessageReceivedEvent('cluster-1', new ServerAddress(), 'connection-1', 4, 100))
+        listener.connectionClosed(new ConnectionEvent('cluster-1', new ServerAddress(), 'connection-1'))
+        listener.messageReceived(new ConnectionMessageReceivedEvent('cluster-1', new ServerAddress(), 'connection-1', 5, 100))
+
+        then:
+        average.getAverage() == 0
+    }
+}
@@ -26,11 +26,14 @@ import org.junit.Test;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 public class ScramSha1SaslAuthenticatorTest {
     private TestInternalConnection connection;
     private MongoCredential credential;
+    private ScramSha1KeyCache keyCache;
     private ScramSha1Authenticator subject;
 
     @Before
@@ -43,7 +46,8 @@ public class ScramSha1SaslAuthenticatorTest {
                 return "fyko+d2lbbFgONRv9qkxdawL";
             }
         };
-        this.subject = new ScramSha1Authenticator(this.credential, this.connection, randomStringGenerator);
+        this.keyCache = new ScramSha1KeyCache();
+        this.subject = new ScramSha1Authenticator(this.credential, this.connection, randomStringGenerator, keyCache);
     }
 
     @Test
@@ -135,4 +139,99 @@ public class ScramSha1SaslAuthenticatorTest {
         assertEquals(expectedSecondCommand, secondCommand);
         assertEquals(expectedThirdCommand, thirdCommand);
     }
+
+    @Test
+    public void testKeysAreCachedAfterSuccessfulAuthentication() {
+        enqueueSuccessfulConversation();
+        this.subject.authenticate();
+        String expectedSecondCommand = MessageHelper.decodeCommandAsJson(connection.getSent().get(1));
+
+        assertNotNull(keyCache.get(credential, "rQ9ZY3MntBeuP3E1TDVC4w==", 10000));
+        assertNull(keyCache.get(credential, "rQ9ZY3MntBeuP3E1TDVC4w==", 4096));
+
+        enqueueSuccessfulConversation();
+        this.subject.authenticate();
+
+        assertEquals(expectedSecondCommand, MessageHelper.decodeCommandAsJson(connection.getSent().get(4)));
+    }
+
+    @Test
+    public void testCachedKeysAreInvalidatedWhenAuthenticationFails() {
+        enqueueSuccessfulConversation();
+        this.subject.authenticate();
+
+        ResponseBuffers firstReply = MessageHelper.buildSuccessfulReply(
+                "{conversationId: 1, "
+                        + "payload: BinData(0,cj1meWtvK2QybGJiRmdPTlJ2OXFreGRhd0xIbytWZ2s3cXZVT0tVd3"
+                        + "VXTElXZzRsLzlTcmFHTUhFRSxzPXJROVpZM01udEJldVAzRTFURFZDNHc9PSxpPTEwMDAw), "
+                        + "done: false, "
+                        + "ok: 1}");
+        ResponseBuffers invalidServerSignatureReply = MessageHelper.buildSuccessfulReply(
+                "{conversationId: 1, "
+                        + "payload: BinData(0,dj1VTVdlSTI1SkQxeU5ZWlJNcFo0Vkh2aFo5ZTBh), "
+                        + "done: false, "
+                        + "ok: 1}");
+        this.connection.enqueueReply(firstReply);
+        this.connection.enqueueReply(invalidServerSignatureReply);
+
+        try {
+            this.subject.authenticate();
+            fail();
+        } catch (MongoSecurityException e) {
+            assertNull(keyCache.get(credential, "rQ9ZY3MntBeuP3E1TDVC4w==", 10000));
+        }
+    }
+
+    @Test
+    public void testCachedKeysAreInvalidatedWhenTheServerRejectsTheCredential() {
+        enqueueSuccessfulConversation();
+        this.subject.authenticate();
+
+        this.connection.enqueueReply(MessageHelper.buildSuccessfulReply("{code: 18, errmsg: 'auth failed', ok: 0}"));
+
+        try {
+            this.subject.authenticate();
+            fail();
+        } catch (MongoSecurityException e) {
+            assertNull(keyCache.get(credential, "rQ9ZY3MntBeuP3E1TDVC4w==", 10000));
+        }
+    }
+
+    @Test
+    public void testCachedKeysAreNotInvalidatedWhenTheConnectionFails() {
+        enqueueSuccessfulConversation();
+        this.subject.authenticate();
+
+        this.connection.enqueueReply(MessageHelper.buildSuccessfulReply(
+                "{conversationId: 1, "
+                        + "payload: BinData(0,cj1meWtvK2QybGJiRmdPTlJ2OXFreGRhd0xIbytWZ2s3cXZVT0tVd3"
+                        + "VXTElXZzRsLzlTcmFHTUhFRSxzPXJROVpZM01udEJldVAzRTFURFZDNHc9PSxpPTEwMDAw), "
+                        + "done: false, "
+                        + "ok: 1}"));
+
+        try {
+            this.subject.authenticate();
+            fail();
+        } catch (MongoSecurityException e) {
+            assertNotNull(keyCache.get(credential, "rQ9ZY3MntBeuP3E1TDVC4w==", 10000));
+        }
+    }
+
+    private void enqueueSuccessfulConversation() {
+        this.connection.enqueueReply(MessageHelper.buildSuccessfulReply(
+                "{conversationId: 1, "
+                        + "payload: BinData(0,cj1meWtvK2QybGJiRmdPTlJ2OXFreGRhd0xIbytWZ2s3cXZVT0tVd3VXTE"
+                        + "lXZzRsLzlTcmFHTUhFRSxzPXJROVpZM01udEJldVAzRTFURFZDNHc9PSxpPTEwMDAw), "
+                        + "done: false, "
+                        + "ok: 1}"));
+        this.connection.enqueueReply(MessageHelper.buildSuccessfulReply(
+                "{conversationId: 1, "
+                        + "payload: BinData(0,dj1VTVdlSTI1SkQxeU5ZWlJNcFo0Vkh2aFo5ZTA9), "
+                        + "done: false, "
+                        + "ok: 1}"));
+        this.connection.enqueueReply(MessageHelper.buildSuccessfulReply(
+                "{conversationId: 1, "
+                        + "done: true, "
+                        + "ok: 1}"));
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import com.mongodb.MongoSocketOpenException
+import com.mongodb.ServerAddress
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS
+import static java.util.concurrent.TimeUnit.MINUTES
+
+class ServerMonitorSchedulingSpecification extends Specification {
+    private final AtomicInteger checkCount = new AtomicInteger()
+    private final InternalConnectionFactory connectionFactory = {
+        checkCount.incrementAndGet()
+        throw new MongoSocketOpenException('Exception opening socket', new ServerAddress())
+    } as InternalConnectionFactory
+    private ServerMonitor monitor
+
+    def setup() {
+        monitor = new ServerMonitor(new ServerAddress(), ServerSettings.builder()
+                                                                       .heartbeatFrequency(1, MINUTES)
+                                                                       .heartbeatConnectRetryFrequency(10, MILLISECONDS)
+                                                                       .build(),
+                                    'cluster-1', Mock(ChangeListener), connectionFactory, new TestConnectionPool())
+    }
+
+    def cleanup() {
+        monitor.close()
+    }
+
+    def 'should check the server as soon as it is started and then wait for the heartbeat frequency'() {
+        when:
+        monitor.start()
+
+        then:
+        waitForCheckCount(1)
+
+        when:
+        Thread.sleep(100)
+
+        then:
+        checkCount.get() == 1
+    }
+
+    def 'should check the server again shortly after connect is called'() {
+        given:
+        monitor.start()
+        waitForCheckCount(1)
+
+        when:
+        monitor.connect()
+
+        then:
+        waitForCheckCount(2)
+    }
+
+    def 'should not check the server after it is closed'() {
+        given:
+        monitor.start()
+        waitForCheckCount(1)
+
+        when:
+        monitor.close()
+        monitor.connect()
+        Thread.sleep(100)
+
+        then:
+        checkCount.get() == 1
+    }
+
+    private boolean waitForCheckCount(final int expectedCount) {
+        long deadline = System.currentTimeMillis() + 5000
+        while (checkCount.get() < expectedCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5)
+        }
+        checkCount.get() == expectedCount
+    }
+}
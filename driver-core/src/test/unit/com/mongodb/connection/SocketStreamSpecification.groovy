@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection
+
+import com.mongodb.ServerAddress
+import org.bson.ByteBufNIO
+import spock.lang.Specification
+
+import javax.net.SocketFactory
+import java.nio.ByteBuffer
+
+class SocketStreamSpecification extends Specification {
+
+    def 'should write all buffers in order when coalescing small buffers and passing large ones through'() {
+        given:
+        def serverSocket = new ServerSocket(0, 1, InetAddress.getByName('127.0.0.1'))
+        def stream = new SocketStream(new ServerAddress('127.0.0.1', serverSocket.localPort),
+                                      SocketSettings.builder().sendBufferSize(1024).build(),
+                                      SocketFactory.default, new SimpleBufferProvider())
+        def accepted = serverSocket.accept()
+        def sizes = [10, 1, 2000, 300, 0, 700, 5]
+        def expected = []
+        def buffers = sizes.collect { size ->
+            def bytes = new byte[size]
+            size.times { i -> bytes[i] = (byte) (expected.size() + i) }
+            expected.addAll(bytes as List)
+            new ByteBufNIO(ByteBuffer.wrap(bytes))
+        }
+
+        when:
+        stream.write(buffers)
+        def received = new byte[expected.size()]
+        new DataInputStream(accepted.inputStream).readFully(received)
+
+        then:
+        (received as List) == expected
+
+        cleanup:
+        stream?.close()
+        accepted?.close()
+        serverSocket?.close()
+    }
+}
@@ -76,15 +76,29 @@ public class TestConnectionPool implements ConnectionPool {
         };
     }
 
+    @Override
+    public int getOperationCount() {
+        return 0;
+    }
+
     @Override
     public InternalConnection get(final long timeout, final TimeUnit timeUnit) {
         return get();
     }
 
+    @Override
+    public void getAsync(final SingleResultCallback<InternalConnection> callback) {
+        callback.onResult(get(), null);
+    }
+
     @Override
     public void invalidate() {
     }
 
+    @Override
+    public void warmUp() {
+    }
+
     @Override
     public void close() {
     }
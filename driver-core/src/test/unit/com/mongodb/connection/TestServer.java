@@ -17,6 +17,7 @@
 package com.mongodb.connection;
 
 import com.mongodb.ServerAddress;
+import com.mongodb.async.MongoFuture;
 
 import static com.mongodb.connection.ServerConnectionState.CONNECTING;
 
@@ -26,6 +27,7 @@ public class TestServer implements ClusterableServer {
     private boolean isClosed;
     private final ServerAddress serverAddress;
     private int connectCount;
+    private int operationCount;
 
     public TestServer(final ServerAddress serverAddress) {
         this.serverAddress = serverAddress;
@@ -69,6 +71,15 @@ public class TestServer implements ClusterableServer {
         return connectCount;
     }
 
+    @Override
+    public int getOperationCount() {
+        return operationCount;
+    }
+
+    public void setOperationCount(final int operationCount) {
+        this.operationCount = operationCount;
+    }
+
     @Override
     public ServerDescription getDescription() {
         return description;
@@ -79,4 +90,9 @@ public class TestServer implements ClusterableServer {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public MongoFuture<Connection> getConnectionAsync() {
+        throw new UnsupportedOperationException();
+    }
+
 }
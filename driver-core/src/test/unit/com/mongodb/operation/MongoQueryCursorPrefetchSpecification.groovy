@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.operation
+
+import com.mongodb.MongoNamespace
+import com.mongodb.MongoTimeoutException
+import com.mongodb.ServerAddress
+import com.mongodb.binding.ConnectionSource
+import com.mongodb.connection.Connection
+import com.mongodb.protocol.QueryResult
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.ByteBufNIO
+import org.bson.codecs.BsonDocumentCodec
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+
+import static com.mongodb.connection.ReplyHelper.buildReply
+import static java.util.concurrent.TimeUnit.SECONDS
+
+class MongoQueryCursorPrefetchSpecification extends Specification {
+    def namespace = new MongoNamespace('test', 'test')
+    def serverAddress = new ServerAddress()
+    def events = new CopyOnWriteArrayList<String>()
+    def released = new CountDownLatch(1)
+    def connection = Stub(Connection) {
+        getServerAddress() >> serverAddress
+        getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+        sendMessage(_, _) >> { buffers, int requestId -> events.add('send') }
+        receiveMessage(_) >> { int responseTo ->
+            events.add('receive')
+            buildReply(responseTo, 0, [document(5), document(6)])
+        }
+        release() >> {
+            released.countDown()
+            null
+        }
+    }
+    def source = Stub(ConnectionSource) {
+        getConnection() >> connection
+    }
+
+    def 'should request the next batch once the threshold of the current batch has been iterated'() {
+        given:
+        def cursor = new MongoQueryCursor(namespace, firstBatch(), 0, 0, 0.5, new BsonDocumentCodec(), source)
+
+        when:
+        cursor.next()
+
+        then:
+        events == []
+
+        when:
+        cursor.next()
+
+        then:
+        events[0] == 'send'
+
+        when:
+        cursor.next()
+        cursor.next()
+        def remaining = [cursor.next(), cursor.next()]
+
+        then:
+        events == ['send', 'receive']
+        remaining == [document(5), document(6)]
+        !cursor.hasNext()
+        cursor.sizes == [4, 2]
+    }
+
+    def 'should return the connection to the pool once the prefetched reply has been read'() {
+        given:
+        def cursor = new MongoQueryCursor(namespace, firstBatch(), 0, 0, 0.25, new BsonDocumentCodec(), source)
+
+        when:
+        cursor.next()
+
+        then:
+        released.await(10, SECONDS)
+        events == ['send', 'receive']
+
+        when:
+        def remaining = (1..5).collect { cursor.next() }
+
+        then:
+        remaining == [document(2), document(3), document(4), document(5), document(6)]
+        events == ['send', 'receive']
+    }
+
+    def 'should fall back to a normal get more if the prefetch fails'() {
+        given:
+        def checkouts = 0
+        def failingSource = Stub(ConnectionSource) {
+            getConnection() >> {
+                if (checkouts++ == 0) {
+                    throw new MongoTimeoutException('Timed out waiting for a connection')
+                }
+                connection
+            }
+        }
+        def cursor = new MongoQueryCursor(namespace, firstBatch(), 0, 0, 0.25, new BsonDocumentCodec(), failingSource)
+
+        when:
+        def all = (1..6).collect { cursor.next() }
+
+        then:
+        all == (1..6).collect { document(it) }
+        events == ['send', 'receive']
+        checkouts == 2
+    }
+
+    def 'should not prefetch by default'() {
+        given:
+        def cursor = new MongoQueryCursor(namespace, firstBatch(), 0, 0, new BsonDocumentCodec(), source)
+
+        when:
+        4.times { cursor.next() }
+
+        then:
+        events == []
+
+        when:
+        cursor.next()
+
+        then:
+        events == ['send', 'receive']
+    }
+
+    def 'should read the prefetched reply before killing the cursor on close'() {
+        given:
+        def cursor = new MongoQueryCursor(namespace, firstBatch(), 0, 0, 0.25, new BsonDocumentCodec(), source)
+        cursor.next()
+
+        when:
+        cursor.close()
+
+        then:
+        events == ['send', 'receive']
+    }
+
+    private QueryResult<BsonDocument> firstBatch() {
+        new QueryResult<BsonDocument>([document(1), document(2), document(3), document(4)], 42, serverAddress, 1)
+    }
+
+    private static BsonDocument document(final int i) {
+        new BsonDocument('_id', new BsonInt32(i))
+    }
+}
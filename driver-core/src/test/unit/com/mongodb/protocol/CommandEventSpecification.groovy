@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.protocol
+
+import com.mongodb.CommandFailureException
+import com.mongodb.MongoNamespace
+import com.mongodb.ServerAddress
+import com.mongodb.WriteConcern
+import com.mongodb.codecs.DocumentCodec
+import com.mongodb.connection.CommandListenerProvider
+import com.mongodb.connection.Connection
+import com.mongodb.connection.ServerDescription
+import com.mongodb.connection.ServerVersion
+import com.mongodb.event.CommandFailedEvent
+import com.mongodb.event.CommandListener
+import com.mongodb.event.CommandSucceededEvent
+import com.mongodb.operation.InsertRequest
+import com.mongodb.operation.QueryFlag
+import com.mongodb.protocol.message.NoOpFieldNameValidator
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.ByteBufNIO
+import org.bson.codecs.BsonDocumentCodec
+import org.mongodb.Document
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+import static com.mongodb.connection.ReplyHelper.buildReply
+import static com.mongodb.connection.ServerConnectionState.CONNECTED
+import static java.util.concurrent.TimeUnit.NANOSECONDS
+
+class CommandEventSpecification extends Specification {
+    def succeededEvents = []
+    def failedEvents = []
+    def listener = new CommandListener() {
+        @Override
+        void commandSucceeded(final CommandSucceededEvent event) {
+            succeededEvents.add(event)
+        }
+
+        @Override
+        void commandFailed(final CommandFailedEvent event) {
+            failedEvents.add(event)
+        }
+    }
+    def reply = new BsonDocument('ok', new BsonInt32(1)).append('n', new BsonInt32(1))
+    def connection = Stub(ListeningConnection) {
+        getServerDescription() >> ServerDescription.builder().address(new ServerAddress()).state(CONNECTED)
+                                                   .version(new ServerVersion(2, 6)).maxWriteBatchSize(1).build()
+        getServerAddress() >> new ServerAddress()
+        getId() >> 'conn-1'
+        getCommandListener() >> listener
+        getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+        receiveMessage(_) >> { int responseTo -> buildReply(responseTo, reply) }
+    }
+
+    def 'should publish a succeeded event for a command'() {
+        when:
+        new CommandProtocol('test', new BsonDocument('count', new BsonInt32(1)), EnumSet.noneOf(QueryFlag), new NoOpFieldNameValidator(),
+                            new BsonDocumentCodec()).execute(connection)
+
+        then:
+        failedEvents.isEmpty()
+        succeededEvents.size() == 1
+        with(succeededEvents[0] as CommandSucceededEvent) {
+            commandName == 'count'
+            namespace == new MongoNamespace('test', '$cmd')
+            serverAddress == new ServerAddress()
+            connectionId == 'conn-1'
+            requestId != 0
+            replySize == sizeOfReply(reply)
+            getElapsedTime(NANOSECONDS) >= 0
+        }
+    }
+
+    def 'should publish a failed event for a command that fails'() {
+        given:
+        reply = new BsonDocument('ok', new BsonInt32(0))
+
+        when:
+        new CommandProtocol('test', new BsonDocument('count', new BsonInt32(1)), EnumSet.noneOf(QueryFlag), new NoOpFieldNameValidator(),
+                            new BsonDocumentCodec()).execute(connection)
+
+        then:
+        thrown(CommandFailureException)
+        succeededEvents.isEmpty()
+        failedEvents.size() == 1
+        failedEvents[0].commandName == 'count'
+        failedEvents[0].throwable instanceof CommandFailureException
+    }
+
+    def 'should publish a single event for all the batches of a write command'() {
+        given:
+        def inserts = (1..3).collect { new InsertRequest(new Document('_id', it)) }
+
+        when:
+        new InsertCommandProtocol(new MongoNamespace('test', 'test'), true, WriteConcern.ACKNOWLEDGED, inserts, new DocumentCodec())
+                .execute(connection)
+
+        then:
+        succeededEvents.size() == 1
+        succeededEvents[0].commandName == 'insert'
+        succeededEvents[0].namespace == new MongoNamespace('test', 'test')
+        succeededEvents[0].replySize == 3 * sizeOfReply(reply)
+    }
+
+    def 'should not let an exception thrown by the command listener fail the command'() {
+        given:
+        def throwingConnection = Stub(ListeningConnection) {
+            getServerDescription() >> ServerDescription.builder().address(new ServerAddress()).state(CONNECTED)
+                                                       .version(new ServerVersion(2, 6)).build()
+            getServerAddress() >> new ServerAddress()
+            getCommandListener() >> Stub(CommandListener) {
+                commandSucceeded(_) >> { throw new IllegalStateException() }
+            }
+            getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+            receiveMessage(_) >> { int responseTo -> buildReply(responseTo, reply) }
+        }
+
+        when:
+        def result = new CommandProtocol('test', new BsonDocument('count', new BsonInt32(1)), EnumSet.noneOf(QueryFlag),
+                                         new NoOpFieldNameValidator(), new BsonDocumentCodec()).execute(throwingConnection)
+
+        then:
+        result.isOk()
+    }
+
+    def 'should not require a command listener'() {
+        given:
+        def connectionWithoutListener = Stub(Connection) {
+            getServerDescription() >> ServerDescription.builder().address(new ServerAddress()).state(CONNECTED)
+                                                       .version(new ServerVersion(2, 6)).build()
+            getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+            receiveMessage(_) >> { int responseTo -> buildReply(responseTo, reply) }
+        }
+
+        when:
+        def result = new CommandProtocol('test', new BsonDocument('count', new BsonInt32(1)), EnumSet.noneOf(QueryFlag),
+                                         new NoOpFieldNameValidator(), new BsonDocumentCodec()).execute(connectionWithoutListener)
+
+        then:
+        result.isOk()
+        succeededEvents.isEmpty()
+    }
+
+    private static int sizeOfReply(final BsonDocument document) {
+        buildReply(0, document).replyHeader.messageLength
+    }
+}
+
+interface ListeningConnection extends Connection, CommandListenerProvider {
+}
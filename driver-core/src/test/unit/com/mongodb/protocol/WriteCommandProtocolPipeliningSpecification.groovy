@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.protocol
+
+import com.mongodb.MongoNamespace
+import com.mongodb.ServerAddress
+import com.mongodb.WriteConcern
+import com.mongodb.codecs.DocumentCodec
+import com.mongodb.connection.Connection
+import com.mongodb.connection.ServerDescription
+import com.mongodb.connection.ServerVersion
+import com.mongodb.operation.InsertRequest
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.ByteBufNIO
+import org.mongodb.Document
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+import static com.mongodb.connection.ReplyHelper.buildReply
+import static com.mongodb.connection.ServerConnectionState.CONNECTED
+
+class WriteCommandProtocolPipeliningSpecification extends Specification {
+    def events = []
+    def connection = Stub(Connection) {
+        getServerDescription() >> ServerDescription.builder().address(new ServerAddress()).state(CONNECTED)
+                                                   .version(new ServerVersion(2, 6)).maxWriteBatchSize(1).build()
+        getServerAddress() >> new ServerAddress()
+        getBuffer(_) >> { int size -> new ByteBufNIO(ByteBuffer.allocate(size)) }
+        sendMessage(_, _) >> { buffers, int requestId -> events.add('send') }
+        receiveMessage(_) >> { int responseTo ->
+            events.add('receive')
+            buildReply(responseTo, new BsonDocument('ok', new BsonInt32(1)).append('n', new BsonInt32(1)))
+        }
+    }
+
+    def 'should keep several batches of an unordered write in flight'() {
+        given:
+        def protocol = createInsertProtocol(false, 6)
+
+        when:
+        def result = protocol.execute(connection)
+
+        then:
+        result.insertedCount == 6
+        events == ['send', 'send', 'send', 'send', 'receive', 'send', 'receive', 'send', 'receive', 'receive', 'receive', 'receive']
+    }
+
+    def 'should wait for the reply to each batch of an ordered write'() {
+        given:
+        def protocol = createInsertProtocol(true, 3)
+
+        when:
+        def result = protocol.execute(connection)
+
+        then:
+        result.insertedCount == 3
+        events == ['send', 'receive', 'send', 'receive', 'send', 'receive']
+    }
+
+    private static InsertCommandProtocol createInsertProtocol(final boolean ordered, final int numberOfInserts) {
+        def inserts = (1..numberOfInserts).collect { new InsertRequest(new Document('_id', it)) }
+        new InsertCommandProtocol(new MongoNamespace('test', 'test'), ordered, WriteConcern.ACKNOWLEDGED, inserts, new DocumentCodec())
+    }
+}
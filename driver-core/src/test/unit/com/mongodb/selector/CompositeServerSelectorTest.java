@@ -34,6 +34,7 @@ import static com.mongodb.connection.ServerType.REPLICA_SET_SECONDARY;
 import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 public class CompositeServerSelectorTest {
     private CompositeServerSelector selector;
@@ -84,4 +85,19 @@ public class CompositeServerSelectorTest {
         assertEquals(selector.select(new ClusterDescription(MULTIPLE, REPLICA_SET, asList(first, second, third))), asList(second, third));
 
     }
+
+    @Test
+    public void shouldBeEqualWhenComposedOfEqualSelectors() {
+        selector = new CompositeServerSelector(asList(new ReadPreferenceServerSelector(secondary()),
+                                                      new LatencyMinimizingServerSelector(15, MILLISECONDS)));
+        CompositeServerSelector equalSelector = new CompositeServerSelector(asList(new ReadPreferenceServerSelector(secondary()),
+                                                                                   new LatencyMinimizingServerSelector(15, MILLISECONDS)));
+        CompositeServerSelector differentSelector = new CompositeServerSelector(asList(new ReadPreferenceServerSelector(secondary()),
+                                                                                       new LatencyMinimizingServerSelector(20,
+                                                                                                                           MILLISECONDS)));
+
+        assertEquals(selector, equalSelector);
+        assertEquals(selector.hashCode(), equalSelector.hashCode());
+        assertNotEquals(selector, differentSelector);
+    }
 }
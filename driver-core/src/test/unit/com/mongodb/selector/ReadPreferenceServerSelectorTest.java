@@ -30,6 +30,7 @@ import static com.mongodb.connection.ClusterType.REPLICA_SET;
 import static com.mongodb.connection.ServerConnectionState.CONNECTED;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 public class ReadPreferenceServerSelectorTest {
     @Test
@@ -54,5 +55,13 @@ public class ReadPreferenceServerSelectorTest {
                                                      .build();
         assertEquals(asList(primary), selector.select(new ClusterDescription(MULTIPLE, REPLICA_SET, asList(primary, secondary))));
     }
-}
 
+    @Test
+    public void testEquals() {
+        ReadPreferenceServerSelector selector = new ReadPreferenceServerSelector(ReadPreference.secondary());
+
+        assertEquals(new ReadPreferenceServerSelector(ReadPreference.secondary()), selector);
+        assertEquals(new ReadPreferenceServerSelector(ReadPreference.secondary()).hashCode(), selector.hashCode());
+        assertNotEquals(new ReadPreferenceServerSelector(ReadPreference.primary()), selector);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.async.rx.client;
+
+import com.mongodb.MongoException;
+import com.mongodb.async.MongoAsyncBatchCursor;
+import com.mongodb.async.SingleResultCallback;
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+import rx.functions.Action0;
+import rx.subscriptions.Subscriptions;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mongodb.async.rx.client.OnSubscribeAdapter.FutureFunction;
+
+/**
+ * Emits the documents of a batch cursor at the pace requested by the subscriber.  A batch is only fetched when the subscriber has
+ * outstanding demand and the previous batch has been emitted, and its size is the outstanding demand.  The cursor is closed as soon as
+ * the subscriber unsubscribes.
+ *
+ * @param <T> the document type
+ */
+class BatchCursorOnSubscribe<T> implements Observable.OnSubscribe<T> {
+    private final FutureFunction<MongoAsyncBatchCursor<T>> cursorFunction;
+
+    public BatchCursorOnSubscribe(final FutureFunction<MongoAsyncBatchCursor<T>> cursorFunction) {
+        this.cursorFunction = cursorFunction;
+    }
+
+    @Override
+    public void call(final Subscriber<? super T> subscriber) {
+        final BatchCursorProducer producer = new BatchCursorProducer(subscriber);
+        subscriber.add(Subscriptions.create(new Action0() {
+            @Override
+            public void call() {
+                producer.cancel();
+            }
+        }));
+        subscriber.setProducer(producer);
+    }
+
+    private final class BatchCursorProducer implements Producer {
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        private final Queue<T> buffer = new ConcurrentLinkedQueue<T>();
+        private volatile MongoAsyncBatchCursor<T> cursor;
+        private volatile boolean fetching;
+        private volatile boolean exhausted;
+        private volatile boolean cancelled;
+        private volatile MongoException exception;
+        private boolean terminated;
+
+        BatchCursorProducer(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                return;
+            }
+            while (true) {
+                long current = requested.get();
+                long next = current + n;
+                if (next < 0) {
+                    next = Long.MAX_VALUE;
+                }
+                if (requested.compareAndSet(current, next)) {
+                    break;
+                }
+            }
+            drain();
+        }
+
+        void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        // Only one thread at a time emits or fetches; a thread that finds another one draining leaves the work to it
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                if (cancelled) {
+                    buffer.clear();
+                    closeCursor();
+                    continue;
+                }
+                while (requested.get() > 0 && !buffer.isEmpty() && !cancelled) {
+                    subscriber.onNext(buffer.poll());
+                    if (requested.get() != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                }
+                if (terminated || !buffer.isEmpty() || cancelled) {
+                    continue;
+                }
+                if (exception != null) {
+                    terminated = true;
+                    subscriber.onError(exception);
+                } else if (exhausted) {
+                    terminated = true;
+                    subscriber.onCompleted();
+                } else if (requested.get() > 0 && !fetching) {
+                    fetching = true;
+                    fetch();
+                }
+            } while (drainRequests.decrementAndGet() != 0);
+        }
+
+        private void fetch() {
+            if (cursor != null) {
+                fetchBatch();
+            } else {
+                cursorFunction.apply().register(new SingleResultCallback<MongoAsyncBatchCursor<T>>() {
+                    @Override
+                    public void onResult(final MongoAsyncBatchCursor<T> result, final MongoException e) {
+                        if (e != null) {
+                            exception = e;
+                            fetching = false;
+                            drain();
+                        } else {
+                            cursor = result;
+                            if (cancelled) {
+                                closeCursor();
+                            } else {
+                                fetchBatch();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+
+        private void fetchBatch() {
+            long demand = requested.get();
+            int batchSize = demand >= Integer.MAX_VALUE ? 0 : (int) demand;
+            cursor.nextBatch(batchSize).register(new SingleResultCallback<List<T>>() {
+                @Override
+                public void onResult(final List<T> result, final MongoException e) {
+                    if (e != null) {
+                        exception = e;
+                    } else if (result == null) {
+                        exhausted = true;
+                    } else {
+                        buffer.addAll(result);
+                    }
+                    fetching = false;
+                    drain();
+                }
+            });
+        }
+
+        private void closeCursor() {
+            MongoAsyncBatchCursor<T> currentCursor = cursor;
+            if (currentCursor != null) {
+                currentCursor.close();
+            }
+        }
+    }
+}
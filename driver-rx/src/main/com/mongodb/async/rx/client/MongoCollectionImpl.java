@@ -16,25 +16,21 @@
 
 package com.mongodb.async.rx.client;
 
-import com.mongodb.Block;
-import com.mongodb.MongoException;
 import com.mongodb.MongoNamespace;
+import com.mongodb.async.MongoAsyncBatchCursor;
 import com.mongodb.async.MongoFuture;
 import com.mongodb.async.client.MongoCollectionOptions;
-import com.mongodb.async.SingleResultCallback;
 import com.mongodb.operation.QueryFlag;
 import org.bson.codecs.Codec;
 import org.mongodb.ConvertibleToDocument;
 import org.mongodb.Document;
 import org.mongodb.WriteResult;
 import rx.Observable;
-import rx.Subscriber;
 
 import java.util.EnumSet;
 import java.util.List;
 
 import static com.mongodb.async.rx.client.OnSubscribeAdapter.FutureFunction;
-import static rx.Observable.OnSubscribe;
 
 class MongoCollectionImpl<T> implements MongoCollection<T> {
     private final com.mongodb.async.client.MongoCollection<T> wrapped;
@@ -192,26 +188,12 @@ class MongoCollectionImpl<T> implements MongoCollection<T> {
 
         @Override
         public Observable<T> forEach() {
-            return Observable.create(new OnSubscribe<T>() {
+            return Observable.create(new BatchCursorOnSubscribe<T>(new FutureFunction<MongoAsyncBatchCursor<T>>() {
                 @Override
-                public void call(final Subscriber<? super T> subscriber) {
-                    wrappedView.forEach(new Block<T>() {
-                        @Override
-                        public void apply(final T t) {
-                            subscriber.onNext(t);
-                        }
-                    }).register(new SingleResultCallback<Void>() {
-                        @Override
-                        public void onResult(final Void result, final MongoException e) {
-                            if (e != null) {
-                                subscriber.onError(e);
-                            } else {
-                                subscriber.onCompleted();
-                            }
-                        }
-                    });
+                public MongoFuture<MongoAsyncBatchCursor<T>> apply() {
+                    return wrappedView.batchCursor();
                 }
-            });
+            }));
         }
 
         @Override
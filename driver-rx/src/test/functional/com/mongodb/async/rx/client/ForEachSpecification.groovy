@@ -17,6 +17,11 @@
 package com.mongodb.async.rx.client
 
 import org.mongodb.Document
+import rx.Subscriber
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
 
 import static Fixture.get
 import static Fixture.getAsList
@@ -47,4 +52,49 @@ class ForEachSpecification extends FunctionalSpecification {
         expect:
         getAsList(collection.find(new Document()).forEach()) == documents
     }
-}
\ No newline at end of file
+
+    def 'should only call onNext for documents that have been requested'() {
+        given:
+        def documents = (1..10).collect { new Document('_id', it) }
+        get(collection.insert(documents))
+        def received = new CopyOnWriteArrayList<Document>()
+        def requestedReceived = new CountDownLatch(3)
+        def completed = new CountDownLatch(1)
+        def subscriber = new Subscriber<Document>() {
+            @Override
+            void onStart() {
+                request(3)
+            }
+
+            @Override
+            void onNext(final Document document) {
+                received.add(document)
+                requestedReceived.countDown()
+            }
+
+            @Override
+            void onCompleted() {
+                completed.countDown()
+            }
+
+            @Override
+            void onError(final Throwable e) {
+            }
+        }
+
+        when:
+        collection.find(new Document()).sort(new Document('_id', 1)).forEach().subscribe(subscriber)
+
+        then:
+        requestedReceived.await(10, TimeUnit.SECONDS)
+        received == documents[0..2]
+        completed.count == 1
+
+        when:
+        subscriber.request(7)
+
+        then:
+        completed.await(10, TimeUnit.SECONDS)
+        received == documents
+    }
+}
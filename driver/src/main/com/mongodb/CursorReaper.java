@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb;
+
+import com.mongodb.annotations.ThreadSafe;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the server cursors of {@code DBCursor} instances that are iterated, so that the server cursor of one that becomes unreachable
+ * without being closed can be killed. A phantom reference is registered for each iterated cursor rather than relying on finalization,
+ * which slows down both allocation and garbage collection of every cursor.
+ */
+@ThreadSafe
+final class CursorReaper {
+    private final ReferenceQueue<DBCursor> referenceQueue = new ReferenceQueue<DBCursor>();
+    private final Set<CursorReference> references = Collections.newSetFromMap(new ConcurrentHashMap<CursorReference, Boolean>());
+
+    /**
+     * Registers the given cursor, which must not hold a reference to the given {@code DBCursor}.
+     *
+     * @param dbCursor the cursor whose reachability is tracked
+     * @param cursor   the cursor holding the server cursor to kill if the {@code DBCursor} is not closed
+     * @return the reference, which must be passed to {@link #unregister(CursorReference)} when the {@code DBCursor} is closed
+     */
+    CursorReference register(final DBCursor dbCursor, final MongoCursor<DBObject> cursor) {
+        CursorReference reference = new CursorReference(dbCursor, cursor, referenceQueue);
+        references.add(reference);
+        return reference;
+    }
+
+    void unregister(final CursorReference reference) {
+        references.remove(reference);
+        reference.clear();
+    }
+
+    /**
+     * Removes all the cursors whose {@code DBCursor} has become unreachable.
+     *
+     * @return the server cursors that are still open on the server
+     */
+    List<ServerCursor> reap() {
+        List<ServerCursor> serverCursors = new ArrayList<ServerCursor>();
+        CursorReference reference;
+        while ((reference = (CursorReference) referenceQueue.poll()) != null) {
+            if (references.remove(reference)) {
+                ServerCursor serverCursor = reference.cursor.getServerCursor();
+                if (serverCursor != null) {
+                    serverCursors.add(serverCursor);
+                }
+            }
+        }
+        return serverCursors;
+    }
+
+    int getRegisteredCount() {
+        return references.size();
+    }
+
+    static final class CursorReference extends PhantomReference<DBCursor> {
+        private final MongoCursor<DBObject> cursor;
+
+        CursorReference(final DBCursor dbCursor, final MongoCursor<DBObject> cursor, final ReferenceQueue<DBCursor> referenceQueue) {
+            super(dbCursor, referenceQueue);
+            this.cursor = cursor;
+        }
+    }
+}
@@ -74,6 +74,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.AggregationOptions.OutputMode.INLINE;
@@ -81,6 +82,7 @@ import static com.mongodb.BulkWriteHelper.translateBulkWriteResult;
 import static com.mongodb.BulkWriteHelper.translateWriteRequestsToNew;
 import static com.mongodb.ReadPreference.primary;
 import static com.mongodb.ReadPreference.primaryPreferred;
+import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
@@ -1336,6 +1338,67 @@ public class DBCollection {
         return cursors;
     }
 
+    /**
+     * Return a list of cursors over the collection on each of the given servers, which must all be members of the cluster that this
+     * client is connected to. The parallel scan command is sent directly to every server, so the cursors returned for all of them can be
+     * consumed together with {@link ParallelCursors}. A read preference that does not allow reading from secondaries is replaced with
+     * {@link ReadPreference#primaryPreferred()} so that secondaries in the list accept the command.
+     *
+     * @param options         the parallel scan options, whose number of cursors applies to each server
+     * @param serverAddresses the addresses of the servers to scan
+     * @return a list of cursors over all the servers, whose size may be less than the number requested
+     * @throws IllegalArgumentException if any of the servers is not a member of the cluster
+     * @mongodb.server.release 2.6
+     * @since 3.0
+     */
+    public List<Cursor> parallelScan(final ParallelScanOptions options, final List<ServerAddress> serverAddresses) {
+        ReadPreference readPreference = options.getReadPreference() != null ? options.getReadPreference() : getReadPreference();
+        if (!readPreference.isSlaveOk()) {
+            readPreference = ReadPreference.primaryPreferred();
+        }
+        List<ServerAddress> clusterServerAddresses = getDB().getMongo().getServerAddressList();
+        for (ServerAddress serverAddress : serverAddresses) {
+            if (!clusterServerAddresses.contains(serverAddress)) {
+                throw new IllegalArgumentException(format("%s is not a member of the cluster %s", serverAddress, clusterServerAddresses));
+            }
+        }
+        List<Cursor> cursors = new ArrayList<Cursor>();
+        try {
+            for (ServerAddress serverAddress : serverAddresses) {
+                List<MongoCursor<DBObject>> mongoCursors =
+                    getDB().getMongo().execute(new ParallelScanOperation<DBObject>(getNamespace(), options.toNew(), objectCodec),
+                                               serverAddress, readPreference);
+                for (MongoCursor<DBObject> mongoCursor : mongoCursors) {
+                    cursors.add(new MongoCursorAdapter(mongoCursor));
+                }
+            }
+        } catch (RuntimeException e) {
+            for (Cursor cursor : cursors) {
+                cursor.close();
+            }
+            throw e;
+        }
+        return cursors;
+    }
+
+    /**
+     * Scans the collection in parallel, applying the block to every document from the cursors returned by {@link
+     * #parallelScan(ParallelScanOptions)}. Each cursor is drained by a task submitted to the given executor, so the executor bounds the
+     * number of cursors consumed at once and the block must be safe to call from several threads.
+     *
+     * @param options  the parallel scan options
+     * @param executor the executor used to drain the cursors
+     * @param block    the block to apply to each document
+     * @throws MongoException if any cursor or the block fails, after all the cursors have been closed
+     * @mongodb.server.release 2.6
+     * @since 3.0
+     * @see ParallelCursors#forEach(List, ExecutorService, Block)
+     */
+    public void parallelScan(final ParallelScanOptions options, final ExecutorService executor,
+                             final Block<? super DBObject> block) {
+        ParallelCursors.forEach(parallelScan(options), executor, block);
+    }
+
     /**
      * Get the name of a collection.
      *
@@ -61,8 +61,7 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
     private boolean closed;
     private final List<DBObject> all = new ArrayList<DBObject>();
     private MongoCursor<DBObject> cursor;
-    // This allows us to easily enable/disable finalizer for cleaning up un-closed cursors
-    private final OptionalFinalizer optionalFinalizer; // IDEs will say it can be converted to a local variable, resist the urge
+    private CursorReaper.CursorReference cursorReference;
 
 
     /**
@@ -93,8 +92,6 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
         this.readPreference = readPreference;
         this.resultDecoder = collection.getObjectCodec();
         this.decoderFactory = collection.getDBDecoderFactory();
-        optionalFinalizer = collection.getDB().getMongo().getMongoClientOptions().isCursorFinalizerEnabled()
-                            ? new OptionalFinalizer() : null;
     }
 
     /**
@@ -115,6 +112,10 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
         if (cursor == null) {
             cursor = collection.execute(new QueryOperation<DBObject>(collection.getNamespace(), find,
                                                                      resultDecoder), getReadPreference());
+            Mongo mongo = collection.getDB().getMongo();
+            if (mongo.getMongoClientOptions().isCursorFinalizerEnabled()) {
+                cursorReference = mongo.getCursorReaper().register(this, cursor);
+            }
         }
 
         return cursor.hasNext();
@@ -421,6 +422,21 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
         return this;
     }
 
+    /**
+     * Requests the next batch from the server once the given fraction of the current batch has been iterated, so that the server
+     * produces it while the application is still working through the current one.  At most one batch is requested ahead.  Prefetching is
+     * disabled by default.
+     *
+     * @param prefetchThreshold the fraction of a batch after which to request the next one, greater than 0 and at most 1, or 0 to
+     *                          disable prefetching
+     * @return {@code this}
+     * @throws IllegalArgumentException if the threshold is not between 0 and 1
+     */
+    public DBCursor prefetchThreshold(final double prefetchThreshold) {
+        find.prefetchThreshold(prefetchThreshold);
+        return this;
+    }
+
     /**
      * Discards a given number of elements at the beginning of the cursor.
      *
@@ -461,6 +477,10 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
     @Override
     public void close() {
         closed = true;
+        if (cursorReference != null) {
+            collection.getDB().getMongo().getCursorReaper().unregister(cursorReference);
+            cursorReference = null;
+        }
         if (cursor != null) {
             cursor.close();
             cursor = null;
@@ -720,16 +740,4 @@ public class DBCursor implements Cursor, Iterable<DBObject> {
         ARRAY
     }
 
-    private class OptionalFinalizer {
-        @Override
-        protected void finalize() {
-            if (cursor != null) {
-                ServerCursor serverCursor = cursor.getServerCursor();
-                if (serverCursor != null) {
-                    getCollection().getDB().getMongo().addOrphanedCursor(serverCursor);
-                }
-            }
-        }
-    }
-
 }
@@ -35,6 +35,11 @@ import com.mongodb.connection.DefaultClusterFactory;
 import com.mongodb.connection.PowerOfTwoBufferPool;
 import com.mongodb.connection.ServerDescription;
 import com.mongodb.connection.SocketStreamFactory;
+import com.mongodb.diagnostics.Loggers;
+import com.mongodb.diagnostics.logging.Logger;
+import com.mongodb.event.CommandEventMulticaster;
+import com.mongodb.event.CommandListener;
+import com.mongodb.management.JMXCommandListener;
 import com.mongodb.management.JMXConnectionPoolListener;
 import com.mongodb.operation.GetDatabaseNamesOperation;
 import com.mongodb.operation.ReadOperation;
@@ -57,7 +62,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
@@ -71,6 +78,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static com.mongodb.ReadPreference.primary;
 import static com.mongodb.connection.ClusterConnectionMode.MULTIPLE;
 import static com.mongodb.connection.ClusterType.REPLICA_SET;
+import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -120,6 +128,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 public class Mongo {
     static final String ADMIN_DATABASE_NAME = "admin";
     private static final String VERSION = "3.0.0-SNAPSHOT";
+    private static final Logger LOGGER = Loggers.getLogger("cursor");
 
     private final ConcurrentMap<String, DB> dbCache = new ConcurrentHashMap<String, DB>();
 
@@ -137,6 +146,8 @@ public class Mongo {
 
     private final ThreadLocal<BindingHolder> pinnedBinding = new ThreadLocal<BindingHolder>();
     private final ConcurrentLinkedQueue<ServerCursor> orphanedCursors = new ConcurrentLinkedQueue<ServerCursor>();
+    private final CursorReaper cursorReaper = new CursorReaper();
+    // null when the cursor finalizer is disabled, in which case DBCursor does not register with the reaper either
     private final ExecutorService cursorCleaningService;
 
     private final CodecRegistry codecRegistry = new RootCodecRegistry(Arrays.<CodecProvider>asList(new DBObjectCodecProvider()));
@@ -523,7 +534,9 @@ public class Mongo {
      */
     public void close() {
         cluster.close();
-        cursorCleaningService.shutdownNow();
+        if (cursorCleaningService != null) {
+            cursorCleaningService.shutdownNow();
+        }
     }
 
     /**
@@ -687,6 +700,7 @@ public class Mongo {
         return createCluster(ClusterSettings.builder().hosts(createNewSeedList(seedList))
                                             .requiredReplicaSetName(options.getRequiredReplicaSetName())
                                             .serverSelector(createServerSelector(options))
+                                            .loadAwareServerSelectionEnabled(options.isLoadAwareServerSelectionEnabled())
                                             .build(),
                              credentialsList, options);
     }
@@ -698,12 +712,25 @@ public class Mongo {
                                             .hosts(asList(serverAddress))
                                             .requiredReplicaSetName(options.getRequiredReplicaSetName())
                                             .serverSelector(createServerSelector(options))
+                                            .loadAwareServerSelectionEnabled(options.isLoadAwareServerSelectionEnabled())
                                             .build(),
                              credentialsList, options);
     }
 
     private static Cluster createCluster(final ClusterSettings settings, final List<MongoCredential> credentialsList,
                                          final MongoClientOptions options) {
+        // without any command listener the protocols skip building command events altogether
+        JMXCommandListener jmxCommandListener = options.isCommandLatencyMBeansEnabled() ? new JMXCommandListener() : null;
+        CommandEventMulticaster commandListener = null;
+        if (jmxCommandListener != null || !options.getCommandListeners().isEmpty()) {
+            commandListener = new CommandEventMulticaster();
+            if (jmxCommandListener != null) {
+                commandListener.add(jmxCommandListener);
+            }
+            for (final CommandListener cur : options.getCommandListeners()) {
+                commandListener.add(cur);
+            }
+        }
         return new DefaultClusterFactory().create(settings,
                                                   options.getServerSettings(),
                                                   options.getConnectionPoolSettings(),
@@ -711,7 +738,7 @@ public class Mongo {
                                                   new SocketStreamFactory(options.getHeartbeatSocketSettings(),
                                                                           options.getSocketFactory()),
                                                   credentialsList,
-                                                  null, new JMXConnectionPoolListener(), null);
+                                                  jmxCommandListener, new JMXConnectionPoolListener(), null, commandListener);
     }
 
     private static List<ServerAddress> createNewSeedList(final List<ServerAddress> seedList) {
@@ -791,6 +818,10 @@ public class Mongo {
         orphanedCursors.add(serverCursor);
     }
 
+    CursorReaper getCursorReaper() {
+        return cursorReaper;
+    }
+
     <T> T execute(final ReadOperation<T> operation, final ReadPreference readPreference) {
         ReadBinding binding = getReadBinding(readPreference);
         try {
@@ -800,6 +831,15 @@ public class Mongo {
         }
     }
 
+    <T> T execute(final ReadOperation<T> operation, final ServerAddress serverAddress, final ReadPreference readPreference) {
+        ReadBinding binding = new SingleServerBinding(getCluster(), serverAddress, readPreference, options.getMaxWaitTime(), MILLISECONDS);
+        try {
+            return operation.execute(binding);
+        } finally {
+            binding.release();
+        }
+    }
+
 
     <T> T execute(final WriteOperation<T> operation) {
         return execute(operation, DBObjects.codec);
@@ -830,24 +870,44 @@ public class Mongo {
     }
 
     private void cleanCursors() {
+        orphanedCursors.addAll(cursorReaper.reap());
+
+        Map<ServerAddress, List<ServerCursor>> cursorsByServer = new HashMap<ServerAddress, List<ServerCursor>>();
         ServerCursor cur;
         while ((cur = orphanedCursors.poll()) != null) {
-            ReadWriteBinding binding = new SingleServerBinding(cluster, cur.getAddress(), options.getMaxWaitTime(), MILLISECONDS);
+            List<ServerCursor> serverCursors = cursorsByServer.get(cur.getAddress());
+            if (serverCursors == null) {
+                serverCursors = new ArrayList<ServerCursor>();
+                cursorsByServer.put(cur.getAddress(), serverCursors);
+            }
+            serverCursors.add(cur);
+        }
+
+        for (Map.Entry<ServerAddress, List<ServerCursor>> entry : cursorsByServer.entrySet()) {
+            try {
+                killCursors(entry.getKey(), entry.getValue());
+            } catch (MongoException e) {
+                LOGGER.warn(format("Exception killing %d orphaned cursors on server %s", entry.getValue().size(), entry.getKey()), e);
+            }
+        }
+    }
+
+    private void killCursors(final ServerAddress serverAddress, final List<ServerCursor> serverCursors) {
+        ReadWriteBinding binding = new SingleServerBinding(cluster, serverAddress, options.getMaxWaitTime(), MILLISECONDS);
+        try {
+            ConnectionSource source = binding.getReadConnectionSource();
             try {
-                ConnectionSource source = binding.getReadConnectionSource();
+                Connection connection = source.getConnection();
                 try {
-                    Connection connection = source.getConnection();
-                    try {
-                        new KillCursorProtocol(new KillCursor(cur)).execute(connection);
-                    } finally {
-                        connection.release();
-                    }
+                    new KillCursorProtocol(new KillCursor(serverCursors)).execute(connection);
                 } finally {
-                    source.release();
+                    connection.release();
                 }
             } finally {
-                binding.release();
+                source.release();
             }
+        } finally {
+            binding.release();
         }
     }
 
@@ -20,12 +20,16 @@ import com.mongodb.annotations.Immutable;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerSettings;
 import com.mongodb.connection.SocketSettings;
+import com.mongodb.event.CommandListener;
 
 import javax.net.SocketFactory;
 import javax.net.ssl.SSLSocketFactory;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.Collections.unmodifiableList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
@@ -70,6 +74,9 @@ public class MongoClientOptions {
     private final DBEncoderFactory dbEncoderFactory;
     private final SocketFactory socketFactory;
     private final boolean cursorFinalizerEnabled;
+    private final boolean loadAwareServerSelectionEnabled;
+    private final boolean commandLatencyMBeansEnabled;
+    private final List<CommandListener> commandListeners;
     private final ConnectionPoolSettings connectionPoolSettings;
     private final SocketSettings socketSettings;
     private final ServerSettings serverSettings;
@@ -101,6 +108,9 @@ public class MongoClientOptions {
         dbEncoderFactory = builder.dbEncoderFactory;
         socketFactory = builder.socketFactory;
         cursorFinalizerEnabled = builder.cursorFinalizerEnabled;
+        loadAwareServerSelectionEnabled = builder.loadAwareServerSelectionEnabled;
+        commandLatencyMBeansEnabled = builder.commandLatencyMBeansEnabled;
+        commandListeners = unmodifiableList(new ArrayList<CommandListener>(builder.commandListeners));
 
         connectionPoolSettings = ConnectionPoolSettings.builder()
                                                        .minSize(getMinConnectionsPerHost())
@@ -419,8 +429,11 @@ public class MongoClientOptions {
     }
 
     /**
-     * Gets whether there is a a finalize method created that cleans up instances of DBCursor that the client does not close.  If you are
-     * careful to always call the close method of DBCursor, then this can safely be set to false.
+     * Gets whether instances of DBCursor that the client does not close are tracked, so that their server cursors are killed once they
+     * are garbage collected.  The tracking uses phantom references rather than finalizers, and the server cursors are killed in a single
+     * message per server.  If you are careful to always call the close method of DBCursor, then this can safely be set to false.
+     * When it is false, DBCursor instances are neither tracked nor cleaned up, so the server cursor of one that is not closed stays open
+     * until the server times it out.
      * <p/>
      * Default is true.
      *
@@ -432,6 +445,49 @@ public class MongoClientOptions {
         return cursorFinalizerEnabled;
     }
 
+    /**
+     * Gets whether the client chooses among the servers eligible for an operation by their current load rather than uniformly at random.
+     * If enabled, the client picks two eligible servers at random and uses the one whose connection pool is less busy, taking into account
+     * the number of connections in use, the size of the wait queue and the average round trip time.  This is mostly useful when
+     * connecting to several mongos routers.
+     * <p/>
+     * Default is false.
+     *
+     * @return whether load-aware server selection is enabled
+     * @see com.mongodb.connection.ClusterSettings#isLoadAwareServerSelectionEnabled()
+     * @since 3.0
+     */
+    public boolean isLoadAwareServerSelectionEnabled() {
+        return loadAwareServerSelectionEnabled;
+    }
+
+    /**
+     * Gets whether the client registers a JMX MBean for the latency of each command on each server.  Recording the latencies adds a little
+     * work to every command, so it is off unless enabled.
+     * <p/>
+     * Default is false.
+     *
+     * @return whether the command latency MBeans are enabled
+     * @see com.mongodb.management.JMXCommandListener
+     * @since 3.0
+     */
+    public boolean isCommandLatencyMBeansEnabled() {
+        return commandLatencyMBeansEnabled;
+    }
+
+    /**
+     * Gets the listeners to notify of each command executed by the client.
+     * <p/>
+     * Default is an empty list.
+     *
+     * @return the command listeners
+     * @see com.mongodb.event.CommandListener
+     * @since 3.0
+     */
+    public List<CommandListener> getCommandListeners() {
+        return commandListeners;
+    }
+
 
     ConnectionPoolSettings getConnectionPoolSettings() {
         return connectionPoolSettings;
@@ -472,6 +528,15 @@ public class MongoClientOptions {
         if (cursorFinalizerEnabled != that.cursorFinalizerEnabled) {
             return false;
         }
+        if (loadAwareServerSelectionEnabled != that.loadAwareServerSelectionEnabled) {
+            return false;
+        }
+        if (commandLatencyMBeansEnabled != that.commandLatencyMBeansEnabled) {
+            return false;
+        }
+        if (!commandListeners.equals(that.commandListeners)) {
+            return false;
+        }
         if (heartbeatConnectRetryFrequency != that.heartbeatConnectRetryFrequency) {
             return false;
         }
@@ -569,6 +634,9 @@ public class MongoClientOptions {
         result = 31 * result + (dbEncoderFactory != null ? dbEncoderFactory.hashCode() : 0);
         result = 31 * result + (socketFactory != null ? socketFactory.hashCode() : 0);
         result = 31 * result + (cursorFinalizerEnabled ? 1 : 0);
+        result = 31 * result + (loadAwareServerSelectionEnabled ? 1 : 0);
+        result = 31 * result + (commandLatencyMBeansEnabled ? 1 : 0);
+        result = 31 * result + commandListeners.hashCode();
         return result;
     }
 
@@ -600,6 +668,9 @@ public class MongoClientOptions {
                + ", dbEncoderFactory=" + dbEncoderFactory
                + ", socketFactory=" + socketFactory
                + ", cursorFinalizerEnabled=" + cursorFinalizerEnabled
+               + ", loadAwareServerSelectionEnabled=" + loadAwareServerSelectionEnabled
+               + ", commandLatencyMBeansEnabled=" + commandLatencyMBeansEnabled
+               + ", commandListeners=" + commandListeners
                + ", connectionPoolSettings=" + connectionPoolSettings
                + ", socketSettings=" + socketSettings
                + ", serverSettings=" + serverSettings
@@ -641,6 +712,9 @@ public class MongoClientOptions {
         private DBEncoderFactory dbEncoderFactory = DefaultDBEncoder.FACTORY;
         private SocketFactory socketFactory = SocketFactory.getDefault();
         private boolean cursorFinalizerEnabled = true;
+        private boolean loadAwareServerSelectionEnabled;
+        private boolean commandLatencyMBeansEnabled;
+        private final List<CommandListener> commandListeners = new ArrayList<CommandListener>();
 
         public Builder() {
             heartbeatFrequency(Integer.parseInt(System.getProperty("com.mongodb.updaterIntervalMS", "5000")));
@@ -851,6 +925,48 @@ public class MongoClientOptions {
             return this;
         }
 
+        /**
+         * Sets whether load-aware server selection is enabled.
+         *
+         * @param loadAwareServerSelectionEnabled whether load-aware server selection is enabled
+         * @return {@code this}
+         * @see MongoClientOptions#isLoadAwareServerSelectionEnabled()
+         * @since 3.0
+         */
+        public Builder loadAwareServerSelectionEnabled(final boolean loadAwareServerSelectionEnabled) {
+            this.loadAwareServerSelectionEnabled = loadAwareServerSelectionEnabled;
+            return this;
+        }
+
+        /**
+         * Sets whether the client registers a JMX MBean for the latency of each command on each server.
+         *
+         * @param commandLatencyMBeansEnabled whether the command latency MBeans are enabled
+         * @return {@code this}
+         * @see MongoClientOptions#isCommandLatencyMBeansEnabled()
+         * @since 3.0
+         */
+        public Builder commandLatencyMBeansEnabled(final boolean commandLatencyMBeansEnabled) {
+            this.commandLatencyMBeansEnabled = commandLatencyMBeansEnabled;
+            return this;
+        }
+
+        /**
+         * Adds a listener to notify of each command executed by the client.
+         *
+         * @param commandListener the command listener
+         * @return {@code this}
+         * @see MongoClientOptions#getCommandListeners()
+         * @since 3.0
+         */
+        public Builder addCommandListener(final CommandListener commandListener) {
+            if (commandListener == null) {
+                throw new IllegalArgumentException("null is not a legal value");
+            }
+            commandListeners.add(commandListener);
+            return this;
+        }
+
         /**
          * Sets whether JMX beans registered by the driver should always be MBeans, regardless of whether the VM is Java 6 or greater. If
          * false, the driver will use MXBeans if the VM is Java 6 or greater, and use MBeans if the VM is Java 5.
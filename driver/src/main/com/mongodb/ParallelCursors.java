@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb;
+
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Consumes a list of cursors, such as those returned by {@link DBCollection#parallelScan(ParallelScanOptions)}, concurrently. Each
+ * cursor is drained by its own task on a caller-supplied executor, so the size of the executor bounds the number of cursors, and
+ * therefore connections, in use at once. The first failure of any cursor stops all the others, and every cursor is closed before the
+ * failure is reported.
+ *
+ * @since 3.0
+ */
+@ThreadSafe
+public final class ParallelCursors {
+    private static final long OFFER_INTERVAL_MS = 100;
+
+    /**
+     * Applies the block to every document from every cursor, returning once all the cursors are exhausted. The block is called
+     * concurrently from the executor's threads.
+     *
+     * @param cursors  the cursors to drain, which are all closed by the time this method returns
+     * @param executor the executor used to drain the cursors
+     * @param block    the block to apply to each document
+     * @throws MongoInterruptedException if the calling thread is interrupted while waiting for the cursors
+     * @throws RuntimeException the first exception thrown by a cursor or the block
+     */
+    public static void forEach(final List<Cursor> cursors, final ExecutorService executor, final Block<? super DBObject> block) {
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        List<Future<?>> futures = new ArrayList<Future<?>>(cursors.size());
+        for (final Cursor cursor : cursors) {
+            try {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            while (failure.get() == null && cursor.hasNext()) {
+                                block.apply(cursor.next());
+                            }
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                        } finally {
+                            cursor.close();
+                        }
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    failure.compareAndSet(null, e);
+                } catch (ExecutionException e) {
+                    failure.compareAndSet(null, e.getCause());
+                    break;
+                }
+            }
+        }
+
+        closeAll(cursors);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure.get() != null) {
+            throw translate(failure.get());
+        }
+    }
+
+    /**
+     * Merges the cursors into a single cursor, which is fed by tasks that drain the cursors concurrently on the executor into a bounded
+     * buffer. Closing the returned cursor stops the tasks, which then close the cursors they drain. The documents of different cursors
+     * are interleaved in no particular order.
+     *
+     * @param cursors              the cursors to merge
+     * @param executor             the executor used to drain the cursors
+     * @param maxBufferedDocuments the maximum number of documents buffered ahead of the consumer
+     * @return the merged cursor, whose cursor id is 0 and whose server address is that of the first cursor
+     */
+    public static Cursor merge(final List<Cursor> cursors, final ExecutorService executor, final int maxBufferedDocuments) {
+        if (maxBufferedDocuments <= 0) {
+            throw new IllegalArgumentException("maxBufferedDocuments must be greater than 0");
+        }
+        MergedCursor mergedCursor = new MergedCursor(cursors, maxBufferedDocuments);
+        mergedCursor.start(executor);
+        return mergedCursor;
+    }
+
+    private static void closeAll(final List<Cursor> cursors) {
+        for (Cursor cursor : cursors) {
+            cursor.close();
+        }
+    }
+
+    private static RuntimeException translate(final Throwable t) {
+        if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        } else if (t instanceof InterruptedException) {
+            return new MongoInterruptedException("Interrupted while waiting for the parallel cursors", (InterruptedException) t);
+        } else {
+            return new MongoException("Exception draining the parallel cursors", t);
+        }
+    }
+
+    private ParallelCursors() {
+    }
+
+    @NotThreadSafe
+    private static final class MergedCursor implements Cursor {
+        private static final Object END = new Object();
+
+        private final List<Cursor> cursors;
+        private final ServerAddress serverAddress;
+        private final BlockingQueue<Object> queue;
+        private final AtomicInteger remaining;
+        private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        private volatile boolean closed;
+        private Object next;
+        private boolean exhausted;
+
+        MergedCursor(final List<Cursor> cursors, final int maxBufferedDocuments) {
+            this.cursors = cursors;
+            this.serverAddress = cursors.isEmpty() ? null : cursors.get(0).getServerAddress();
+            this.queue = new ArrayBlockingQueue<Object>(maxBufferedDocuments);
+            this.remaining = new AtomicInteger(cursors.size());
+            if (cursors.isEmpty()) {
+                exhausted = true;
+            }
+        }
+
+        void start(final ExecutorService executor) {
+            for (final Cursor cursor : cursors) {
+                try {
+                    executor.submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            drain(cursor);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    failure.compareAndSet(null, e);
+                    cursor.close();
+                    onCursorDone();
+                }
+            }
+        }
+
+        @Override
+        public long getCursorId() {
+            return 0;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return serverAddress;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            queue.clear();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (next == null && !exhausted) {
+                next = take();
+                if (next == null || next == END) {
+                    next = null;
+                    exhausted = true;
+                }
+            }
+            if (failure.get() != null) {
+                close();
+                throw translate(failure.get());
+            }
+            return next != null;
+        }
+
+        @Override
+        public DBObject next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            DBObject document = (DBObject) next;
+            next = null;
+            return document;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+
+        private void drain(final Cursor cursor) {
+            try {
+                while (!closed && failure.get() == null && cursor.hasNext()) {
+                    if (!offer(cursor.next())) {
+                        break;
+                    }
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                cursor.close();
+                onCursorDone();
+            }
+        }
+
+        // returns null once every cursor is done and the queue has been drained, or when a cursor has failed
+        private Object take() {
+            try {
+                while (true) {
+                    Object item = queue.poll(OFFER_INTERVAL_MS, MILLISECONDS);
+                    if (item != null) {
+                        return item;
+                    }
+                    if (failure.get() != null) {
+                        return null;
+                    }
+                    if (remaining.get() == 0) {
+                        return queue.poll();
+                    }
+                }
+            } catch (InterruptedException e) {
+                throw new MongoInterruptedException("Interrupted while waiting for the next document", e);
+            }
+        }
+
+        // the end marker only wakes up a waiting consumer, so it must never block: this may run on the thread that calls merge, whose
+        // caller is not yet consuming, and the consumer notices that every cursor is done without it anyway
+        private void onCursorDone() {
+            if (remaining.decrementAndGet() == 0) {
+                queue.offer(END);
+            }
+        }
+
+        private boolean offer(final Object item) {
+            try {
+                while (!closed) {
+                    if (queue.offer(item, OFFER_INTERVAL_MS, MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                failure.compareAndSet(null, e);
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.mongodb.gridfs;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
 import com.mongodb.MongoException;
 
@@ -25,6 +26,12 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class enables to retrieve a GridFS file metadata and content. Operations include: - writing data to a file on disk or an
@@ -33,15 +40,48 @@ import java.io.OutputStream;
  * @author antoine
  */
 public class GridFSDBFile extends GridFSFile {
-
+    /**
+     * The number of chunks requested from the server in each batch, unless specified otherwise.
+     */
+    public static final int DEFAULT_CHUNK_BATCH_SIZE = 16;
 
     /**
-     * Returns an InputStream from which data can be read.
+     * Returns an InputStream from which data can be read.  The chunks are read in order through a single cursor, in batches of {@link
+     * #DEFAULT_CHUNK_BATCH_SIZE}.  The stream holds the cursor open on the server until it has read the last chunk or is closed, so it
+     * should be closed when it is no longer needed.  The cursor of a stream that is abandoned is only killed once the stream has been
+     * garbage collected.
      *
      * @return the input stream
      */
     public InputStream getInputStream() {
-        return new GridFSInputStream();
+        return new GridFSInputStream(DEFAULT_CHUNK_BATCH_SIZE, 0, null);
+    }
+
+    /**
+     * Returns an InputStream from which data can be read, that reads the chunks in order through a single cursor in batches of the given
+     * size.  If {@code readAheadChunks} is positive, the chunks are read on the given executor while the caller consumes the ones already
+     * read, up to {@code readAheadChunks} chunks ahead, so that reading from the server overlaps with processing the data.  The stream
+     * holds the cursor open on the server until it has read the last chunk or is closed, so it should be closed when it is no longer
+     * needed.  A read ahead task whose stream is abandoned stops, and closes its cursor, once the stream has been garbage collected.
+     *
+     * @param chunkBatchSize  the number of chunks to request from the server in each batch
+     * @param readAheadChunks the maximum number of chunks to read ahead of the caller, or 0 to read chunks only when they are needed
+     * @param executor        the executor to read ahead on, which may be null if {@code readAheadChunks} is 0
+     * @return the input stream
+     * @throws IllegalArgumentException if {@code chunkBatchSize} is not positive, {@code readAheadChunks} is negative, or
+     *                                  {@code readAheadChunks} is positive and the executor is null
+     */
+    public InputStream getInputStream(final int chunkBatchSize, final int readAheadChunks, final ExecutorService executor) {
+        if (chunkBatchSize <= 0) {
+            throw new IllegalArgumentException("chunkBatchSize must be greater than 0");
+        }
+        if (readAheadChunks < 0) {
+            throw new IllegalArgumentException("readAheadChunks can not be negative");
+        }
+        if (readAheadChunks > 0 && executor == null) {
+            throw new IllegalArgumentException("an executor is required to read ahead");
+        }
+        return new GridFSInputStream(chunkBatchSize, readAheadChunks, executor);
     }
 
     /**
@@ -86,43 +126,220 @@ public class GridFSDBFile extends GridFSFile {
      * @throws MongoException
      */
     public long writeTo(final OutputStream out) throws IOException {
-        int nc = numChunks();
-        for (int i = 0; i < nc; i++) {
-            out.write(getChunk(i));
+        return writeTo(out, 0, length);
+    }
+
+    /**
+     * Writes a range of the file's data to an OutputStream.  Only the chunks that contain the range are read from the server.
+     *
+     * @param out           the OutputStream
+     * @param offset        the offset in the file of the first byte to write
+     * @param numberOfBytes the maximum number of bytes to write
+     * @return number of bytes written, which is less than {@code numberOfBytes} if the range extends past the end of the file
+     * @throws IOException
+     * @throws MongoException
+     */
+    public long writeTo(final OutputStream out, final long offset, final long numberOfBytes) throws IOException {
+        if (offset < 0 || numberOfBytes < 0) {
+            throw new IllegalArgumentException("offset and numberOfBytes can not be negative");
+        }
+        GridFSInputStream in = new GridFSInputStream(DEFAULT_CHUNK_BATCH_SIZE, 0, null);
+        try {
+            in.skip(offset);
+            long bytesWritten = 0;
+            while (bytesWritten < numberOfBytes) {
+                byte[] chunk = in.nextChunkRemainder();
+                if (chunk == null) {
+                    break;
+                }
+                int bytesToWrite = (int) Math.min(numberOfBytes - bytesWritten, chunk.length - in.offset);
+                out.write(chunk, in.offset, bytesToWrite);
+                in.offset += bytesToWrite;
+                bytesWritten += bytesToWrite;
+            }
+            return bytesWritten;
+        } finally {
+            in.close();
         }
-        return length;
     }
 
-    private byte[] getChunk(final int i) {
+    /**
+     * Removes file from GridFS i.e. removes documents from files and chunks collections.
+     */
+    void remove() {
+        fs.getFilesCollection().remove(new BasicDBObject("_id", id));
+        fs.getChunksCollection().remove(new BasicDBObject("files_id", id));
+    }
+
+    private DBCursor findChunks(final int firstChunk, final int chunkBatchSize) {
         if (fs == null) {
             throw new IllegalStateException("No GridFS instance defined!");
         }
+        return fs.getChunksCollection().find(new BasicDBObject("files_id", id).append("n", new BasicDBObject("$gte", firstChunk)))
+                 .sort(new BasicDBObject("n", 1))
+                 .batchSize(chunkBatchSize);
+    }
 
-        DBObject chunk = fs.getChunksCollection().findOne(new BasicDBObject("files_id", id).append("n", i));
-        if (chunk == null) {
-            throw new MongoException("Can't find a chunk!  file id: " + id + " chunk: " + i);
+    private byte[] getChunkData(final DBObject chunk, final int expectedChunk) {
+        Object n = chunk == null ? null : chunk.get("n");
+        if (!(n instanceof Number) || ((Number) n).intValue() != expectedChunk) {
+            throw new MongoException("Can't find a chunk!  file id: " + id + " chunk: " + expectedChunk);
         }
-
         return (byte[]) chunk.get("data");
     }
 
     /**
-     * Removes file from GridFS i.e. removes documents from files and chunks collections.
+     * The chunks of the file from a given chunk onwards, in order.
      */
-    void remove() {
-        fs.getFilesCollection().remove(new BasicDBObject("_id", id));
-        fs.getChunksCollection().remove(new BasicDBObject("files_id", id));
+    private interface ChunkSource {
+        byte[] next(int expectedChunk);
+
+        void close();
+    }
+
+    private class CursorChunkSource implements ChunkSource {
+        private final DBCursor cursor;
+
+        CursorChunkSource(final int firstChunk, final int chunkBatchSize) {
+            cursor = findChunks(firstChunk, chunkBatchSize);
+        }
+
+        @Override
+        public byte[] next(final int expectedChunk) {
+            return getChunkData(cursor.hasNext() ? cursor.next() : null, expectedChunk);
+        }
+
+        @Override
+        public void close() {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Takes the chunks read ahead by a {@code ReadAheadTask}.
+     */
+    private class ReadAheadChunkSource implements ChunkSource {
+        private final ReadAheadTask task;
+        private final Future<?> future;
+        private RuntimeException failure;
+
+        ReadAheadChunkSource(final int firstChunk, final int lastChunk, final int chunkBatchSize, final int readAheadChunks,
+                             final ExecutorService executor) {
+            this.task = new ReadAheadTask(firstChunk, lastChunk, chunkBatchSize, readAheadChunks, this);
+            this.future = executor.submit(task);
+        }
+
+        @Override
+        public byte[] next(final int expectedChunk) {
+            // the task puts nothing more on the queue after a failure, so keep failing rather than waiting forever
+            if (failure != null) {
+                throw failure;
+            }
+            Object next;
+            try {
+                next = task.chunks.take();
+            } catch (InterruptedException e) {
+                throw new MongoException("Interrupted while waiting for chunk " + expectedChunk + " of file " + id, e);
+            }
+            if (next instanceof RuntimeException) {
+                failure = (RuntimeException) next;
+                throw failure;
+            }
+            return (byte[]) next;
+        }
+
+        // the task polls the closed flag rather than being interrupted, since an interrupt during socket I/O would close the connection
+        @Override
+        public void close() {
+            task.closed = true;
+            future.cancel(false);
+            task.chunks.clear();
+        }
+    }
+
+    /**
+     * Iterates the cursor on an executor, staying up to a fixed number of chunks ahead of the consumer.  The task only holds a weak
+     * reference to its chunk source, so that it stops, and closes the cursor, if the stream is abandoned without being closed.
+     */
+    private class ReadAheadTask implements Runnable {
+        private final int firstChunk;
+        private final int lastChunk;
+        private final int chunkBatchSize;
+        private final BlockingQueue<Object> chunks;
+        private final WeakReference<ReadAheadChunkSource> chunkSource;
+        private volatile boolean closed;
+
+        ReadAheadTask(final int firstChunk, final int lastChunk, final int chunkBatchSize, final int readAheadChunks,
+                      final ReadAheadChunkSource chunkSource) {
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+            this.chunkBatchSize = chunkBatchSize;
+            this.chunks = new ArrayBlockingQueue<Object>(readAheadChunks);
+            this.chunkSource = new WeakReference<ReadAheadChunkSource>(chunkSource);
+        }
+
+        @Override
+        public void run() {
+            DBCursor cursor = null;
+            int i = firstChunk;
+            RuntimeException failure = null;
+            try {
+                cursor = findChunks(firstChunk, chunkBatchSize);
+                for (; i <= lastChunk && isOpen(); i++) {
+                    if (!put(getChunkData(cursor.hasNext() ? cursor.next() : null, i))) {
+                        return;
+                    }
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                // whatever stopped the task, including an Error, the consumer must not be left waiting for a chunk that never comes
+                try {
+                    if (cursor != null) {
+                        cursor.close();
+                    }
+                } finally {
+                    if (i <= lastChunk) {
+                        put(failure != null ? failure : new MongoException("Failed to read ahead chunk " + i + " of file " + id));
+                    }
+                }
+            }
+        }
+
+        private boolean isOpen() {
+            return !closed && chunkSource.get() != null;
+        }
+
+        private boolean put(final Object chunkOrException) {
+            try {
+                while (isOpen()) {
+                    if (chunks.offer(chunkOrException, 100, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                // the executor is shutting down
+            }
+            return false;
+        }
     }
 
     private class GridFSInputStream extends InputStream {
 
         private final int numberOfChunks;
+        private final int chunkBatchSize;
+        private final int readAheadChunks;
+        private final ExecutorService executor;
+        private ChunkSource chunkSource;
         private int currentChunkId = -1;
         private int offset = 0;
         private byte[] buffer = null;
 
-        GridFSInputStream() {
+        GridFSInputStream(final int chunkBatchSize, final int readAheadChunks, final ExecutorService executor) {
             this.numberOfChunks = numChunks();
+            this.chunkBatchSize = chunkBatchSize;
+            this.readAheadChunks = readAheadChunks;
+            this.executor = executor;
         }
 
         @Override
@@ -150,14 +367,8 @@ public class GridFSDBFile extends GridFSFile {
 
         @Override
         public int read(final byte[] b, final int off, final int len) {
-
-            if (buffer == null || offset >= buffer.length) {
-                if (currentChunkId + 1 >= numberOfChunks) {
-                    return -1;
-                }
-
-                buffer = getChunk(++currentChunkId);
-                offset = 0;
+            if (nextChunkRemainder() == null) {
+                return -1;
             }
 
             int r = Math.min(len, buffer.length - offset);
@@ -167,7 +378,7 @@ public class GridFSDBFile extends GridFSFile {
         }
 
         /**
-         * Will smartly skips over chunks without fetching them if possible.
+         * Will smartly skips over chunks without fetching them if possible, by starting a new cursor at the chunk skipped to.
          */
         @Override
         public long skip(final long bytesToSkip) throws IOException {
@@ -187,6 +398,7 @@ public class GridFSDBFile extends GridFSFile {
                 offsetInFile = currentChunkId * chunkSize + offset;
             }
             if (bytesToSkip + offsetInFile >= length) {
+                closeChunkSource();
                 currentChunkId = numberOfChunks;
                 buffer = null;
                 return length - offsetInFile;
@@ -195,11 +407,60 @@ public class GridFSDBFile extends GridFSFile {
             int temp = currentChunkId;
             currentChunkId = (int) ((bytesToSkip + offsetInFile) / chunkSize);
             if (temp != currentChunkId) {
-                buffer = getChunk(currentChunkId);
+                closeChunkSource();
+                openChunkSource(currentChunkId);
+                buffer = readChunk(currentChunkId);
             }
             offset = (int) ((bytesToSkip + offsetInFile) % chunkSize);
 
             return bytesToSkip;
         }
+
+        @Override
+        public void close() {
+            closeChunkSource();
+        }
+
+        // returns the current chunk if it has bytes remaining, otherwise moves to the next chunk, or returns null at the end of the file
+        byte[] nextChunkRemainder() {
+            if (buffer == null || offset >= buffer.length) {
+                if (currentChunkId + 1 >= numberOfChunks) {
+                    closeChunkSource();
+                    return null;
+                }
+
+                currentChunkId++;
+                if (chunkSource == null) {
+                    openChunkSource(currentChunkId);
+                }
+                buffer = readChunk(currentChunkId);
+                offset = 0;
+            }
+            return buffer;
+        }
+
+        private byte[] readChunk(final int chunkId) {
+            byte[] chunk = chunkSource.next(chunkId);
+            if (chunkId == numberOfChunks - 1) {
+                // nothing more will be read, so release the cursor now rather than when the stream is closed
+                closeChunkSource();
+            }
+            return chunk;
+        }
+
+        private void openChunkSource(final int firstChunk) {
+            if (readAheadChunks > 0) {
+                chunkSource = new ReadAheadChunkSource(firstChunk, numberOfChunks - 1, chunkBatchSize, readAheadChunks, executor);
+            } else {
+                chunkSource = new CursorChunkSource(firstChunk, chunkBatchSize);
+            }
+        }
+
+        private void closeChunkSource() {
+            if (chunkSource != null) {
+                chunkSource.close();
+                chunkSource = null;
+            }
+        }
     }
 }
@@ -18,6 +18,7 @@ package com.mongodb.gridfs;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import com.mongodb.InsertOptions;
 import com.mongodb.MongoException;
 import com.mongodb.util.Util;
 import org.bson.types.ObjectId;
@@ -27,7 +28,15 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * This class represents a GridFS file to be written to the database Operations include: - writing data obtained from an InputStream -
@@ -224,6 +233,101 @@ public class GridFSInputFile extends GridFSFile {
         return currentChunkNumber;
     }
 
+    /**
+     * Saves the file, first saving its chunks with {@link #saveChunks(long, int, int, java.util.concurrent.ExecutorService)} if the file
+     * data has not been saved yet.
+     *
+     * @param chunkSize          Size of chunks for file in bytes.
+     * @param chunksPerBatch     the number of chunks to send in each bulk insert
+     * @param maxBatchesInFlight the maximum number of batches being inserted at the same time
+     * @param executor           the executor to insert the batches on
+     * @throws MongoException
+     */
+    public void save(final long chunkSize, final int chunksPerBatch, final int maxBatchesInFlight, final ExecutorService executor) {
+        if (outputStream != null) {
+            throw new MongoException("cannot mix OutputStream and regular save()");
+        }
+
+        if (!savedChunks) {
+            try {
+                saveChunks(chunkSize, chunksPerBatch, maxBatchesInFlight, executor);
+            } catch (IOException ioe) {
+                throw new MongoException("couldn't save chunks", ioe);
+            }
+        }
+
+        super.save();
+    }
+
+    /**
+     * Saves all data into chunks from configured {@link java.io.InputStream} input stream to GridFS, using unordered bulk inserts of
+     * {@code chunksPerBatch} chunks each.  The batches are inserted on the given executor while the calling thread reads the next batch
+     * from the stream, with at most {@code maxBatchesInFlight} batches held in memory at any time.  The MD5 digest is computed from the
+     * batches in order on the executor threads as well.  This method does NOT save the file object itself, one must call save() to do so.
+     *
+     * @param chunkSize          Size of chunks for file in bytes.
+     * @param chunksPerBatch     the number of chunks to send in each bulk insert
+     * @param maxBatchesInFlight the maximum number of batches being inserted at the same time
+     * @param executor           the executor to insert the batches on
+     * @return Number of the next chunk.
+     * @throws IOException    on problems reading the new entry's {@link java.io.InputStream}.
+     * @throws MongoException if any of the batches could not be inserted
+     */
+    public int saveChunks(final long chunkSize, final int chunksPerBatch, final int maxBatchesInFlight, final ExecutorService executor)
+        throws IOException {
+        if (outputStream != null) {
+            throw new MongoException("Cannot mix OutputStream and regular save()");
+        }
+        if (savedChunks) {
+            throw new MongoException("Chunks already saved!");
+        }
+        if (chunkSize <= 0) {
+            throw new MongoException("chunkSize must be greater than zero");
+        }
+        if (chunksPerBatch <= 0) {
+            throw new IllegalArgumentException("chunksPerBatch must be greater than zero");
+        }
+        if (maxBatchesInFlight <= 0) {
+            throw new IllegalArgumentException("maxBatchesInFlight must be greater than zero");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor can not be null");
+        }
+
+        this.chunkSize = chunkSize;
+        ChunkBatchUploader uploader = new ChunkBatchUploader(maxBatchesInFlight, executor);
+        try {
+            List<DBObject> batch = new ArrayList<DBObject>(chunksPerBatch);
+            int bytesRead = 0;
+            while (bytesRead >= 0) {
+                buffer = new byte[(int) chunkSize];
+                currentBufferPosition = 0;
+                bytesRead = _readStream2Buffer();
+                if (currentBufferPosition > 0) {
+                    byte[] data = buffer;
+                    if (currentBufferPosition != chunkSize) {
+                        data = new byte[currentBufferPosition];
+                        System.arraycopy(buffer, 0, data, 0, currentBufferPosition);
+                    }
+                    batch.add(createChunk(id, currentChunkNumber++, data));
+                    totalBytes += data.length;
+                }
+                if (batch.size() == chunksPerBatch || (bytesRead < 0 && !batch.isEmpty())) {
+                    uploader.submit(batch);
+                    batch = new ArrayList<DBObject>(chunksPerBatch);
+                }
+            }
+            uploader.awaitCompletion();
+        } finally {
+            buffer = new byte[(int) chunkSize];
+            currentBufferPosition = 0;
+            uploader.close();
+        }
+
+        finishData();
+        return currentChunkNumber;
+    }
+
     /**
      * After retrieving this {@link java.io.OutputStream}, this object will be capable of accepting successively written data to the output
      * stream. To completely persist this GridFS object, you must finally call the {@link java.io.OutputStream#close()} method on the output
@@ -315,6 +419,112 @@ public class GridFSInputFile extends GridFSFile {
         }
     }
 
+    /**
+     * Inserts batches of chunks on an executor, and feeds their data to the message digest in the order the batches were submitted.  A
+     * permit is held for each batch from submission until it has been both inserted and digested, which bounds the memory used.
+     */
+    private class ChunkBatchUploader {
+        private final ExecutorService executor;
+        private final Semaphore permits;
+        private final int maxBatchesInFlight;
+        private final Map<Integer, List<DBObject>> batchesToDigest = new HashMap<Integer, List<DBObject>>();
+        private final List<Future<?>> futures = new ArrayList<Future<?>>();
+        private volatile MongoException failure;
+        private int nextBatchToSubmit;
+        private int nextBatchToDigest;
+
+        ChunkBatchUploader(final int maxBatchesInFlight, final ExecutorService executor) {
+            this.executor = executor;
+            this.maxBatchesInFlight = maxBatchesInFlight;
+            this.permits = new Semaphore(maxBatchesInFlight);
+        }
+
+        void submit(final List<DBObject> batch) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                throw new MongoException("Interrupted while waiting to insert chunks of file " + id, e);
+            }
+            throwIfFailed();
+            final int batchNumber = nextBatchToSubmit++;
+            try {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            fs.getChunksCollection().insert(batch, new InsertOptions().continueOnError(true));
+                        } catch (MongoException e) {
+                            fail(e);
+                        } catch (RuntimeException e) {
+                            fail(new MongoException("couldn't save chunks", e));
+                        } finally {
+                            digest(batchNumber, batch);
+                        }
+                    }
+                }));
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            removeCompletedFutures();
+        }
+
+        void awaitCompletion() {
+            try {
+                permits.acquire(maxBatchesInFlight);
+                permits.release(maxBatchesInFlight);
+            } catch (InterruptedException e) {
+                throw new MongoException("Interrupted while waiting to insert chunks of file " + id, e);
+            }
+            throwIfFailed();
+        }
+
+        void close() {
+            for (Future<?> future : futures) {
+                future.cancel(false);
+            }
+        }
+
+        private void digest(final int batchNumber, final List<DBObject> batch) {
+            int digested = 0;
+            synchronized (this) {
+                batchesToDigest.put(batchNumber, batch);
+                List<DBObject> next;
+                while ((next = batchesToDigest.remove(nextBatchToDigest)) != null) {
+                    if (failure == null) {
+                        for (DBObject chunk : next) {
+                            messageDigester.update((byte[]) chunk.get("data"));
+                        }
+                    }
+                    nextBatchToDigest++;
+                    digested++;
+                }
+            }
+            permits.release(digested);
+        }
+
+        private synchronized void fail(final MongoException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+
+        private void throwIfFailed() {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void removeCompletedFutures() {
+            Iterator<Future<?>> iterator = futures.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isDone()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
     /**
      * An output stream implementation that can be used to successively write to a GridFS file.
      *
@@ -47,7 +47,7 @@ public class LazyBSONList extends LazyBSONObject implements List {
 
     @Override
     public int size() {
-        return keySet().size();
+        return getFieldCount();
     }
 
     @Override
@@ -49,6 +49,7 @@ public class LazyBSONObject implements BSONObject {
     private final byte[] bytes;
     private final int offset;
     private final LazyBSONCallback callback;
+    private FieldIndex fieldIndex;
 
 
     public LazyBSONObject(final byte[] bytes, final LazyBSONCallback callback) {
@@ -79,23 +80,22 @@ public class LazyBSONObject implements BSONObject {
 
     @Override
     public Object get(final String key) {
-        BsonBinaryReader reader = getBsonReader();
-        Object value;
+        FieldIndex index = getFieldIndex();
+        int fieldPosition = index.indexOf(key);
+        if (fieldPosition == -1) {
+            return null;
+        }
+        ByteBuf buffer = new ByteBufNIO(getBufferForInternalBytes());
+        BsonBinaryReader reader = new BsonBinaryReader(new BasicInputBuffer(buffer), true);
         try {
             reader.readStartDocument();
-            value = null;
-            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (key.equals(reader.readName())) {
-                    value = readValue(reader);
-                    break;
-                } else {
-                    reader.skipValue();
-                }
-            }
+            buffer.position(index.elementOffsets[fieldPosition]);
+            reader.readBsonType();
+            reader.skipName();
+            return readValue(reader);
         } finally {
             reader.close();
         }
-        return value;
     }
 
     @Override
@@ -106,43 +106,34 @@ public class LazyBSONObject implements BSONObject {
 
     @Override
     public boolean containsField(final String s) {
-        BsonBinaryReader reader = getBsonReader();
-        try {
-            reader.readStartDocument();
-            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (reader.readName().equals(s)) {
-                    return true;
-                } else {
-                    reader.skipValue();
-                }
-            }
-        } finally {
-            reader.close();
-        }
-        return false;
+        return getFieldIndex().indexOf(s) != -1;
     }
 
     @Override
     public Set<String> keySet() {
+        FieldIndex index = getFieldIndex();
         Set<String> keys = new LinkedHashSet<String>();
-        BsonBinaryReader reader = getBsonReader();
-        try {
-            reader.readStartDocument();
-            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                keys.add(reader.readName());
-                reader.skipValue();
-            }
-            reader.readEndDocument();
-        } finally {
-            reader.close();
+        for (int i = 0; i < index.names.length; i++) {
+            keys.add(index.names[i]);
         }
         return Collections.unmodifiableSet(keys);
     }
 
+    /**
+     * Gets the number of fields in this document.
+     *
+     * @return the number of fields
+     */
+    int getFieldCount() {
+        return getFieldIndex().names.length;
+    }
+
     Object readValue(final BsonBinaryReader reader) {
         switch (reader.getCurrentBsonType()) {
             case DOCUMENT:
-                return readDocument(reader);
+                int position = reader.getBuffer().getPosition();
+                reader.skipValue();
+                return callback.createObject(bytes, offset + position);
             case ARRAY:
                 return readArray(reader);
             case DOUBLE:
@@ -219,6 +210,43 @@ public class LazyBSONObject implements BSONObject {
         return callback.createObject(bytes, offset + position);
     }
 
+    // gets the index of the fields of this document, building it on first use.  The index is immutable, so if two threads race to build
+    // it, each just uses the one it built
+    private FieldIndex getFieldIndex() {
+        FieldIndex index = fieldIndex;
+        if (index == null) {
+            index = buildFieldIndex();
+            fieldIndex = index;
+        }
+        return index;
+    }
+
+    private FieldIndex buildFieldIndex() {
+        String[] names = new String[16];
+        int[] elementOffsets = new int[16];
+        int count = 0;
+        BsonBinaryReader reader = getBsonReader();
+        try {
+            reader.readStartDocument();
+            int elementOffset = reader.getBuffer().getPosition();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (count == names.length) {
+                    names = Arrays.copyOf(names, count * 2);
+                    elementOffsets = Arrays.copyOf(elementOffsets, count * 2);
+                }
+                names[count] = reader.readName();
+                elementOffsets[count] = elementOffset;
+                count++;
+                reader.skipValue();
+                elementOffset = reader.getBuffer().getPosition();
+            }
+            reader.readEndDocument();
+        } finally {
+            reader.close();
+        }
+        return new FieldIndex(Arrays.copyOf(names, count), Arrays.copyOf(elementOffsets, count));
+    }
+
     BsonBinaryReader getBsonReader() {
         ByteBuffer buffer = getBufferForInternalBytes();
         return new BsonBinaryReader(new BasicInputBuffer(new ByteBufNIO(buffer)), true);
@@ -233,7 +261,7 @@ public class LazyBSONObject implements BSONObject {
     }
 
     public boolean isEmpty() {
-        return keySet().size() == 0;
+        return getFieldCount() == 0;
     }
 
     public int getBSONSize() {
@@ -312,6 +340,46 @@ public class LazyBSONObject implements BSONObject {
     }
 
 
+    // The names of the fields of a document, in order, and the offset from the start of the document of each field's element, i.e. of its
+    // type byte.  Names are found through an open-addressing hash table of field positions, so a lookup neither decodes the document nor
+    // boxes anything.  If a name occurs more than once, the first field with that name is found.
+    private static final class FieldIndex {
+        private final String[] names;
+        private final int[] elementOffsets;
+        private final int[] table;  // holds the position of a field plus one, or zero for an empty slot
+
+        FieldIndex(final String[] names, final int[] elementOffsets) {
+            this.names = names;
+            this.elementOffsets = elementOffsets;
+            this.table = new int[Integer.highestOneBit(names.length * 2 + 1) << 1];
+            int mask = table.length - 1;
+            for (int i = 0; i < names.length; i++) {
+                int slot = hash(names[i]) & mask;
+                while (table[slot] != 0 && !names[table[slot] - 1].equals(names[i])) {
+                    slot = (slot + 1) & mask;
+                }
+                if (table[slot] == 0) {
+                    table[slot] = i + 1;
+                }
+            }
+        }
+
+        int indexOf(final String name) {
+            int mask = table.length - 1;
+            for (int slot = hash(name) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                if (names[table[slot] - 1].equals(name)) {
+                    return table[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        private static int hash(final String name) {
+            int h = name.hashCode();
+            return h ^ (h >>> 16);
+        }
+    }
+
     /* ----------------- Unsupported operations --------------------- */
 
     @Override
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the 'License');
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an 'AS IS' BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb
+
+import spock.lang.Specification
+
+class CursorReaperSpecification extends Specification {
+    def serverCursor = new ServerCursor(42, new ServerAddress())
+    def collection = Stub(DBCollection)
+    def reaper = new CursorReaper()
+
+    // enqueueing a reference directly stands in for the garbage collector finding the DBCursor unreachable
+    def 'should reap the server cursor of an unreachable cursor'() {
+        given:
+        def reference = reaper.register(newDBCursor(), new StubCursor(serverCursor))
+
+        when:
+        reference.enqueue()
+
+        then:
+        reaper.reap() == [serverCursor]
+        reaper.getRegisteredCount() == 0
+    }
+
+    def 'should not reap an unregistered cursor'() {
+        given:
+        def reference = reaper.register(newDBCursor(), new StubCursor(serverCursor))
+
+        when:
+        reaper.unregister(reference)
+        reference.enqueue()
+
+        then:
+        reaper.reap().isEmpty()
+        reaper.getRegisteredCount() == 0
+    }
+
+    def 'should not reap a cursor without a server cursor'() {
+        given:
+        def reference = reaper.register(newDBCursor(), new StubCursor(null))
+        def registeredCount = reaper.getRegisteredCount()
+
+        when:
+        reference.enqueue()
+
+        then:
+        reaper.reap().isEmpty()
+        registeredCount == 1
+        reaper.getRegisteredCount() == 0
+    }
+
+    private DBCursor newDBCursor() {
+        new DBCursor(collection, new BasicDBObject(), null, ReadPreference.primary())
+    }
+
+    static class StubCursor implements MongoCursor<DBObject> {
+        private final ServerCursor serverCursor
+
+        StubCursor(final ServerCursor serverCursor) {
+            this.serverCursor = serverCursor
+        }
+
+        @Override
+        void close() {
+        }
+
+        @Override
+        boolean hasNext() {
+            false
+        }
+
+        @Override
+        DBObject next() {
+            throw new NoSuchElementException()
+        }
+
+        @Override
+        void remove() {
+            throw new UnsupportedOperationException()
+        }
+
+        @Override
+        ServerCursor getServerCursor() {
+            serverCursor
+        }
+
+        @Override
+        ServerAddress getServerAddress() {
+            serverCursor?.getAddress()
+        }
+    }
+}
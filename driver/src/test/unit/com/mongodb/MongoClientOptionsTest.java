@@ -16,12 +16,15 @@
 
 package com.mongodb;
 
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandListenerAdapter;
 import org.junit.Assert;
 import org.junit.Test;
 
 import javax.net.SocketFactory;
 import javax.net.ssl.SSLSocketFactory;
 
+import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -51,6 +54,9 @@ public class MongoClientOptionsTest {
         assertEquals(0, options.getHeartbeatThreadCount());
         assertEquals(15, options.getAcceptableLatencyDifference());
         assertTrue(options.isCursorFinalizerEnabled());
+        assertFalse(options.isLoadAwareServerSelectionEnabled());
+        assertFalse(options.isCommandLatencyMBeansEnabled());
+        assertTrue(options.getCommandListeners().isEmpty());
     }
 
     @Test
@@ -134,6 +140,10 @@ public class MongoClientOptionsTest {
         builder.acceptableLatencyDifference(25);
         builder.requiredReplicaSetName("test");
         builder.cursorFinalizerEnabled(false);
+        CommandListener commandListener = new CommandListenerAdapter() { };
+        builder.addCommandListener(commandListener);
+        builder.loadAwareServerSelectionEnabled(true);
+        builder.commandLatencyMBeansEnabled(true);
 
         DBEncoderFactory encoderFactory = new MyDBEncoderFactory();
         builder.dbEncoderFactory(encoderFactory);
@@ -162,6 +172,9 @@ public class MongoClientOptionsTest {
         assertEquals(25, options.getAcceptableLatencyDifference());
         assertEquals("test", options.getRequiredReplicaSetName());
         assertFalse(options.isCursorFinalizerEnabled());
+        assertEquals(asList(commandListener), options.getCommandListeners());
+        assertTrue(options.isLoadAwareServerSelectionEnabled());
+        assertTrue(options.isCommandLatencyMBeansEnabled());
 
         assertEquals(5, options.getServerSettings().getHeartbeatFrequency(MILLISECONDS));
         assertEquals(10, options.getServerSettings().getHeartbeatConnectRetryFrequency(MILLISECONDS));
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2008-2014 MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the 'License');
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an 'AS IS' BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb
+
+import spock.lang.Specification
+
+import java.util.concurrent.AbstractExecutorService
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+import static java.util.concurrent.TimeUnit.SECONDS
+
+class ParallelCursorsSpecification extends Specification {
+    def executor = Executors.newFixedThreadPool(3)
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
+    def 'forEach should apply the block to every document of every cursor and close the cursors'() {
+        given:
+        def cursors = [new ListCursor(0..<100), new ListCursor(100..<150), new ListCursor([])]
+        def seen = new ConcurrentLinkedQueue<Integer>()
+
+        when:
+        ParallelCursors.forEach(cursors, executor, { DBObject document -> seen.add(document.get('_id')) } as Block<DBObject>)
+
+        then:
+        seen.sort() == (0..<150).toList()
+        cursors.every { it.closed }
+    }
+
+    def 'forEach should rethrow the first failure and close every cursor'() {
+        given:
+        def cursors = [new ListCursor(0..<10000), new ListCursor(0..<10000, 5)]
+
+        when:
+        ParallelCursors.forEach(cursors, executor, { DBObject document -> } as Block<DBObject>)
+
+        then:
+        def e = thrown(MongoException)
+        e.message == 'failed'
+        cursors.every { it.closed }
+    }
+
+    def 'merge should return every document of every cursor'() {
+        given:
+        def cursors = [new ListCursor(0..<100), new ListCursor(100..<200), new ListCursor(200..<210)]
+
+        when:
+        def merged = ParallelCursors.merge(cursors, executor, 4)
+        def ids = merged.collect { it.get('_id') }
+
+        then:
+        ids.sort() == (0..<210).toList()
+        !merged.hasNext()
+        merged.getCursorId() == 0
+    }
+
+    def 'merge should rethrow a cursor failure from the merged cursor'() {
+        given:
+        def cursors = [new ListCursor(0..<100), new ListCursor(0..<100, 50)]
+        def merged = ParallelCursors.merge(cursors, executor, 4)
+
+        when:
+        while (merged.hasNext()) {
+            merged.next()
+        }
+
+        then:
+        thrown(MongoException)
+    }
+
+    def 'closing the merged cursor should stop and close the drained cursors'() {
+        given:
+        def cursors = [new ListCursor(0..<100000), new ListCursor(0..<100000)]
+        def merged = ParallelCursors.merge(cursors, executor, 2)
+
+        when:
+        merged.next()
+        merged.close()
+        executor.shutdown()
+        executor.awaitTermination(10, SECONDS)
+
+        then:
+        !merged.hasNext()
+        cursors.every { it.closed }
+    }
+
+    def 'merge should not block when the executor rejects the last cursor while the buffer is full'() {
+        given:
+        def cursors = [new ListCursor([1]), new ListCursor([2])]
+
+        when:
+        def merged = ParallelCursors.merge(cursors, new RunFirstThenRejectExecutor(), 1)
+        merged.hasNext()
+
+        then:
+        thrown(RejectedExecutionException)
+        cursors.every { it.closed }
+    }
+
+    static class RunFirstThenRejectExecutor extends AbstractExecutorService {
+        private boolean ranFirst
+
+        @Override
+        void execute(final Runnable command) {
+            if (ranFirst) {
+                throw new RejectedExecutionException()
+            }
+            ranFirst = true
+            command.run()
+        }
+
+        @Override
+        void shutdown() {
+        }
+
+        @Override
+        List<Runnable> shutdownNow() {
+            []
+        }
+
+        @Override
+        boolean isShutdown() {
+            false
+        }
+
+        @Override
+        boolean isTerminated() {
+            false
+        }
+
+        @Override
+        boolean awaitTermination(final long timeout, final TimeUnit unit) {
+            true
+        }
+    }
+
+    static class ListCursor implements Cursor {
+        private final Iterator<Integer> iterator
+        private final int failAt
+        private int position
+        volatile boolean closed
+
+        ListCursor(final List<Integer> ids, final int failAt = -1) {
+            this.iterator = ids.iterator()
+            this.failAt = failAt
+        }
+
+        @Override
+        long getCursorId() {
+            42
+        }
+
+        @Override
+        ServerAddress getServerAddress() {
+            new ServerAddress()
+        }
+
+        @Override
+        void close() {
+            closed = true
+        }
+
+        @Override
+        boolean hasNext() {
+            iterator.hasNext()
+        }
+
+        @Override
+        DBObject next() {
+            if (position++ == failAt) {
+                throw new MongoException('failed')
+            }
+            new BasicDBObject('_id', iterator.next())
+        }
+
+        @Override
+        void remove() {
+            throw new UnsupportedOperationException()
+        }
+    }
+}
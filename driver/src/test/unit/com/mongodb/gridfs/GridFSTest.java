@@ -24,10 +24,14 @@ import org.bson.types.ObjectId;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.nio.charset.Charset.defaultCharset;
 import static org.junit.Assert.assertArrayEquals;
@@ -225,6 +229,123 @@ public class GridFSTest extends DatabaseTestCase {
         assertEquals(-1, inputStream.read());
     }
 
+    @Test
+    public void testInputStreamReadAhead() throws Exception {
+        int chunkSize = 1024;
+        byte[] fileBytes = createFileBytes((int) (9.5 * chunkSize));
+
+        GridFSInputFile inputFile = gridFS.createFile(fileBytes);
+        inputFile.setFilename("input_stream_read_ahead.bin");
+        inputFile.save(chunkSize);
+
+        GridFSDBFile savedFile = gridFS.findOne(new BasicDBObject("_id", inputFile.getId()));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            InputStream inputStream = savedFile.getInputStream(2, 3, executor);
+            try {
+                assertArrayEquals(fileBytes, readFully(inputStream));
+            } finally {
+                inputStream.close();
+            }
+
+            inputStream = savedFile.getInputStream(2, 3, executor);
+            try {
+                assertEquals(4 * chunkSize + 10, inputStream.skip(4 * chunkSize + 10));
+                assertEquals(fileBytes[4 * chunkSize + 10], (byte) inputStream.read());
+            } finally {
+                inputStream.close();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInputStreamAcceptsChunkNumbersOfAnyNumericType() throws Exception {
+        int chunkSize = 1024;
+        byte[] fileBytes = createFileBytes((int) (2.5 * chunkSize));
+
+        GridFSInputFile inputFile = gridFS.createFile(fileBytes);
+        inputFile.setFilename("numeric_chunk_numbers.bin");
+        inputFile.save(chunkSize);
+        gridFS.getChunksCollection().update(new BasicDBObject("files_id", inputFile.getId()).append("n", 1),
+                                            new BasicDBObject("$set", new BasicDBObject("n", 1L)));
+        gridFS.getChunksCollection().update(new BasicDBObject("files_id", inputFile.getId()).append("n", 2),
+                                            new BasicDBObject("$set", new BasicDBObject("n", 2.0)));
+
+        GridFSDBFile savedFile = gridFS.findOne(new BasicDBObject("_id", inputFile.getId()));
+        InputStream inputStream = savedFile.getInputStream();
+        try {
+            assertArrayEquals(fileBytes, readFully(inputStream));
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    @Test
+    public void testWriteToRange() throws Exception {
+        int chunkSize = 1024;
+        byte[] fileBytes = createFileBytes((int) (5.5 * chunkSize));
+
+        GridFSInputFile inputFile = gridFS.createFile(fileBytes);
+        inputFile.setFilename("write_to_range.bin");
+        inputFile.save(chunkSize);
+
+        GridFSDBFile savedFile = gridFS.findOne(new BasicDBObject("_id", inputFile.getId()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2 * chunkSize, savedFile.writeTo(out, chunkSize - 1, 2 * chunkSize));
+        assertArrayEquals(Arrays.copyOfRange(fileBytes, chunkSize - 1, 3 * chunkSize - 1), out.toByteArray());
+
+        out = new ByteArrayOutputStream();
+        assertEquals(chunkSize / 2, savedFile.writeTo(out, 5 * chunkSize, 10 * chunkSize));
+        assertArrayEquals(Arrays.copyOfRange(fileBytes, 5 * chunkSize, fileBytes.length), out.toByteArray());
+
+        out = new ByteArrayOutputStream();
+        assertEquals(0, savedFile.writeTo(out, fileBytes.length, 10));
+    }
+
+    @Test
+    public void testParallelSave() throws Exception {
+        int chunkSize = 1024;
+        byte[] fileBytes = createFileBytes((int) (10.5 * chunkSize));
+
+        GridFSInputFile serialFile = gridFS.createFile(fileBytes);
+        serialFile.save(chunkSize);
+
+        GridFSInputFile parallelFile = gridFS.createFile(new ByteArrayInputStream(fileBytes), "parallel_save.bin");
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            parallelFile.save(chunkSize, 2, 3, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(11, gridFS.getChunksCollection().count(new BasicDBObject("files_id", parallelFile.getId())));
+        GridFSDBFile savedFile = gridFS.findOne(new BasicDBObject("_id", parallelFile.getId()));
+        assertEquals(fileBytes.length, savedFile.getLength());
+        assertEquals(serialFile.getMD5(), savedFile.getMD5());
+        assertArrayEquals(fileBytes, readFully(savedFile.getInputStream()));
+    }
+
+    private byte[] createFileBytes(final int fileSize) {
+        byte[] fileBytes = new byte[fileSize];
+        for (int idx = 0; idx < fileSize; ++idx) {
+            fileBytes[idx] = (byte) (idx % 251);
+        }
+        return fileBytes;
+    }
+
+    private byte[] readFully(final InputStream inputStream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[700];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
     @Test
     public void testCustomFileID() throws IOException {
         int chunkSize = 10;
@@ -97,6 +97,53 @@ class LazyBSONObjectSpecification extends Specification {
         document.get('o') instanceof LazyBSONObject
     }
 
+    def 'should share the bytes of the parent with nested items'() {
+        given:
+        byte[] bytes = [
+                53, 0, 0, 0, 4, 97, 0, 26, 0, 0, 0, 16, 48, 0, 1, 0, 0, 0, 16, 49, 0, 2, 0, 0, 0, 16, 50, 0,
+                3, 0, 0, 0, 0, 3, 111, 0, 16, 0, 0, 0, 1, 122, 0, -102, -103, -103, -103, -103, -103, -71, 63, 0, 0
+        ];
+
+        when:
+        LazyBSONObject document = new LazyBSONObject(bytes, new LazyBSONCallback())
+
+        then:
+        document.get('a').bytes.is(bytes)
+        document.get('a').size() == 3
+        document.get('a').get(2) == 3
+        document.get('o').bytes.is(bytes)
+        document.get('o').get('z') == 0.1d
+    }
+
+    def 'should find any field of a wide document'() {
+        given:
+        def source = new BasicDBObject()
+        (0..<200).each { source.put('field' + it, it) }
+        source.put('nested', new BasicDBObject('x', 'y'))
+
+        when:
+        LazyBSONObject document = new LazyBSONObject(BSON.encode(source), new LazyBSONCallback())
+
+        then:
+        (199..0).every { document.get('field' + it) == it && document.containsField('field' + it) }
+        document.get('nested').get('x') == 'y'
+        !document.containsField('field200')
+        document.get('field200') == null
+        document.keySet().size() == 201
+    }
+
+    def 'should find the first of fields with the same name'() {
+        given:
+        byte[] bytes = [19, 0, 0, 0, 16, 97, 0, 1, 0, 0, 0, 16, 97, 0, 2, 0, 0, 0, 0]
+
+        when:
+        LazyBSONObject document = new LazyBSONObject(bytes, new LazyBSONCallback())
+
+        then:
+        document.get('a') == 1
+        document.keySet() == ['a'] as Set
+    }
+
     def 'should not understand DBRefs'() {
         given:
         byte[] bytes = [